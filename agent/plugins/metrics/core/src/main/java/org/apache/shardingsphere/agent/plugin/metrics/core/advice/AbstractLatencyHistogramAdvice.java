@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.api.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.lang.reflect.Method;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Abstract latency histogram advice.
+ * 
+ * <p>Latency is measured by nano time and observed in fractional millis.
+ * Start times are kept in a stack of current thread, so re-entrant invocations of the advised method are observed separately.</p>
+ */
+public abstract class AbstractLatencyHistogramAdvice implements InstanceMethodAdvice {
+    
+    private final ThreadLocal<Deque<Long>> startNanoTimes = ThreadLocal.withInitial(LinkedList::new);
+    
+    protected static Map<String, Object> getExponentialBuckets(final double start, final int count) {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", start);
+        result.put("factor", 2);
+        result.put("count", count);
+        return result;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final String pluginType) {
+        startNanoTimes.get().push(System.nanoTime());
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
+        Deque<Long> startTimes = startNanoTimes.get();
+        if (startTimes.isEmpty()) {
+            startNanoTimes.remove();
+            return;
+        }
+        long startTime = startTimes.pop();
+        if (startTimes.isEmpty()) {
+            startNanoTimes.remove();
+        }
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(getConfiguration(), pluginType).observe((System.nanoTime() - startTime) / 1000000D, getLabel(args));
+    }
+    
+    protected abstract MetricConfiguration getConfiguration();
+    
+    protected abstract String getLabel(Object[] args);
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Collections;
+
+/**
+ * Abstract SQL stage latency histogram advice.
+ * 
+ * <p>Kernel stages usually finish in less than one milli, so buckets start from 0.01 milli.</p>
+ */
+public abstract class AbstractSQLStageLatencyHistogramAdvice extends AbstractLatencyHistogramAdvice {
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_stage_latency_millis", MetricCollectorType.HISTOGRAM,
+            "Latency millis histogram of SQL kernel stages", Collections.singletonList("stage"), Collections.singletonMap("buckets", getExponentialBuckets(0.01D, 20)));
+    
+    @Override
+    protected MetricConfiguration getConfiguration() {
+        return config;
+    }
+    
+    @Override
+    protected String getLabel(final Object[] args) {
+        return getStage();
+    }
+    
+    protected abstract String getStage();
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+import java.util.Collections;
+
+/**
+ * Storage unit execute latency histogram advice.
+ */
+public final class StorageUnitExecuteLatencyHistogramAdvice extends AbstractLatencyHistogramAdvice {
+    
+    private final MetricConfiguration config = new MetricConfiguration("storage_unit_execute_latency_millis", MetricCollectorType.HISTOGRAM,
+            "Execute latency millis histogram of storage units", Collections.singletonList("storage_unit"), Collections.singletonMap("buckets", getExponentialBuckets(0.1D, 18)));
+    
+    @Override
+    protected MetricConfiguration getConfiguration() {
+        return config;
+    }
+    
+    @Override
+    protected String getLabel(final Object[] args) {
+        return ((JDBCExecutionUnit) args[0]).getExecutionUnit().getDataSourceName();
+    }
+}
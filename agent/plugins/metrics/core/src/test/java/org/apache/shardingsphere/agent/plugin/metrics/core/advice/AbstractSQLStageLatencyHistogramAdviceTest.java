@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.Mockito.mock;
+
+class AbstractSQLStageLatencyHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_stage_latency_millis", MetricCollectorType.HISTOGRAM, null, Collections.singletonList("stage"));
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertObserveStageLatency() {
+        SQLParseLatencyHistogramAdvice advice = new SQLParseLatencyHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        Method method = mock(Method.class);
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        Awaitility.await().pollDelay(20L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.afterMethod(targetObject, method, new Object[]{}, null, "FIXTURE");
+        String actual = MetricsCollectorRegistry.get(config, "FIXTURE").toString();
+        assertThat(actual, startsWith("parse="));
+        assertThat(Double.parseDouble(actual.substring("parse=".length())), greaterThanOrEqualTo(20D));
+    }
+    
+    @Test
+    void assertObserveStageLatencyWithLabels() {
+        observe(new SQLBindLatencyHistogramAdvice());
+        observe(new SQLRouteLatencyHistogramAdvice());
+        observe(new SQLRewriteLatencyHistogramAdvice());
+        observe(new SQLMergeLatencyHistogramAdvice());
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), matchesPattern("bind=\\d+, route=\\d+, rewrite=\\d+, merge=\\d+"));
+    }
+    
+    @Test
+    void assertNotObserveWithoutBeforeMethod() {
+        new SQLRouteLatencyHistogramAdvice().afterMethod(new TargetAdviceObjectFixture(), mock(Method.class), new Object[]{}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("0"));
+    }
+    
+    private void observe(final AbstractSQLStageLatencyHistogramAdvice advice) {
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        Method method = mock(Method.class);
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        advice.afterMethod(targetObject, method, new Object[]{}, null, "FIXTURE");
+    }
+}
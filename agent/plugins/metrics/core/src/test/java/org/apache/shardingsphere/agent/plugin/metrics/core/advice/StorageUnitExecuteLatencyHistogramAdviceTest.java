@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.Mockito.mock;
+
+class StorageUnitExecuteLatencyHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("storage_unit_execute_latency_millis", MetricCollectorType.HISTOGRAM, null, Collections.singletonList("storage_unit"));
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertObserveWithStorageUnit() {
+        StorageUnitExecuteLatencyHistogramAdvice advice = new StorageUnitExecuteLatencyHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        Method method = mock(Method.class);
+        Object[] args = createArguments("foo_ds");
+        advice.beforeMethod(targetObject, method, args, "FIXTURE");
+        advice.afterMethod(targetObject, method, args, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), matchesPattern("foo_ds=\\d+"));
+    }
+    
+    @Test
+    void assertObserveWithReentrantInvocation() {
+        StorageUnitExecuteLatencyHistogramAdvice advice = new StorageUnitExecuteLatencyHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        Method method = mock(Method.class);
+        Object[] outerArgs = createArguments("foo_ds");
+        Object[] innerArgs = createArguments("bar_ds");
+        advice.beforeMethod(targetObject, method, outerArgs, "FIXTURE");
+        Awaitility.await().pollDelay(20L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.beforeMethod(targetObject, method, innerArgs, "FIXTURE");
+        advice.afterMethod(targetObject, method, innerArgs, null, "FIXTURE");
+        advice.afterMethod(targetObject, method, outerArgs, null, "FIXTURE");
+        String actual = MetricsCollectorRegistry.get(config, "FIXTURE").toString();
+        assertThat(actual, matchesPattern("bar_ds=\\d+, foo_ds=\\d+"));
+        assertThat(Integer.parseInt(actual.substring(actual.indexOf("foo_ds=") + "foo_ds=".length())), greaterThanOrEqualTo(20));
+    }
+    
+    private Object[] createArguments(final String storageUnitName) {
+        return new Object[]{new JDBCExecutionUnit(new ExecutionUnit(storageUnitName, new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class)), true};
+    }
+}
@@ -62,6 +62,11 @@ public final class MetricsCollectorFixture implements CounterMetricsCollector, G
         this.value = (int) value;
     }
     
+    @Override
+    public void observe(final double value, final String... labels) {
+        labeledValues.put(String.join(".", labels), (int) value);
+    }
+    
     @Override
     public void addMetric(final List<String> labelValues, final double value) {
         for (String each : labelValues) {
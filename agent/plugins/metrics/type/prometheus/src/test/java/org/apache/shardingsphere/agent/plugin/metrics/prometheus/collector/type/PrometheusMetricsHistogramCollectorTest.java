@@ -38,4 +38,15 @@ class PrometheusMetricsHistogramCollectorTest {
         Histogram histogram = (Histogram) Plugins.getMemberAccessor().get(PrometheusMetricsHistogramCollector.class.getDeclaredField("histogram"), collector);
         assertThat(histogram.collect().size(), is(1));
     }
+    
+    @Test
+    void assertObserveWithLabels() throws ReflectiveOperationException {
+        PrometheusMetricsHistogramCollector collector = new PrometheusMetricsHistogramCollector(new MetricConfiguration("foo_labeled_histogram",
+                MetricCollectorType.HISTOGRAM, "foo_help", Collections.singletonList("stage"), Collections.emptyMap()));
+        collector.observe(1, "parse");
+        collector.observe(2, "route");
+        Histogram histogram = (Histogram) Plugins.getMemberAccessor().get(PrometheusMetricsHistogramCollector.class.getDeclaredField("histogram"), collector);
+        assertThat(histogram.labels("parse").get().sum, is(1D));
+        assertThat(histogram.labels("route").get().sum, is(2D));
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decimal digits utility class, which writes text of integral values into byte buffer without creating strings.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DecimalDigitsUtils {
+    
+    private static final int MAX_LONG_DIGITS_LENGTH = 19;
+    
+    /**
+     * Get length of decimal text of value.
+     *
+     * @param value value
+     * @return length of decimal text
+     */
+    public static int getLength(final long value) {
+        if (value >= 0L) {
+            return getUnsignedLength(value);
+        }
+        return Long.MIN_VALUE == value ? MAX_LONG_DIGITS_LENGTH + 1 : getUnsignedLength(-value) + 1;
+    }
+    
+    private static int getUnsignedLength(final long value) {
+        long bound = 10L;
+        for (int result = 1; result < MAX_LONG_DIGITS_LENGTH; result++) {
+            if (value < bound) {
+                return result;
+            }
+            bound *= 10L;
+        }
+        return MAX_LONG_DIGITS_LENGTH;
+    }
+    
+    /**
+     * Write decimal text of value, which is the same as ASCII bytes of {@link Long#toString(long)}.
+     *
+     * @param byteBuf byte buffer
+     * @param value value
+     */
+    public static void write(final ByteBuf byteBuf, final long value) {
+        if (Long.MIN_VALUE == value) {
+            byteBuf.writeCharSequence(Long.toString(value), StandardCharsets.US_ASCII);
+            return;
+        }
+        if (value < 0L) {
+            byteBuf.writeByte('-');
+            writeZeroPadded(byteBuf, -value, getUnsignedLength(-value));
+            return;
+        }
+        writeZeroPadded(byteBuf, value, getUnsignedLength(value));
+    }
+    
+    /**
+     * Write decimal text of non-negative value, left padded with zeros to width.
+     *
+     * @param byteBuf byte buffer
+     * @param value non-negative value
+     * @param width width of text, high digits of value are truncated if value is wider
+     */
+    public static void writeZeroPadded(final ByteBuf byteBuf, final long value, final int width) {
+        byteBuf.ensureWritable(width);
+        int startIndex = byteBuf.writerIndex();
+        long remaining = value;
+        for (int index = startIndex + width - 1; index >= startIndex; index--) {
+            byteBuf.setByte(index, '0' + (int) (remaining % 10L));
+            remaining /= 10L;
+        }
+        byteBuf.writerIndex(startIndex + width);
+    }
+}
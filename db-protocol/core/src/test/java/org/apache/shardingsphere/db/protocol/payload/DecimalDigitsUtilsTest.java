@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DecimalDigitsUtilsTest {
+    
+    @Test
+    void assertWrite() {
+        for (long each : new long[]{0L, 7L, -7L, 10L, 99L, -100L, 1234567890L, 999999999999999999L, 1000000000000000000L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            ByteBuf byteBuf = Unpooled.buffer(1);
+            DecimalDigitsUtils.write(byteBuf, each);
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is(Long.toString(each)));
+            assertThat(DecimalDigitsUtils.getLength(each), is(Long.toString(each).length()));
+        }
+    }
+    
+    @Test
+    void assertWriteZeroPadded() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        DecimalDigitsUtils.writeZeroPadded(byteBuf, 7L, 4);
+        DecimalDigitsUtils.writeZeroPadded(byteBuf, 12L, 2);
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("000712"));
+    }
+}
@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowsPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -87,6 +88,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof MySQLTextResultSetRowsPacket) {
+            writeRowsPacket(context, ((MySQLTextResultSetRowsPacket) message).getByteBuf());
+            return;
+        }
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -130,6 +135,16 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         context.write(result);
     }
     
+    private void writeRowsPacket(final ChannelHandlerContext context, final ByteBuf rows) {
+        AtomicInteger sequenceId = context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get();
+        int index = rows.readerIndex();
+        while (index < rows.writerIndex()) {
+            rows.setByte(index + PAYLOAD_LENGTH, sequenceId.getAndIncrement());
+            index += PAYLOAD_LENGTH + SEQUENCE_LENGTH + rows.getUnsignedMediumLE(index);
+        }
+        context.write(rows);
+    }
+    
     @Override
     public MySQLPacketPayload createPacketPayload(final ByteBuf message, final Charset charset) {
         return new MySQLPacketPayload(message, charset);
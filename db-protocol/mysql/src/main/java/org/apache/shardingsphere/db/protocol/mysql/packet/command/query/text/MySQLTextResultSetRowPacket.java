@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.payload.DecimalDigitsUtils;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -42,6 +46,12 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    private static final int DATE_TIME_LENGTH = 19;
+    
+    private static final int MIN_FORMATTED_YEAR = 1;
+    
+    private static final int MAX_FORMATTED_YEAR = 9999;
+    
     private final Collection<Object> data;
     
     public MySQLTextResultSetRowPacket(final MySQLPacketPayload payload, final int columnCount) {
@@ -54,27 +64,75 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     @Override
     protected void write(final MySQLPacketPayload payload) {
         for (Object each : data) {
-            if (null == each) {
-                payload.writeInt1(NULL);
-                continue;
-            }
-            writeDataIntoPayload(payload, each);
+            writeValue(payload, each);
         }
     }
     
-    private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
+    static void writeValue(final MySQLPacketPayload payload, final Object data) {
+        if (null == data) {
+            payload.writeInt1(NULL);
+        } else if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
+        } else if (data instanceof String) {
+            writeString(payload, (String) data);
+        } else if (data instanceof Integer || data instanceof Long || data instanceof Short || data instanceof Byte) {
+            long value = ((Number) data).longValue();
+            payload.writeIntLenenc(DecimalDigitsUtils.getLength(value));
+            DecimalDigitsUtils.write(payload.getByteBuf(), value);
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
-            payload.writeStringLenenc(data.toString().split("\\.")[0]);
+            writeTimestamp(payload, (Timestamp) data);
         } else if (data instanceof BigDecimal) {
             payload.writeStringLenenc(((BigDecimal) data).toPlainString());
         } else if (data instanceof Boolean) {
-            payload.writeBytesLenenc((boolean) data ? new byte[]{1} : new byte[]{0});
+            payload.writeInt1(1);
+            payload.writeInt1((boolean) data ? 1 : 0);
         } else if (data instanceof LocalDateTime) {
-            payload.writeStringLenenc(DATE_TIME_FORMATTER.format((LocalDateTime) data));
+            writeLocalDateTime(payload, (LocalDateTime) data);
         } else {
             payload.writeStringLenenc(data.toString());
         }
     }
+    
+    private static void writeString(final MySQLPacketPayload payload, final String value) {
+        if (!StandardCharsets.UTF_8.equals(payload.getCharset())) {
+            payload.writeStringLenenc(value);
+            return;
+        }
+        payload.writeIntLenenc(ByteBufUtil.utf8Bytes(value));
+        ByteBufUtil.writeUtf8(payload.getByteBuf(), value);
+    }
+    
+    @SuppressWarnings("deprecation")
+    private static void writeTimestamp(final MySQLPacketPayload payload, final Timestamp value) {
+        int year = value.getYear() + 1900;
+        if (year < MIN_FORMATTED_YEAR || year > MAX_FORMATTED_YEAR) {
+            payload.writeStringLenenc(value.toString().split("\\.")[0]);
+            return;
+        }
+        writeDateTime(payload, year, value.getMonth() + 1, value.getDate(), value.getHours(), value.getMinutes(), value.getSeconds());
+    }
+    
+    private static void writeLocalDateTime(final MySQLPacketPayload payload, final LocalDateTime value) {
+        if (value.getYear() < MIN_FORMATTED_YEAR || value.getYear() > MAX_FORMATTED_YEAR) {
+            payload.writeStringLenenc(DATE_TIME_FORMATTER.format(value));
+            return;
+        }
+        writeDateTime(payload, value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(), value.getMinute(), value.getSecond());
+    }
+    
+    private static void writeDateTime(final MySQLPacketPayload payload, final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        payload.writeIntLenenc(DATE_TIME_LENGTH);
+        DecimalDigitsUtils.writeZeroPadded(byteBuf, year, 4);
+        byteBuf.writeByte('-');
+        DecimalDigitsUtils.writeZeroPadded(byteBuf, month, 2);
+        byteBuf.writeByte('-');
+        DecimalDigitsUtils.writeZeroPadded(byteBuf, day, 2);
+        byteBuf.writeByte(' ');
+        DecimalDigitsUtils.writeZeroPadded(byteBuf, hour, 2);
+        byteBuf.writeByte(':');
+        DecimalDigitsUtils.writeZeroPadded(byteBuf, minute, 2);
+        byteBuf.writeByte(':');
+        DecimalDigitsUtils.writeZeroPadded(byteBuf, second, 2);
+    }
 }
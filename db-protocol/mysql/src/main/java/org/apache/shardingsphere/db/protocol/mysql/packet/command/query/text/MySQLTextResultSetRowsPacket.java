@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+
+import java.nio.charset.Charset;
+
+/**
+ * Text result set rows packet for MySQL.
+ *
+ * <p>Values of rows are encoded into one byte buffer directly, each row is framed as complete packets (rows exceeding max payload length
+ * are split as MySQL protocol requires), and sequence IDs of the packets are assigned by codec when the rows packet is written into channel.</p>
+ *
+ * @see MySQLTextResultSetRowPacket
+ */
+public final class MySQLTextResultSetRowsPacket extends MySQLPacket {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = 4;
+    
+    private final MySQLPacketPayload payload;
+    
+    @Getter
+    private int rowCount;
+    
+    private int rowStartIndex;
+    
+    public MySQLTextResultSetRowsPacket(final ByteBuf byteBuf, final Charset charset) {
+        payload = new MySQLPacketPayload(byteBuf, charset);
+    }
+    
+    /**
+     * Start row.
+     */
+    public void startRow() {
+        rowStartIndex = payload.getByteBuf().writerIndex();
+        payload.getByteBuf().writeInt(0);
+    }
+    
+    /**
+     * Write value of current row.
+     *
+     * @param value value
+     */
+    public void writeValue(final Object value) {
+        MySQLTextResultSetRowPacket.writeValue(payload, value);
+    }
+    
+    /**
+     * Write whole row packet which is not encoded by values of text result set row, such as binary result set row.
+     *
+     * @param rowPacket row packet
+     */
+    public void writeRowPacket(final MySQLPacket rowPacket) {
+        startRow();
+        rowPacket.write((PacketPayload) payload);
+        endRow();
+    }
+    
+    /**
+     * End row.
+     */
+    public void endRow() {
+        ByteBuf byteBuf = payload.getByteBuf();
+        int payloadLength = byteBuf.writerIndex() - rowStartIndex - HEADER_LENGTH;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            byteBuf.setMediumLE(rowStartIndex, payloadLength);
+        } else {
+            splitRow(byteBuf, payloadLength);
+        }
+        rowCount++;
+    }
+    
+    private void splitRow(final ByteBuf byteBuf, final int payloadLength) {
+        ByteBuf rowPayload = byteBuf.alloc().buffer(payloadLength);
+        try {
+            rowPayload.writeBytes(byteBuf, rowStartIndex + HEADER_LENGTH, payloadLength);
+            byteBuf.writerIndex(rowStartIndex);
+            int packetLength;
+            do {
+                packetLength = Math.min(rowPayload.readableBytes(), MAX_PAYLOAD_LENGTH);
+                byteBuf.writeMediumLE(packetLength);
+                byteBuf.writeByte(0);
+                byteBuf.writeBytes(rowPayload, packetLength);
+            } while (MAX_PAYLOAD_LENGTH == packetLength);
+        } finally {
+            rowPayload.release();
+        }
+    }
+    
+    /**
+     * Get byte buffer of encoded rows.
+     *
+     * @return byte buffer of encoded rows
+     */
+    public ByteBuf getByteBuf() {
+        return payload.getByteBuf();
+    }
+    
+    /**
+     * Get readable bytes of encoded rows.
+     *
+     * @return readable bytes
+     */
+    public int getReadableBytes() {
+        return payload.getByteBuf().readableBytes();
+    }
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(this.payload.getByteBuf());
+    }
+}
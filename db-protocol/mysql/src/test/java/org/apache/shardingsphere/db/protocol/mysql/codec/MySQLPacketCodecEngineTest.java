@@ -25,6 +25,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowsPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -160,6 +161,29 @@ class MySQLPacketCodecEngineTest {
         assertThat(expected.component(4).getUnsignedByte(3), is((short) 2));
     }
     
+    @Test
+    void assertEncodeRowsPacket() {
+        when(context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get()).thenReturn(new AtomicInteger(2));
+        MySQLTextResultSetRowsPacket rowsPacket = new MySQLTextResultSetRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        rowsPacket.startRow();
+        rowsPacket.writeValue("foo");
+        rowsPacket.endRow();
+        rowsPacket.startRow();
+        rowsPacket.writeValue(1);
+        rowsPacket.writeValue(null);
+        rowsPacket.endRow();
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, rowsPacket, out);
+        verify(context).write(rowsPacket.getByteBuf());
+        assertFalse(out.isReadable());
+        ByteBuf actual = rowsPacket.getByteBuf();
+        assertThat(actual.getUnsignedMediumLE(0), is(4));
+        assertThat(actual.getUnsignedByte(3), is((short) 2));
+        assertThat(actual.getUnsignedMediumLE(8), is(3));
+        assertThat(actual.getUnsignedByte(11), is((short) 3));
+        assertThat(actual.readableBytes(), is(15));
+    }
+    
     private ByteBuf prepareByteBufAlmost32MB() {
         int max = 0xFFFFFF << 1;
         ByteBuf result = Unpooled.buffer(max + 4);
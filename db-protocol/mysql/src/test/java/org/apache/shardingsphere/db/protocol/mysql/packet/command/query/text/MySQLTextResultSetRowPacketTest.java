@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,12 +26,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,37 +56,67 @@ class MySQLTextResultSetRowPacketTest {
     void assertWrite() {
         long now = System.currentTimeMillis();
         Timestamp timestamp = new Timestamp(now);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeInt1(0xfb);
+        expected.writeStringLenenc("value");
+        expected.writeStringLenenc("1");
+        expected.writeBytesLenenc(new byte[]{});
+        expected.writeStringLenenc(0 == timestamp.getNanos() ? timestamp.toString().split("\\.")[0] : timestamp.toString());
+        expected.writeBytesLenenc(new byte[]{1});
         MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp, Boolean.TRUE));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        if (0 == timestamp.getNanos()) {
-            verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
-        } else {
-            verify(payload).writeStringLenenc(timestamp.toString());
-        }
-        verify(payload).writeBytesLenenc(new byte[]{1});
+        assertEncoded(actual, expected);
     }
     
     @Test
     void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000 * 1000;
         Timestamp timestamp = new Timestamp(now);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeInt1(0xfb);
+        expected.writeStringLenenc("value");
+        expected.writeStringLenenc("1");
+        expected.writeBytesLenenc(new byte[]{});
+        expected.writeStringLenenc(timestamp.toString().split("\\.")[0]);
         MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
+        assertEncoded(actual, expected);
     }
     
     @Test
     void assertLocalDateTime() {
         String localDateTimeStr = "2021-08-23T17:30:30";
         LocalDateTime dateTime = LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
+        MySQLPacketPayload expected = createPayload();
+        expected.writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(dateTime));
         MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Collections.singletonList(dateTime));
-        actual.write(payload);
-        verify(payload).writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
+        assertEncoded(actual, expected);
+    }
+    
+    @Test
+    void assertWriteIntegralAndMultiBytesString() {
+        MySQLPacketPayload expected = createPayload();
+        for (String each : Arrays.asList("0", "-1", String.valueOf(Long.MAX_VALUE), String.valueOf(Long.MIN_VALUE), "12", "-3", "中文", "")) {
+            expected.writeStringLenenc(each);
+        }
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(0, -1, Long.MAX_VALUE, Long.MIN_VALUE, (short) 12, (byte) -3, "中文", ""));
+        assertEncoded(actual, expected);
+    }
+    
+    @Test
+    void assertWriteLocalDateTimeOutOfFormattedYears() {
+        LocalDateTime dateTime = LocalDateTime.of(10000, 1, 2, 3, 4, 5);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(dateTime));
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Collections.singletonList(dateTime));
+        assertEncoded(actual, expected);
+    }
+    
+    private MySQLPacketPayload createPayload() {
+        return new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+    }
+    
+    private void assertEncoded(final MySQLTextResultSetRowPacket actual, final MySQLPacketPayload expected) {
+        ByteBuf actualByteBuf = Unpooled.buffer();
+        actual.write(new MySQLPacketPayload(actualByteBuf, StandardCharsets.UTF_8));
+        assertThat(actualByteBuf, is(expected.getByteBuf()));
     }
 }
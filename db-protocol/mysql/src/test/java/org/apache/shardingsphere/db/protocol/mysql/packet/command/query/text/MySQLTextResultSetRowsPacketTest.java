@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLTextResultSetRowsPacketTest {
+    
+    @Test
+    void assertWriteRows() {
+        List<Object> firstRow = Arrays.asList(1L, "foo", null, new BigDecimal("1.50"), Timestamp.valueOf("2023-10-01 12:34:56"), Boolean.FALSE);
+        List<Object> secondRow = Arrays.asList(-2, "", new byte[]{1, 2}, 3.5D);
+        MySQLTextResultSetRowsPacket actual = new MySQLTextResultSetRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        writeRow(actual, firstRow);
+        writeRow(actual, secondRow);
+        assertThat(actual.getRowCount(), is(2));
+        ByteBuf expected = Unpooled.buffer();
+        writeRowPacket(expected, firstRow);
+        writeRowPacket(expected, secondRow);
+        assertThat(actual.getReadableBytes(), is(expected.readableBytes()));
+        assertThat(actual.getByteBuf(), is(expected));
+    }
+    
+    @Test
+    void assertWriteRowPacket() {
+        List<Object> row = Arrays.asList(1L, "foo", null);
+        MySQLTextResultSetRowsPacket actual = new MySQLTextResultSetRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.writeRowPacket(new MySQLTextResultSetRowPacket(row));
+        assertThat(actual.getRowCount(), is(1));
+        ByteBuf expected = Unpooled.buffer();
+        writeRowPacket(expected, row);
+        assertThat(actual.getByteBuf(), is(expected));
+    }
+    
+    @Test
+    void assertWriteRowMoreThan16MB() {
+        byte[] value = new byte[0xFFFFFF];
+        MySQLTextResultSetRowsPacket actual = new MySQLTextResultSetRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        writeRow(actual, Collections.singletonList(value));
+        assertThat(actual.getRowCount(), is(1));
+        ByteBuf byteBuf = actual.getByteBuf();
+        assertThat(byteBuf.getUnsignedMediumLE(0), is(0xFFFFFF));
+        assertThat(byteBuf.getUnsignedByte(4), is((short) 0xfd));
+        assertThat(byteBuf.getUnsignedMediumLE(4 + 0xFFFFFF), is(4));
+        assertThat(byteBuf.readableBytes(), is(4 + 0xFFFFFF + 4 + 4));
+    }
+    
+    private void writeRow(final MySQLTextResultSetRowsPacket rowsPacket, final List<Object> row) {
+        rowsPacket.startRow();
+        for (Object each : row) {
+            rowsPacket.writeValue(each);
+        }
+        rowsPacket.endRow();
+    }
+    
+    private void writeRowPacket(final ByteBuf byteBuf, final List<Object> row) {
+        int startIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        new MySQLTextResultSetRowPacket(row).write(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        byteBuf.setMediumLE(startIndex, byteBuf.writerIndex() - startIndex - 4);
+    }
+}
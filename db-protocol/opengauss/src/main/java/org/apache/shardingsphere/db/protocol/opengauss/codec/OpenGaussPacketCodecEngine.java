@@ -28,6 +28,7 @@ import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLMessageSeverityLevel;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowsPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.infra.exception.postgresql.vendor.PostgreSQLVendorError;
@@ -107,6 +108,10 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof PostgreSQLDataRowsPacket) {
+            context.write(((PostgreSQLDataRowsPacket) message).getByteBuf());
+            return;
+        }
         boolean isIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
         if (isIdentifierPacket) {
             prepareMessageHeader(out, ((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.payload.DecimalDigitsUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -27,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.util.Collection;
@@ -63,12 +66,19 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         binaryProtocolValue.write(payload, value);
     }
     
-    private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
+    static void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
         if (null == each) {
             payload.writeInt4(0xFFFFFFFF);
         } else if (each instanceof byte[]) {
             payload.writeInt4(((byte[]) each).length);
             payload.writeBytes((byte[]) each);
+        } else if (each instanceof String && StandardCharsets.UTF_8.equals(payload.getCharset())) {
+            payload.writeInt4(ByteBufUtil.utf8Bytes((String) each));
+            ByteBufUtil.writeUtf8(payload.getByteBuf(), (String) each);
+        } else if (each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte) {
+            long value = ((Number) each).longValue();
+            payload.writeInt4(DecimalDigitsUtils.getLength(value));
+            DecimalDigitsUtils.write(payload.getByteBuf(), value);
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
         } else {
@@ -78,7 +88,7 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         }
     }
     
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
+    private static void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
             byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
             payload.writeInt4(dataBytes.length);
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.nio.charset.Charset;
+
+/**
+ * Data rows packet for PostgreSQL.
+ *
+ * <p>Text values of rows are encoded into one byte buffer directly, each row is framed as a complete message.</p>
+ *
+ * @see PostgreSQLDataRowPacket
+ */
+public final class PostgreSQLDataRowsPacket extends PostgreSQLPacket {
+    
+    private static final int MESSAGE_LENGTH_OFFSET = 1;
+    
+    private static final int COLUMN_COUNT_OFFSET = 5;
+    
+    private final PostgreSQLPacketPayload payload;
+    
+    @Getter
+    private int rowCount;
+    
+    private int rowStartIndex;
+    
+    private int columnCount;
+    
+    public PostgreSQLDataRowsPacket(final ByteBuf byteBuf, final Charset charset) {
+        payload = new PostgreSQLPacketPayload(byteBuf, charset);
+    }
+    
+    /**
+     * Start row.
+     */
+    public void startRow() {
+        ByteBuf byteBuf = payload.getByteBuf();
+        rowStartIndex = byteBuf.writerIndex();
+        byteBuf.writeByte(PostgreSQLMessagePacketType.DATA_ROW.getValue());
+        byteBuf.writeInt(0);
+        byteBuf.writeShort(0);
+        columnCount = 0;
+    }
+    
+    /**
+     * Write value of current row.
+     *
+     * @param value value
+     */
+    public void writeValue(final Object value) {
+        PostgreSQLDataRowPacket.writeTextValue(payload, value);
+        columnCount++;
+    }
+    
+    /**
+     * End row.
+     */
+    public void endRow() {
+        ByteBuf byteBuf = payload.getByteBuf();
+        byteBuf.setInt(rowStartIndex + MESSAGE_LENGTH_OFFSET, byteBuf.writerIndex() - rowStartIndex - MESSAGE_LENGTH_OFFSET);
+        byteBuf.setShort(rowStartIndex + COLUMN_COUNT_OFFSET, columnCount);
+        rowCount++;
+    }
+    
+    /**
+     * Write whole row packet which is not encoded by text values, row count is increased only if it is data row packet.
+     *
+     * @param rowPacket row packet
+     */
+    public void writeRowPacket(final PostgreSQLIdentifierPacket rowPacket) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        final int startIndex = byteBuf.writerIndex();
+        byteBuf.writeByte(rowPacket.getIdentifier().getValue());
+        byteBuf.writeInt(0);
+        rowPacket.write((PacketPayload) payload);
+        byteBuf.setInt(startIndex + MESSAGE_LENGTH_OFFSET, byteBuf.writerIndex() - startIndex - MESSAGE_LENGTH_OFFSET);
+        if (PostgreSQLMessagePacketType.DATA_ROW == rowPacket.getIdentifier()) {
+            rowCount++;
+        }
+    }
+    
+    /**
+     * Get byte buffer of encoded rows.
+     *
+     * @return byte buffer of encoded rows
+     */
+    public ByteBuf getByteBuf() {
+        return payload.getByteBuf();
+    }
+    
+    /**
+     * Get readable bytes of encoded rows.
+     *
+     * @return readable bytes
+     */
+    public int getReadableBytes() {
+        return payload.getByteBuf().readableBytes();
+    }
+    
+    @Override
+    protected void write(final PostgreSQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(this.payload.getByteBuf());
+    }
+}
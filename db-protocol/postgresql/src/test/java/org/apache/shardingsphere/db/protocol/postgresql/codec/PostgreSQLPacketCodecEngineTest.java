@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.db.protocol.postgresql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowsPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
@@ -45,6 +47,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -106,6 +109,17 @@ class PostgreSQLPacketCodecEngineTest {
         verify(byteBuf).setInt(1, 8);
     }
     
+    @Test
+    void assertEncodeDataRowsPacket() {
+        PostgreSQLDataRowsPacket packet = new PostgreSQLDataRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        packet.startRow();
+        packet.writeValue("foo");
+        packet.endRow();
+        new PostgreSQLPacketCodecEngine().encode(context, packet, byteBuf);
+        verify(context).write(packet.getByteBuf());
+        verifyNoInteractions(byteBuf);
+    }
+    
     @Test
     void assertEncodeOccursException() {
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
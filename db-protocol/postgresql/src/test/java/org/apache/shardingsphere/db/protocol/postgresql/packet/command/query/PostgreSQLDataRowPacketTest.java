@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -84,12 +87,23 @@ class PostgreSQLDataRowPacketTest {
     
     @Test
     void assertWriteWithString() {
-        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("value"));
-        assertThat(actual.getData(), is(Collections.singleton("value")));
-        actual.write(payload);
-        byte[] valueBytes = "value".getBytes(StandardCharsets.UTF_8);
-        verify(payload).writeInt4(valueBytes.length);
-        verify(payload).writeBytes(valueBytes);
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("value中"));
+        assertThat(actual.getData(), is(Collections.singleton("value中")));
+        ByteBuf byteBuf = Unpooled.buffer();
+        actual.write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        byte[] valueBytes = "value中".getBytes(StandardCharsets.UTF_8);
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(valueBytes.length));
+        assertThat(ByteBufUtil.getBytes(byteBuf), is(valueBytes));
+    }
+    
+    @Test
+    void assertWriteWithLong() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new PostgreSQLDataRowPacket(Collections.singleton(-1234567890123L)).write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(14));
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("-1234567890123"));
     }
     
     @Test
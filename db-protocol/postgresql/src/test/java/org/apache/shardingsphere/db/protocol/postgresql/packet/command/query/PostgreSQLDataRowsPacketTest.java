@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLDataRowsPacketTest {
+    
+    @Test
+    void assertWriteRows() {
+        List<Object> firstRow = Arrays.asList(1, "foo", null, new BigDecimal("1.50"));
+        List<Object> secondRow = Arrays.asList(-20L, "", new byte[]{1, 2});
+        PostgreSQLDataRowsPacket actual = new PostgreSQLDataRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        writeRow(actual, firstRow);
+        writeRow(actual, secondRow);
+        assertThat(actual.getRowCount(), is(2));
+        ByteBuf expected = Unpooled.buffer();
+        writeDataRowPacket(expected, firstRow);
+        writeDataRowPacket(expected, secondRow);
+        assertThat(actual.getReadableBytes(), is(expected.readableBytes()));
+        assertThat(actual.getByteBuf(), is(expected));
+    }
+    
+    @Test
+    void assertWriteRowPacket() {
+        List<Object> row = Arrays.asList(1, "foo", null);
+        PostgreSQLDataRowsPacket actual = new PostgreSQLDataRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.writeRowPacket(new PostgreSQLDataRowPacket(row));
+        assertThat(actual.getRowCount(), is(1));
+        ByteBuf expected = Unpooled.buffer();
+        writeDataRowPacket(expected, row);
+        assertThat(actual.getByteBuf(), is(expected));
+    }
+    
+    @Test
+    void assertWriteNonDataRowPacket() {
+        PostgreSQLDataRowsPacket actual = new PostgreSQLDataRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.writeRowPacket(new PostgreSQLEmptyQueryResponsePacket());
+        assertThat(actual.getRowCount(), is(0));
+        assertThat(actual.getReadableBytes(), is(5));
+        assertThat(actual.getByteBuf().getByte(0), is((byte) PostgreSQLMessagePacketType.EMPTY_QUERY_RESPONSE.getValue()));
+        assertThat(actual.getByteBuf().getInt(1), is(4));
+    }
+    
+    private void writeRow(final PostgreSQLDataRowsPacket rowsPacket, final List<Object> row) {
+        rowsPacket.startRow();
+        for (Object each : row) {
+            rowsPacket.writeValue(each);
+        }
+        rowsPacket.endRow();
+    }
+    
+    private void writeDataRowPacket(final ByteBuf byteBuf, final List<Object> row) {
+        final int startIndex = byteBuf.writerIndex();
+        byteBuf.writeByte(PostgreSQLMessagePacketType.DATA_ROW.getValue());
+        byteBuf.writeInt(0);
+        new PostgreSQLDataRowPacket(row).write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        byteBuf.setInt(startIndex + 1, byteBuf.writerIndex() - startIndex - 1);
+    }
+}
@@ -28,18 +28,17 @@ import org.apache.shardingsphere.encrypt.exception.algorithm.EncryptAlgorithmIni
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Properties;
 
 /**
  * AES encrypt algorithm.
+ * 
+ * <p>Initialized ciphers are cached per thread, since {@link Cipher} is not thread safe and resets itself after each {@code doFinal}.</p>
  */
 @EqualsAndHashCode
 public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm {
@@ -50,9 +49,18 @@ public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm {
     
     private byte[] secretKey;
     
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         secretKey = createSecretKey(props);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey, getType());
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKeySpec));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKeySpec));
     }
     
     private byte[] createSecretKey(final Properties props) {
@@ -69,7 +77,7 @@ public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
@@ -79,16 +87,26 @@ public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
+        byte[] result = doFinal(decryptCipher, Base64.getDecoder().decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final SecretKeySpec secretKeySpec) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, secretKeySpec);
         return result;
     }
     
+    private byte[] doFinal(final ThreadLocal<Cipher> cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
     @Override
     public String getType() {
         return "AES";
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
@@ -30,10 +33,14 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ * 
+ * <p>Decrypt plan of each column is resolved once per query, then every row only decrypts cipher values.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
@@ -46,6 +53,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<ColumnDecryptor>> columnDecryptors = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -53,20 +62,24 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<ColumnDecryptor> columnDecryptor = columnDecryptors.computeIfAbsent(columnIndex, this::findColumnDecryptor);
+        return columnDecryptor.isPresent() ? columnDecryptor.get().decrypt(mergedResult.getValue(columnIndex, Object.class)) : mergedResult.getValue(columnIndex, type);
+    }
+    
+    private Optional<ColumnDecryptor> findColumnDecryptor(final int columnIndex) {
         Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
         if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnProjection.get().getOriginalTable().getValue();
         String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
         if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
         String schemaName =
                 selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        return Optional.of(new ColumnDecryptor(encryptColumn.getCipher().getEncryptor(), EncryptContextBuilder.build(database.getName(), schemaName, originalTableName, originalColumnName)));
     }
     
     @Override
@@ -88,4 +101,21 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnDecryptor {
+        
+        private final StandardEncryptAlgorithm encryptor;
+        
+        private final EncryptContext encryptContext;
+        
+        Object decrypt(final Object cipherValue) {
+            return null == cipherValue ? null : encryptor.decrypt(cipherValue, encryptContext);
+        }
+    }
 }
@@ -29,13 +29,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -98,4 +106,27 @@ class AESEncryptAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
     }
+    
+    @Test
+    void assertDecryptAfterInvalidCipherValue() {
+        assertThrows(GeneralSecurityException.class, () -> encryptAlgorithm.decrypt("dSpPiyENQGDUXMKF", mock(EncryptContext.class)));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)).toString(), is("test"));
+    }
+    
+    @Test
+    void assertEncryptAndDecryptConcurrently() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<Boolean>> futures = new LinkedList<>();
+            for (int i = 0; i < 100; i++) {
+                String plainValue = "test_" + i;
+                futures.add(executorService.submit(() -> plainValue.equals(encryptAlgorithm.decrypt(encryptAlgorithm.encrypt(plainValue, mock(EncryptContext.class)), mock(EncryptContext.class)))));
+            }
+            for (Future<Boolean> each : futures) {
+                assertTrue(each.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
@@ -17,12 +17,19 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,11 +38,17 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +60,7 @@ class EncryptMergedResultTest {
     @Mock
     private EncryptRule encryptRule;
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private SelectStatementContext selectStatementContext;
     
     @Mock
@@ -58,6 +71,38 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutColumnProjection() throws SQLException {
+        when(mergedResult.getValue(1, String.class)).thenReturn("foo");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, String.class), is("foo"));
+    }
+    
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        ColumnProjection columnProjection = mock(ColumnProjection.class, RETURNS_DEEP_STUBS);
+        when(columnProjection.getOriginalTable().getValue()).thenReturn("t_user");
+        when(columnProjection.getOriginalColumn().getValue()).thenReturn("user_name");
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.isEncryptColumn("user_name")).thenReturn(true);
+        StandardEncryptAlgorithm encryptor = mock(StandardEncryptAlgorithm.class);
+        when(encryptor.decrypt(eq("cipher_1"), any(EncryptContext.class))).thenReturn("plain_1");
+        when(encryptor.decrypt(eq("cipher_2"), any(EncryptContext.class))).thenReturn("plain_2");
+        EncryptColumn encryptColumn = new EncryptColumn("user_name", new CipherColumnItem("user_name_cipher", encryptor));
+        when(encryptTable.getEncryptColumn("user_name")).thenReturn(encryptColumn);
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(encryptTable));
+        when(encryptRule.getEncryptTable("t_user")).thenReturn(encryptTable);
+        when(database.getName()).thenReturn("foo_db");
+        when(mergedResult.getValue(1, Object.class)).thenReturn("cipher_1", "cipher_2", null);
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("plain_1"));
+        assertThat(actual.getValue(1, String.class), is("plain_2"));
+        assertNull(actual.getValue(1, String.class));
+        verify(selectStatementContext).findColumnProjection(1);
+        verify(encryptRule).getEncryptTable("t_user");
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.exception.algorithm.ReadQueryLoadBalanceAlgorithmInitializationExcpetion;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adaptive read query load-balance algorithm.
+ * 
+ * <p>
+ * Picks two random read data sources and selects the one with the lower load, which is the response time EWMA plus a baseline response time
+ * multiplied by in flight requests, both fed by SQL execution. The baseline keeps in flight requests counted for data sources without recorded response time.
+ * Read data sources whose replication delay exceeds the configured threshold are excluded, and write data source is selected when all read data sources are excluded.
+ * </p>
+ */
+public final class AdaptiveReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private static final String RESPONSE_TIME_DECAY_MILLISECONDS_KEY = "response-time-decay-milliseconds";
+    
+    private static final String MAX_REPLICATION_DELAY_MILLISECONDS_KEY = "max-replication-delay-milliseconds";
+    
+    private static final long DEFAULT_RESPONSE_TIME_DECAY_MILLISECONDS = 10000L;
+    
+    private static final double BASELINE_RESPONSE_TIME_NANOS = 1000000D;
+    
+    private double responseTimeDecayNanos;
+    
+    private long maxReplicationDelayMillis;
+    
+    @Setter
+    private ReadDataSourceStatisticsRegistry statisticsRegistry;
+    
+    @Override
+    public void init(final Properties props) {
+        long responseTimeDecayMillis = getLongValue(props, RESPONSE_TIME_DECAY_MILLISECONDS_KEY, DEFAULT_RESPONSE_TIME_DECAY_MILLISECONDS);
+        ShardingSpherePreconditions.checkState(responseTimeDecayMillis > 0L,
+                () -> new ReadQueryLoadBalanceAlgorithmInitializationExcpetion(getType(), String.format("`%s` must be positive", RESPONSE_TIME_DECAY_MILLISECONDS_KEY)));
+        responseTimeDecayNanos = responseTimeDecayMillis * 1000000D;
+        maxReplicationDelayMillis = getLongValue(props, MAX_REPLICATION_DELAY_MILLISECONDS_KEY, -1L);
+    }
+    
+    private long getLongValue(final Properties props, final String key, final long defaultValue) {
+        String value = props.getProperty(key);
+        if (null == value) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException ex) {
+            throw new ReadQueryLoadBalanceAlgorithmInitializationExcpetion(getType(), String.format("`%s` must be a number, but was `%s`", key, value));
+        }
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        List<String> candidates = maxReplicationDelayMillis < 0L ? readDataSourceNames : getReplicationDelayQualifiedDataSourceNames(readDataSourceNames);
+        if (candidates.isEmpty()) {
+            return writeDataSourceName;
+        }
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(candidates.size());
+        int secondIndex = random.nextInt(candidates.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        long nanoTime = System.nanoTime();
+        String first = candidates.get(firstIndex);
+        String second = candidates.get(secondIndex);
+        return getLoad(first, nanoTime) <= getLoad(second, nanoTime) ? first : second;
+    }
+    
+    private List<String> getReplicationDelayQualifiedDataSourceNames(final List<String> readDataSourceNames) {
+        List<String> result = new ArrayList<>(readDataSourceNames.size());
+        for (String each : readDataSourceNames) {
+            long replicationDelayMillis = findStatistics(each).map(ReadDataSourceStatistics::getReplicationDelayMillis).orElse(-1L);
+            if (replicationDelayMillis <= maxReplicationDelayMillis) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private double getLoad(final String dataSourceName, final long nanoTime) {
+        return findStatistics(dataSourceName).map(optional -> (optional.getResponseTimeNanos(nanoTime, responseTimeDecayNanos) + BASELINE_RESPONSE_TIME_NANOS) * (optional.getInFlightRequests() + 1))
+                .orElse(BASELINE_RESPONSE_TIME_NANOS);
+    }
+    
+    private Optional<ReadDataSourceStatistics> findStatistics(final String dataSourceName) {
+        return null == statisticsRegistry ? Optional.empty() : statisticsRegistry.find(dataSourceName);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
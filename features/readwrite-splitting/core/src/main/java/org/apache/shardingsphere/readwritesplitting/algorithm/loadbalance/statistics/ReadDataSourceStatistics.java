@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read data source statistics.
+ */
+public final class ReadDataSourceStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.3D;
+    
+    private static final long FAILURE_PENALTY_NANOS = 1000000000L;
+    
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    
+    private final AtomicLong responseTimeNanos = new AtomicLong();
+    
+    private volatile long lastResponseNanoTime;
+    
+    @Getter
+    @Setter
+    private volatile long replicationDelayMillis = -1L;
+    
+    /**
+     * Start request.
+     */
+    public void startRequest() {
+        inFlightRequests.incrementAndGet();
+    }
+    
+    /**
+     * Finish request.
+     *
+     * @param elapsedNanos elapsed nanos of request
+     * @param success whether request is success
+     */
+    public void finishRequest(final long elapsedNanos, final boolean success) {
+        inFlightRequests.decrementAndGet();
+        long sampleNanos = success ? elapsedNanos : Math.max(elapsedNanos, FAILURE_PENALTY_NANOS);
+        long previous;
+        long updated;
+        do {
+            previous = responseTimeNanos.get();
+            updated = 0L == previous ? sampleNanos : previous + (long) ((sampleNanos - previous) * SMOOTHING_FACTOR);
+        } while (!responseTimeNanos.compareAndSet(previous, Math.max(updated, 1L)));
+        lastResponseNanoTime = System.nanoTime();
+    }
+    
+    /**
+     * Get in flight requests.
+     *
+     * @return in flight requests
+     */
+    public int getInFlightRequests() {
+        return Math.max(inFlightRequests.get(), 0);
+    }
+    
+    /**
+     * Get response time nanos which decays to zero since last response, so that slow data source will be retried after a while.
+     *
+     * @param nanoTime current nano time
+     * @param decayNanos decay nanos of response time
+     * @return decayed response time nanos, zero if no response has been recorded
+     */
+    public double getResponseTimeNanos(final long nanoTime, final double decayNanos) {
+        long result = responseTimeNanos.get();
+        return 0L == result ? 0D : result * Math.exp(-Math.max(nanoTime - lastResponseNanoTime, 0L) / decayNanos);
+    }
+}
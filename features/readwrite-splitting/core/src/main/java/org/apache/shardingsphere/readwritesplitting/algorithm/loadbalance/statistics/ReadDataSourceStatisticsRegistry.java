@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read data source statistics registry.
+ * 
+ * <p>A registry is owned by the readwrite-splitting rule of one database and only holds the read data sources of the ADAPTIVE load balancers in that rule.
+ * It is registered by database name while the rule is active, so statistics of stale rules and dropped storage units are discarded with the rule.</p>
+ */
+public final class ReadDataSourceStatisticsRegistry {
+    
+    private static final Map<String, ReadDataSourceStatisticsRegistry> REGISTRIES = new ConcurrentHashMap<>();
+    
+    private final Map<String, ReadDataSourceStatistics> statistics;
+    
+    public ReadDataSourceStatisticsRegistry(final Collection<String> dataSourceNames) {
+        statistics = new ConcurrentHashMap<>(dataSourceNames.size(), 1F);
+        for (String each : dataSourceNames) {
+            statistics.put(each, new ReadDataSourceStatistics());
+        }
+    }
+    
+    /**
+     * Judge whether registry is empty.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return statistics.isEmpty();
+    }
+    
+    /**
+     * Register statistics registry of database.
+     *
+     * @param databaseName database name
+     * @param registry statistics registry
+     */
+    public static void register(final String databaseName, final ReadDataSourceStatisticsRegistry registry) {
+        REGISTRIES.put(databaseName.toLowerCase(), registry);
+    }
+    
+    /**
+     * Unregister statistics registry of database.
+     *
+     * @param databaseName database name
+     * @param registry statistics registry
+     */
+    public static void unregister(final String databaseName, final ReadDataSourceStatisticsRegistry registry) {
+        REGISTRIES.remove(databaseName.toLowerCase(), registry);
+    }
+    
+    /**
+     * Judge whether statistics collection is enabled.
+     *
+     * @return is enabled or not
+     */
+    public static boolean isEnabled() {
+        return !REGISTRIES.isEmpty();
+    }
+    
+    /**
+     * Find statistics.
+     *
+     * @param dataSourceName data source name
+     * @return found statistics
+     */
+    public Optional<ReadDataSourceStatistics> find(final String dataSourceName) {
+        return Optional.ofNullable(statistics.get(dataSourceName));
+    }
+    
+    /**
+     * Find statistics.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found statistics
+     */
+    public static Optional<ReadDataSourceStatistics> find(final String databaseName, final String dataSourceName) {
+        ReadDataSourceStatisticsRegistry registry = REGISTRIES.get(databaseName.toLowerCase());
+        return null == registry ? Optional.empty() : registry.find(dataSourceName);
+    }
+    
+    /**
+     * Update replication delay.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param replicationDelayMillis replication delay millis, negative if unknown
+     */
+    public static void updateReplicationDelay(final String databaseName, final String dataSourceName, final long replicationDelayMillis) {
+        find(databaseName, dataSourceName).ifPresent(optional -> optional.setReplicationDelayMillis(replicationDelayMillis));
+    }
+}
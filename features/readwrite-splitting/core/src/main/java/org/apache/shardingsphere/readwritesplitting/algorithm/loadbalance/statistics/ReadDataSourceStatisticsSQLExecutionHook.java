@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+
+/**
+ * SQL execution hook to collect read data source statistics.
+ * 
+ * <p>A request finishes when the statement execution returns. Under MEMORY_STRICTLY connection mode the result set is still streamed from the data source afterwards,
+ * so the recorded response time does not include the time spent on fetching rows.</p>
+ */
+public final class ReadDataSourceStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    private ReadDataSourceStatistics statistics;
+    
+    private long startNanoTime;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+    }
+    
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps,
+                      final boolean isTrunkThread) {
+        if (null == databaseName || !ReadDataSourceStatisticsRegistry.isEnabled()) {
+            return;
+        }
+        statistics = ReadDataSourceStatisticsRegistry.find(databaseName, dataSourceName).orElse(null);
+        if (null != statistics) {
+            statistics.startRequest();
+            startNanoTime = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish(true);
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish(false);
+    }
+    
+    private void finish(final boolean success) {
+        if (null == statistics) {
+            return;
+        }
+        statistics.finishRequest(System.nanoTime() - startNanoTime, success);
+        statistics = null;
+    }
+}
@@ -26,7 +26,9 @@ import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
 import org.apache.shardingsphere.infra.rule.event.DataSourceStatusChangedEvent;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StaticDataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StorageConnectorReusableRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.exportable.ExportableRule;
@@ -37,6 +39,8 @@ import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceDeletedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.AdaptiveReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.rule.InvalidInlineExpressionDataSourceNameException;
@@ -45,6 +49,7 @@ import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSp
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +60,14 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceContainedRule, StaticDataSourceContainedRule, ExportableRule, StorageConnectorReusableRule {
+public final class ReadwriteSplittingRule
+        implements
+            DatabaseRule,
+            DataSourceContainedRule,
+            StaticDataSourceContainedRule,
+            ExportableRule,
+            StorageConnectorReusableRule,
+            ResourceHeldRule<ReadDataSourceStatisticsRegistry> {
     
     private final String databaseName;
     
@@ -68,12 +80,15 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
     
     private final InstanceContext instanceContext;
     
+    private final ReadDataSourceStatisticsRegistry statisticsRegistry;
+    
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final InstanceContext instanceContext) {
         this.databaseName = databaseName;
         this.instanceContext = instanceContext;
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
         dataSourceRules = createDataSourceRules(ruleConfig);
+        statisticsRegistry = createStatisticsRegistry();
     }
     
     private Map<String, ReadQueryLoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
@@ -87,6 +102,23 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         return result;
     }
     
+    private ReadDataSourceStatisticsRegistry createStatisticsRegistry() {
+        Collection<AdaptiveReadQueryLoadBalanceAlgorithm> adaptiveLoadBalancers = new LinkedHashSet<>();
+        Collection<String> readDataSourceNames = new LinkedHashSet<>();
+        for (ReadwriteSplittingDataSourceRule each : dataSourceRules.values()) {
+            if (each.getLoadBalancer() instanceof AdaptiveReadQueryLoadBalanceAlgorithm) {
+                adaptiveLoadBalancers.add((AdaptiveReadQueryLoadBalanceAlgorithm) each.getLoadBalancer());
+                readDataSourceNames.addAll(each.getReadwriteSplittingGroup().getReadDataSources());
+            }
+        }
+        ReadDataSourceStatisticsRegistry result = new ReadDataSourceStatisticsRegistry(readDataSourceNames);
+        if (!result.isEmpty()) {
+            adaptiveLoadBalancers.forEach(each -> each.setStatisticsRegistry(result));
+            ReadDataSourceStatisticsRegistry.register(databaseName, result);
+        }
+        return result;
+    }
+    
     private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Map<String, ReadwriteSplittingDataSourceRule> result = new HashMap<>(ruleConfig.getDataSources().size(), 1F);
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
@@ -186,6 +218,27 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         }
     }
     
+    @Override
+    public ReadDataSourceStatisticsRegistry getResource() {
+        return statisticsRegistry;
+    }
+    
+    @Override
+    public void addResource(final ShardingSphereDatabase database) {
+    }
+    
+    @Override
+    public void closeStaleResource(final String databaseName) {
+        if (this.databaseName.equalsIgnoreCase(databaseName)) {
+            closeStaleResource();
+        }
+    }
+    
+    @Override
+    public void closeStaleResource() {
+        ReadDataSourceStatisticsRegistry.unregister(databaseName, statisticsRegistry);
+    }
+    
     @Override
     public Map<String, Object> getExportData() {
         Map<String, Object> result = new HashMap<>(2, 1F);
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.exception.algorithm.ReadQueryLoadBalanceAlgorithmInitializationExcpetion;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveReadQueryLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertInitWithInvalidResponseTimeDecay() {
+        assertThrows(ReadQueryLoadBalanceAlgorithmInitializationExcpetion.class, () -> TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class,
+                "ADAPTIVE", PropertiesBuilder.build(new Property("response-time-decay-milliseconds", "0"))));
+        assertThrows(ReadQueryLoadBalanceAlgorithmInitializationExcpetion.class, () -> TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class,
+                "ADAPTIVE", PropertiesBuilder.build(new Property("max-replication-delay-milliseconds", "foo"))));
+    }
+    
+    @Test
+    void assertGetSingleReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "write_ds", Collections.singletonList("read_ds")), is("read_ds"));
+    }
+    
+    @Test
+    void assertGetDataSourceWithLowerLoad() {
+        List<String> readDataSourceNames = Arrays.asList("slow_read_ds", "fast_read_ds");
+        ReadDataSourceStatisticsRegistry statisticsRegistry = new ReadDataSourceStatisticsRegistry(readDataSourceNames);
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties(), statisticsRegistry);
+        ReadDataSourceStatistics slowStatistics = statisticsRegistry.find("slow_read_ds").orElseThrow(IllegalStateException::new);
+        slowStatistics.startRequest();
+        slowStatistics.finishRequest(100000000L, true);
+        ReadDataSourceStatistics fastStatistics = statisticsRegistry.find("fast_read_ds").orElseThrow(IllegalStateException::new);
+        fastStatistics.startRequest();
+        fastStatistics.finishRequest(1000000L, true);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("fast_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithLessInFlightRequests() {
+        List<String> readDataSourceNames = Arrays.asList("busy_read_ds", "idle_read_ds");
+        ReadDataSourceStatisticsRegistry statisticsRegistry = new ReadDataSourceStatisticsRegistry(readDataSourceNames);
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties(), statisticsRegistry);
+        ReadDataSourceStatistics busyStatistics = statisticsRegistry.find("busy_read_ds").orElseThrow(IllegalStateException::new);
+        busyStatistics.startRequest();
+        busyStatistics.finishRequest(1000000L, true);
+        ReadDataSourceStatistics idleStatistics = statisticsRegistry.find("idle_read_ds").orElseThrow(IllegalStateException::new);
+        idleStatistics.startRequest();
+        idleStatistics.finishRequest(1000000L, true);
+        for (int i = 0; i < 10; i++) {
+            busyStatistics.startRequest();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("idle_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithLessInFlightRequestsWithoutResponseTime() {
+        List<String> readDataSourceNames = Arrays.asList("busy_read_ds", "idle_read_ds");
+        ReadDataSourceStatisticsRegistry statisticsRegistry = new ReadDataSourceStatisticsRegistry(readDataSourceNames);
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties(), statisticsRegistry);
+        ReadDataSourceStatistics busyStatistics = statisticsRegistry.find("busy_read_ds").orElseThrow(IllegalStateException::new);
+        for (int i = 0; i < 10; i++) {
+            busyStatistics.startRequest();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("idle_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithoutStatistics() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        List<String> readDataSourceNames = Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertTrue(readDataSourceNames.contains(loadBalanceAlgorithm.getDataSource("ds", "write_ds", readDataSourceNames)));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithReplicationDelay() {
+        List<String> readDataSourceNames = Arrays.asList("lagging_read_ds", "synced_read_ds");
+        ReadDataSourceStatisticsRegistry statisticsRegistry = new ReadDataSourceStatisticsRegistry(readDataSourceNames);
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(PropertiesBuilder.build(new Property("max-replication-delay-milliseconds", "1000")), statisticsRegistry);
+        ReadDataSourceStatisticsRegistry.register("adaptive_delay_db", statisticsRegistry);
+        try {
+            ReadDataSourceStatisticsRegistry.updateReplicationDelay("adaptive_delay_db", "lagging_read_ds", 5000L);
+            ReadDataSourceStatisticsRegistry.updateReplicationDelay("adaptive_delay_db", "synced_read_ds", 10L);
+            for (int i = 0; i < 10; i++) {
+                assertThat(loadBalanceAlgorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("synced_read_ds"));
+            }
+            ReadDataSourceStatisticsRegistry.updateReplicationDelay("adaptive_delay_db", "synced_read_ds", 2000L);
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("write_ds"));
+        } finally {
+            ReadDataSourceStatisticsRegistry.unregister("adaptive_delay_db", statisticsRegistry);
+        }
+    }
+    
+    private ReadQueryLoadBalanceAlgorithm createLoadBalanceAlgorithm(final Properties props, final ReadDataSourceStatisticsRegistry statisticsRegistry) {
+        AdaptiveReadQueryLoadBalanceAlgorithm result = (AdaptiveReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "ADAPTIVE", props);
+        result.setStatisticsRegistry(statisticsRegistry);
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+
+class ReadDataSourceStatisticsSQLExecutionHookTest {
+    
+    private final ReadDataSourceStatisticsRegistry statisticsRegistry = new ReadDataSourceStatisticsRegistry(Arrays.asList("read_ds_0", "read_ds_1"));
+    
+    @BeforeEach
+    void setUp() {
+        ReadDataSourceStatisticsRegistry.register("hook_db", statisticsRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ReadDataSourceStatisticsRegistry.unregister("hook_db", statisticsRegistry);
+    }
+    
+    @Test
+    void assertFinishSuccess() {
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start("hook_db", "read_ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        ReadDataSourceStatistics actual = statisticsRegistry.find("read_ds_0").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getInFlightRequests(), is(1));
+        hook.finishSuccess();
+        assertThat(actual.getInFlightRequests(), is(0));
+        assertThat(actual.getResponseTimeNanos(System.nanoTime(), 10000000000D), greaterThan(0D));
+        hook.finishSuccess();
+        assertThat(actual.getInFlightRequests(), is(0));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start("hook_db", "read_ds_1", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishFailure(new SQLException("foo"));
+        ReadDataSourceStatistics actual = statisticsRegistry.find("read_ds_1").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getInFlightRequests(), is(0));
+        assertThat(actual.getResponseTimeNanos(System.nanoTime(), 10000000000D), greaterThanOrEqualTo(900000000D));
+    }
+    
+    @Test
+    void assertStartWithOtherDatabase() {
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start("other_db", "read_ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.start("read_ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(statisticsRegistry.find("read_ds_0").orElseThrow(IllegalStateException::new).getInFlightRequests(), is(0));
+        hook.finishSuccess();
+        assertThat(statisticsRegistry.find("read_ds_0").orElseThrow(IllegalStateException::new).getInFlightRequests(), is(0));
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabas
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -61,6 +63,27 @@ class ReadwriteSplittingRuleTest {
                 Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), mock(InstanceContext.class));
     }
     
+    @Test
+    void assertCloseStaleResourceWithAdaptiveLoadBalancer() {
+        ReadwriteSplittingDataSourceRuleConfiguration config =
+                new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "adaptive");
+        final ReadwriteSplittingRule actual = new ReadwriteSplittingRule("adaptive_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("adaptive", new AlgorithmConfiguration("ADAPTIVE", new Properties()))), mock(InstanceContext.class));
+        assertTrue(ReadDataSourceStatisticsRegistry.find("adaptive_db", "read_ds_0").isPresent());
+        assertFalse(ReadDataSourceStatisticsRegistry.find("adaptive_db", "write_ds").isPresent());
+        assertFalse(ReadDataSourceStatisticsRegistry.find("other_db", "read_ds_0").isPresent());
+        actual.closeStaleResource("other_db");
+        assertTrue(ReadDataSourceStatisticsRegistry.find("adaptive_db", "read_ds_0").isPresent());
+        actual.closeStaleResource("adaptive_db");
+        assertFalse(ReadDataSourceStatisticsRegistry.find("adaptive_db", "read_ds_0").isPresent());
+    }
+    
+    @Test
+    void assertGetResourceWithoutAdaptiveLoadBalancer() {
+        assertTrue(createReadwriteSplittingRule().getResource().isEmpty());
+        assertFalse(ReadDataSourceStatisticsRegistry.find("logic_db", "read_ds_0").isPresent());
+    }
+    
     private void assertDataSourceRule(final ReadwriteSplittingDataSourceRule actual) {
         assertThat(actual.getName(), is("readwrite"));
         assertThat(actual.getReadwriteSplittingGroup().getWriteDataSource(), is("write_ds"));
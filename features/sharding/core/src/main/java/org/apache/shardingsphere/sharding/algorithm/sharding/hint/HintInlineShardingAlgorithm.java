@@ -17,10 +17,9 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.hint;
 
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingExpressionEvaluator;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingAlgorithmInitializationException;
@@ -41,11 +40,11 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     
     private static final String HINT_INLINE_VALUE_PROPERTY_NAME = "value";
     
-    private String algorithmExpression;
+    private InlineShardingExpressionEvaluator expressionEvaluator;
     
     @Override
     public void init(final Properties props) {
-        algorithmExpression = getAlgorithmExpression(props);
+        expressionEvaluator = new InlineShardingExpressionEvaluator(getAlgorithmExpression(props));
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -61,15 +60,7 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     
     private String doSharding(final Comparable<?> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue, NullShardingValueException::new);
-        Closure<?> closure = createClosure();
-        closure.setProperty(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
-        return closure.call().toString();
-    }
-    
-    private Closure<?> createClosure() {
-        Closure<?> result = InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
+        return expressionEvaluator.evaluate(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
     }
     
     @Override
@@ -18,9 +18,7 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Strings;
-import groovy.lang.Closure;
 import groovy.lang.MissingMethodException;
-import groovy.util.Expando;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -46,11 +44,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private InlineShardingExpressionEvaluator expressionEvaluator;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        expressionEvaluator = new InlineShardingExpressionEvaluator(algorithmExpression);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -70,9 +71,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
-        Closure<?> closure = createClosure();
-        closure.setProperty(columnName, shardingValue.getValue());
-        return getTargetShardingNode(closure, columnName);
+        return getTargetShardingNode(columnName, shardingValue.getValue());
     }
     
     @Override
@@ -82,15 +81,9 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return availableTargetNames;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
-    private String getTargetShardingNode(final Closure<?> closure, final String columnName) {
+    private String getTargetShardingNode(final String columnName, final Comparable<?> value) {
         try {
-            return closure.call().toString();
+            return expressionEvaluator.evaluate(columnName, value);
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Inline sharding expression evaluator.
+ * 
+ * <p>Expressions made of literal text and placeholders with variables, integer literals, parentheses and {@code + - * %} operators,
+ * such as {@code t_order_${user_id % 16}}, are compiled once into segments and evaluated with the same result as Groovy does.
+ * Other expressions, and values which are not integers or strings, fall back to Groovy closure.
+ * The evaluator is immutable and thread safe.</p>
+ */
+public final class InlineShardingExpressionEvaluator {
+    
+    private final String algorithmExpression;
+    
+    private final List<Segment> segments;
+    
+    public InlineShardingExpressionEvaluator(final String algorithmExpression) {
+        this.algorithmExpression = algorithmExpression;
+        segments = ExpressionCompiler.compile(algorithmExpression);
+    }
+    
+    /**
+     * Judge whether expression is compiled.
+     *
+     * @return is compiled or not
+     */
+    public boolean isCompiled() {
+        return null != segments;
+    }
+    
+    /**
+     * Evaluate expression.
+     *
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result
+     */
+    public String evaluate(final String variableName, final Comparable<?> value) {
+        return evaluate(Collections.singletonMap(variableName, value));
+    }
+    
+    /**
+     * Evaluate expression.
+     *
+     * @param variables variable name and value map
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, Comparable<?>> variables) {
+        if (null != segments) {
+            String result = evaluateCompiled(variables);
+            if (null != result) {
+                return result;
+            }
+        }
+        return evaluateClosure(variables);
+    }
+    
+    private String evaluateCompiled(final Map<String, Comparable<?>> variables) {
+        StringBuilder result = new StringBuilder(algorithmExpression.length());
+        for (Segment each : segments) {
+            String value = each.evaluate(variables);
+            if (null == value) {
+                return null;
+            }
+            result.append(value);
+        }
+        return result.toString();
+    }
+    
+    private String evaluateClosure(final Map<String, Comparable<?>> variables) {
+        Closure<?> closure = InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, Comparable<?>> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    private interface Segment {
+        
+        String evaluate(Map<String, Comparable<?>> variables);
+    }
+    
+    private interface ArithmeticNode {
+        
+        Number evaluate(Map<String, Comparable<?>> variables);
+    }
+    
+    private static final class ExpressionCompiler {
+        
+        private final String placeholder;
+        
+        private int position;
+        
+        private ExpressionCompiler(final String placeholder) {
+            this.placeholder = placeholder;
+        }
+        
+        private static List<Segment> compile(final String expression) {
+            if (expression.startsWith("<")) {
+                return null;
+            }
+            List<Segment> result = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int index = 0;
+            while (index < expression.length()) {
+                char each = expression.charAt(index);
+                if ('\\' == each || '"' == each || '$' == each && !expression.startsWith("${", index)) {
+                    return null;
+                }
+                if ('$' != each) {
+                    literal.append(each);
+                    index++;
+                    continue;
+                }
+                int endIndex = expression.indexOf('}', index);
+                Segment segment = -1 == endIndex ? null : compilePlaceholder(expression.substring(index + 2, endIndex));
+                if (null == segment) {
+                    return null;
+                }
+                addLiteral(result, literal);
+                result.add(segment);
+                index = endIndex + 1;
+            }
+            addLiteral(result, literal);
+            return result;
+        }
+        
+        private static void addLiteral(final List<Segment> segments, final StringBuilder literal) {
+            if (0 != literal.length()) {
+                String value = literal.toString();
+                segments.add(variables -> value);
+                literal.setLength(0);
+            }
+        }
+        
+        private static Segment compilePlaceholder(final String placeholder) {
+            if (placeholder.contains("{")) {
+                return null;
+            }
+            String trimmedPlaceholder = placeholder.trim();
+            if (isIdentifier(trimmedPlaceholder)) {
+                return variables -> formatVariable(variables.get(trimmedPlaceholder));
+            }
+            ExpressionCompiler compiler = new ExpressionCompiler(placeholder);
+            ArithmeticNode node = compiler.parseExpression();
+            if (null == node || compiler.skipWhitespaces() < placeholder.length()) {
+                return null;
+            }
+            return variables -> {
+                Number value = node.evaluate(variables);
+                return null == value ? null : value.toString();
+            };
+        }
+        
+        private static boolean isIdentifier(final String text) {
+            if (text.isEmpty() || !Character.isJavaIdentifierStart(text.charAt(0)) || "it".equals(text)) {
+                return false;
+            }
+            for (int i = 1; i < text.length(); i++) {
+                if (!Character.isJavaIdentifierPart(text.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private static String formatVariable(final Comparable<?> value) {
+            return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                    || value instanceof BigInteger || value instanceof BigDecimal ? value.toString() : null;
+        }
+        
+        private static Number toArithmeticValue(final Comparable<?> value) {
+            if (value instanceof Integer || value instanceof Long) {
+                return (Number) value;
+            }
+            return value instanceof Short || value instanceof Byte ? ((Number) value).intValue() : null;
+        }
+        
+        private static Number calculate(final char operator, final Number left, final Number right) {
+            long leftValue = left.longValue();
+            long rightValue = right.longValue();
+            long result;
+            switch (operator) {
+                case '+':
+                    result = leftValue + rightValue;
+                    break;
+                case '-':
+                    result = leftValue - rightValue;
+                    break;
+                case '*':
+                    result = leftValue * rightValue;
+                    break;
+                default:
+                    result = leftValue % rightValue;
+                    break;
+            }
+            return left instanceof Long || right instanceof Long ? (Number) result : (Number) (int) result;
+        }
+        
+        private int skipWhitespaces() {
+            while (position < placeholder.length() && Character.isWhitespace(placeholder.charAt(position))) {
+                position++;
+            }
+            return position;
+        }
+        
+        private ArithmeticNode parseExpression() {
+            ArithmeticNode result = parseTerm();
+            while (null != result && skipWhitespaces() < placeholder.length() && ('+' == placeholder.charAt(position) || '-' == placeholder.charAt(position))) {
+                result = combine(result, placeholder.charAt(position++), parseTerm());
+            }
+            return result;
+        }
+        
+        private ArithmeticNode parseTerm() {
+            ArithmeticNode result = parseFactor();
+            while (null != result && skipWhitespaces() < placeholder.length() && ('*' == placeholder.charAt(position) || '%' == placeholder.charAt(position))) {
+                result = combine(result, placeholder.charAt(position++), parseFactor());
+            }
+            return result;
+        }
+        
+        private ArithmeticNode combine(final ArithmeticNode left, final char operator, final ArithmeticNode right) {
+            if (null == right) {
+                return null;
+            }
+            return variables -> {
+                Number leftValue = left.evaluate(variables);
+                Number rightValue = null == leftValue ? null : right.evaluate(variables);
+                return null == rightValue ? null : calculate(operator, leftValue, rightValue);
+            };
+        }
+        
+        private ArithmeticNode parseFactor() {
+            if (skipWhitespaces() >= placeholder.length()) {
+                return null;
+            }
+            char current = placeholder.charAt(position);
+            if ('(' == current) {
+                position++;
+                ArithmeticNode result = parseExpression();
+                if (null == result || skipWhitespaces() >= placeholder.length() || ')' != placeholder.charAt(position)) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (Character.isDigit(current)) {
+                return parseIntegerLiteral();
+            }
+            return parseVariable();
+        }
+        
+        private ArithmeticNode parseIntegerLiteral() {
+            int startPosition = position;
+            while (position < placeholder.length() && Character.isDigit(placeholder.charAt(position))) {
+                position++;
+            }
+            if (position < placeholder.length() && Character.isJavaIdentifierPart(placeholder.charAt(position))) {
+                return null;
+            }
+            if ('0' == placeholder.charAt(startPosition) && position - startPosition > 1) {
+                return null;
+            }
+            BigInteger literal = new BigInteger(placeholder.substring(startPosition, position));
+            if (literal.bitLength() >= Long.SIZE) {
+                return null;
+            }
+            Number value = literal.bitLength() < Integer.SIZE ? (Number) literal.intValue() : (Number) literal.longValue();
+            return variables -> value;
+        }
+        
+        private ArithmeticNode parseVariable() {
+            int startPosition = position;
+            while (position < placeholder.length() && Character.isJavaIdentifierPart(placeholder.charAt(position))) {
+                position++;
+            }
+            String variableName = placeholder.substring(startPosition, position);
+            if (!isIdentifier(variableName)) {
+                return null;
+            }
+            return variables -> toArithmeticValue(variables.get(variableName));
+        }
+    }
+}
@@ -209,9 +209,17 @@ public final class ShardingRouteCacheableChecker {
      * @return is cacheable
      */
     public ShardingRouteCacheableCheckResult check(final ShardingSphereDatabase database, final QueryContext queryContext) {
+        if (isBatchInsert(queryContext.getSqlStatementContext())) {
+            return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
+        }
         return checkingCache.get(new Key(database, queryContext.getSql(), queryContext.getSqlStatementContext(), queryContext.getParameters()));
     }
     
+    private boolean isBatchInsert(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof InsertStatementContext
+                && 1 == ((InsertStatementContext) sqlStatementContext).getSqlStatement().getValues().size() && ((InsertStatementContext) sqlStatementContext).getValueListCount() > 1;
+    }
+    
     @EqualsAndHashCode(of = "sql")
     @Getter
     private static final class Key {
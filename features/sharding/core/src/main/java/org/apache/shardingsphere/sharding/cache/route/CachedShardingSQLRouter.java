@@ -25,8 +25,10 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteUncacheableReason;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
@@ -53,26 +55,36 @@ public final class CachedShardingSQLRouter {
     public Optional<RouteContext> loadRouteContext(final OriginSQLRouter originSQLRouter, final QueryContext queryContext, final RuleMetaData globalRuleMetaData,
                                                    final ShardingSphereDatabase database, final ShardingCache shardingCache, final ConfigurationProperties props,
                                                    final ConnectionContext connectionContext) {
+        ShardingRouteCache routeCache = shardingCache.getRouteCache();
         if (queryContext.getSql().length() > shardingCache.getConfiguration().getAllowedMaxSqlLength()) {
+            routeCache.recordUncacheable(ShardingRouteUncacheableReason.SQL_TOO_LONG);
             return Optional.empty();
         }
         ShardingRouteCacheableCheckResult cacheableCheckResult = shardingCache.getRouteCacheableChecker().check(database, queryContext);
         if (!cacheableCheckResult.isProbablyCacheable()) {
+            routeCache.recordUncacheable(ShardingRouteUncacheableReason.UNSUPPORTED_STATEMENT);
             return Optional.empty();
         }
         List<Object> shardingConditionParams = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
         for (int each : cacheableCheckResult.getShardingConditionParameterMarkerIndexes()) {
             if (each >= queryContext.getParameters().size()) {
+                routeCache.recordUncacheable(ShardingRouteUncacheableReason.PARAMETER_MISSING);
                 return Optional.empty();
             }
             shardingConditionParams.add(queryContext.getParameters().get(each));
         }
-        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
-                .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
-        RouteContext result = cachedResult.orElseGet(
-                () -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
-            shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
+        ShardingRouteCacheKey cacheKey = new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams);
+        Optional<RouteContext> cachedResult = routeCache.get(cacheKey).flatMap(ShardingRouteCacheValue::getCachedRouteContext);
+        if (cachedResult.isPresent()) {
+            return cachedResult;
+        }
+        long startTime = System.nanoTime();
+        RouteContext result = originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext);
+        routeCache.recordRouteTime(System.nanoTime() - startTime);
+        if (hitOneShardOnly(result)) {
+            routeCache.put(cacheKey, new ShardingRouteCacheValue(result));
+        } else {
+            routeCache.recordUncacheable(ShardingRouteUncacheableReason.MULTIPLE_DATA_NODES);
         }
         return Optional.of(result);
     }
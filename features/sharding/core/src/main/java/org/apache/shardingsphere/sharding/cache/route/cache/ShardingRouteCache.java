@@ -19,26 +19,42 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Cache for sharding route.
  */
 public final class ShardingRouteCache {
     
+    private final ConcurrentStatsCounter statsCounter = new ConcurrentStatsCounter();
+    
+    private final Map<ShardingRouteUncacheableReason, LongAdder> uncacheableCounts = new EnumMap<>(ShardingRouteUncacheableReason.class);
+    
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
+        for (ShardingRouteUncacheableReason each : ShardingRouteUncacheableReason.values()) {
+            uncacheableCounts.put(each, new LongAdder());
+        }
         cache = buildRouteCache(cacheOptions);
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats(() -> statsCounter);
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
+        if (cacheOptions.getExpireAfterAccessMillis() > 0L) {
+            result.expireAfterAccess(cacheOptions.getExpireAfterAccessMillis(), TimeUnit.MILLISECONDS);
+        }
         return result.build();
     }
     
@@ -61,4 +77,52 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Record time of calculating route result which is not found in cache.
+     *
+     * @param routeTimeNanos route time in nanoseconds
+     */
+    public void recordRouteTime(final long routeTimeNanos) {
+        statsCounter.recordLoadSuccess(routeTimeNanos);
+    }
+    
+    /**
+     * Record route result not cached.
+     *
+     * @param reason reason of route result not cached
+     */
+    public void recordUncacheable(final ShardingRouteUncacheableReason reason) {
+        uncacheableCounts.get(reason).increment();
+    }
+    
+    /**
+     * Get count of route results not cached.
+     *
+     * @param reason reason of route result not cached
+     * @return count of route results not cached
+     */
+    public long getUncacheableCount(final ShardingRouteUncacheableReason reason) {
+        return uncacheableCounts.get(reason).sum();
+    }
+    
+    /**
+     * Get statistics of cache.
+     * 
+     * <p>Load count and load time stand for the route results calculated when missing in cache.</p>
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStats() {
+        return statsCounter.snapshot();
+    }
+    
+    /**
+     * Get estimated size of cache.
+     *
+     * @return estimated size
+     */
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
 }
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.Ord
 import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -35,7 +37,9 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillableMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.LoserTreeOrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
@@ -55,6 +59,8 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final ConfigurationProperties props;
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -93,7 +99,9 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return props.<Boolean>getValue(ConfigurationPropertyKey.LOSER_TREE_ORDER_BY_MERGE_ENABLED)
+                    ? new LoserTreeOrderByStreamMergedResult(queryResults, selectStatementContext, schema)
+                    : new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -117,8 +125,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        int maxMemoryGroups = props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_GROUPS);
+        return maxMemoryGroups > 0
+                ? new GroupBySpillableMergedResult(queryResults, selectStatementContext, schema, maxMemoryGroups)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory aggregator for group by.
+ */
+public final class GroupByMemoryAggregator {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final Map<GroupByValue, AggregatedGroup> groups = new HashMap<>(1024, 1F);
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    public GroupByMemoryAggregator(final SelectStatementContext selectStatementContext) {
+        this.selectStatementContext = selectStatementContext;
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+    }
+    
+    /**
+     * Judge whether group is aggregated.
+     *
+     * @param groupByValue group by value
+     * @return group is aggregated or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return groups.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get aggregated group size.
+     *
+     * @return aggregated group size
+     */
+    public int size() {
+        return groups.size();
+    }
+    
+    /**
+     * Aggregate current row of query result into group.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        AggregatedGroup group = groups.get(groupByValue);
+        if (null == group) {
+            group = new AggregatedGroup(new MemoryQueryResultRow(queryResult), createAggregationUnits());
+            groups.put(groupByValue, group);
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            aggregationValues.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, aggregationProjections[i]));
+            } else {
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(queryResult, each));
+                }
+            }
+            group.aggregationUnits[i].merge(aggregationValues);
+        }
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection);
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get aggregated rows sorted by order by items, or group by items if absent.
+     *
+     * @param valueCaseSensitive value case sensitive
+     * @return aggregated rows
+     */
+    public List<MemoryQueryResultRow> getSortedRows(final List<Boolean> valueCaseSensitive) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groups.size());
+        for (AggregatedGroup each : groups.values()) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                each.row.setCell(aggregationProjections[i].getIndex(), each.aggregationUnits[i].getResult());
+            }
+            result.add(each.row);
+        }
+        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return result;
+    }
+    
+    /**
+     * Get value case sensitive of columns.
+     *
+     * @param queryResult query result
+     * @param selectStatementContext select statement context
+     * @param schema ShardingSphere schema
+     * @return value case sensitive, index 0 is a placeholder to keep aligned with column index
+     * @throws SQLException SQL exception
+     */
+    public static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<Boolean> result = new ArrayList<>();
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, selectStatementContext, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+            ShardingSphereTable table = schema.getTable(tableName);
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (table.containsColumn(columnName)) {
+                return table.getColumn(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AggregatedGroup {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file for group by merge.
+ * 
+ * <p>Rows are written once and read once in writing order, the file is deleted after read or closed.</p>
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final Path path;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private int writtenRowCount;
+    
+    private boolean closed;
+    
+    @SneakyThrows(IOException.class)
+    public GroupBySpillFile() {
+        path = Files.createTempFile("shardingsphere-group-by-", ".spill");
+        outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row values
+     */
+    @SneakyThrows(IOException.class)
+    public void write(final Object[] row) {
+        outputStream.writeUnshared(row);
+        if (0 == ++writtenRowCount % RESET_INTERVAL) {
+            outputStream.reset();
+        }
+    }
+    
+    /**
+     * Finish write.
+     *
+     * @return spilled bytes
+     */
+    @SneakyThrows(IOException.class)
+    public long finishWrite() {
+        outputStream.writeObject(null);
+        outputStream.close();
+        outputStream = null;
+        return Files.size(path);
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if reach end of file
+     */
+    @SneakyThrows({IOException.class, ClassNotFoundException.class})
+    public Object[] read() {
+        if (closed) {
+            return null;
+        }
+        if (null == inputStream) {
+            inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        }
+        Object[] result = (Object[]) inputStream.readObject();
+        if (null == result) {
+            close();
+        }
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public void close() {
+        if (null != outputStream) {
+            outputStream.close();
+            outputStream = null;
+        }
+        if (null != inputStream) {
+            inputStream.close();
+            inputStream = null;
+        }
+        Files.deleteIfExists(path);
+        closed = true;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.io.Serializable;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spillable aggregator for group by.
+ * 
+ * <p>Groups are aggregated in memory until the count of groups reaches the limit, rows of other groups are spilled into hash partitioned files.
+ * After all rows consumed, groups in memory are sorted and spilled as a run, then each partition is aggregated the same way.
+ * Because every group belongs to only one run, the runs are merged by order without aggregating again.
+ * If the count of groups never reaches the limit, rows are merged fully in memory.</p>
+ * 
+ * <p>Spill files are written with java serialization. Once a row with value which is not serializable is found,
+ * spilled rows are read back and all groups are aggregated in memory.</p>
+ * 
+ * <p>All spill files are tracked and deleted when the aggregator is closed, or at once if spilling or merging fails.</p>
+ */
+public final class GroupBySpillableAggregator implements AutoCloseable {
+    
+    private static final int PARTITION_SIZE = 16;
+    
+    private static final int MAX_SPILL_LEVEL = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxGroupSize;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    public GroupBySpillableAggregator(final SelectStatementContext selectStatementContext, final int maxGroupSize) {
+        this.selectStatementContext = selectStatementContext;
+        this.maxGroupSize = maxGroupSize;
+    }
+    
+    /**
+     * Aggregate query results.
+     *
+     * @param queryResults query results
+     * @param schema schema
+     * @return aggregated rows in order
+     * @throws SQLException SQL exception
+     */
+    public Iterator<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults, final ShardingSphereSchema schema) throws SQLException {
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : GroupByMemoryAggregator.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        boolean completed = false;
+        try {
+            Collection<GroupBySpillFile> runs = new LinkedList<>();
+            List<MemoryQueryResultRow> memoryRows = aggregate(queryResults, 0, valueCaseSensitive, runs);
+            Iterator<MemoryQueryResultRow> result = runs.isEmpty() ? memoryRows.iterator() : new SpilledRunsIterator(runs, new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+            completed = true;
+            return result;
+        } finally {
+            if (!completed) {
+                close();
+            }
+        }
+    }
+    
+    private List<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults, final int level,
+                                                 final List<Boolean> valueCaseSensitive, final Collection<GroupBySpillFile> runs) throws SQLException {
+        GroupByMemoryAggregator aggregator = new GroupByMemoryAggregator(selectStatementContext);
+        GroupBySpillFile[] partitions = null;
+        boolean spillable = true;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                // Rows read back from spill files are always serializable
+                if (spillable && 0 == level && !isSerializable(each)) {
+                    spillable = false;
+                    aggregateSpilledRows(aggregator, partitions, each.getMetaData());
+                    partitions = null;
+                }
+                if (!spillable || aggregator.size() < maxGroupSize || level >= MAX_SPILL_LEVEL || aggregator.contains(groupByValue)) {
+                    aggregator.aggregate(each, groupByValue);
+                    continue;
+                }
+                if (null == partitions) {
+                    partitions = createPartitions();
+                }
+                partitions[getPartitionIndex(groupByValue, level)].write(loadRow(each));
+            }
+        }
+        if (0 == level && null == partitions) {
+            return 0 == aggregator.size() ? GroupByMemoryMergedResult.getEmptyMemoryResultSetRows(selectStatementContext) : aggregator.getSortedRows(valueCaseSensitive);
+        }
+        if (0 != aggregator.size()) {
+            runs.add(spillRun(aggregator.getSortedRows(valueCaseSensitive), queryResults.get(0).getMetaData().getColumnCount()));
+        }
+        if (null != partitions) {
+            QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+            for (GroupBySpillFile each : partitions) {
+                each.finishWrite();
+                try (GroupBySpillFileQueryResult partitionQueryResult = new GroupBySpillFileQueryResult(each, metaData)) {
+                    aggregate(Collections.singletonList(partitionQueryResult), level + 1, valueCaseSensitive, runs);
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private boolean isSerializable(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        for (int i = 1; i <= columnCount; i++) {
+            Object value = queryResult.getValue(i, Object.class);
+            if (null != value && !(value instanceof Serializable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void aggregateSpilledRows(final GroupByMemoryAggregator aggregator, final GroupBySpillFile[] partitions, final QueryResultMetaData metaData) throws SQLException {
+        if (null == partitions) {
+            return;
+        }
+        for (GroupBySpillFile each : partitions) {
+            each.finishWrite();
+            try (GroupBySpillFileQueryResult partitionQueryResult = new GroupBySpillFileQueryResult(each, metaData)) {
+                while (partitionQueryResult.next()) {
+                    aggregator.aggregate(partitionQueryResult, new GroupByValue(partitionQueryResult, selectStatementContext.getGroupByContext().getItems()));
+                }
+            }
+        }
+    }
+    
+    private GroupBySpillFile[] createPartitions() {
+        GroupBySpillFile[] result = new GroupBySpillFile[PARTITION_SIZE];
+        for (int i = 0; i < PARTITION_SIZE; i++) {
+            result[i] = createSpillFile();
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile createSpillFile() {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int level) {
+        int result = groupByValue.hashCode() ^ level * 0x9E3779B9;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 16;
+        return Math.floorMod(result, PARTITION_SIZE);
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile spillRun(final List<MemoryQueryResultRow> rows, final int columnCount) {
+        GroupBySpillFile result = createSpillFile();
+        for (MemoryQueryResultRow each : rows) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            result.write(row);
+        }
+        result.finishWrite();
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        spillFiles.forEach(GroupBySpillFile::close);
+        spillFiles.clear();
+    }
+    
+    private static final class SpilledRunsIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final Queue<SpilledRun> runs;
+        
+        SpilledRunsIterator(final Collection<GroupBySpillFile> spillFiles, final GroupByRowComparator comparator) {
+            runs = new PriorityQueue<>(spillFiles.size(), (o1, o2) -> comparator.compare(o1.currentRow, o2.currentRow));
+            for (GroupBySpillFile each : spillFiles) {
+                SpilledRun run = new SpilledRun(each);
+                if (run.next()) {
+                    runs.offer(run);
+                }
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !runs.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            SpilledRun run = runs.poll();
+            MemoryQueryResultRow result = run.currentRow;
+            if (run.next()) {
+                runs.offer(run);
+            }
+            return result;
+        }
+    }
+    
+    private static final class SpilledRun {
+        
+        private final GroupBySpillFile spillFile;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        SpilledRun(final GroupBySpillFile spillFile) {
+            this.spillFile = spillFile;
+        }
+        
+        boolean next() {
+            Object[] row = spillFile.read();
+            currentRow = null == row ? null : new MemoryQueryResultRow(row);
+            return null != currentRow;
+        }
+    }
+}
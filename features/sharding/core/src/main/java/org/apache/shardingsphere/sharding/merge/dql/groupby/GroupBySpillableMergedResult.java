@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Spillable memory merged result for group by.
+ * 
+ * <p>Rows are aggregated by {@link GroupBySpillableAggregator}, and the spill files are deleted when the merged result is closed.</p>
+ */
+public final class GroupBySpillableMergedResult extends MemoryMergedResult<ShardingRule> {
+    
+    private final GroupBySpillableAggregator aggregator;
+    
+    public GroupBySpillableMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                        final ShardingSphereSchema schema, final int maxGroupSize) throws SQLException {
+        this(new GroupBySpillableAggregator(selectStatementContext, maxGroupSize), queryResults, schema);
+    }
+    
+    private GroupBySpillableMergedResult(final GroupBySpillableAggregator aggregator, final List<QueryResult> queryResults, final ShardingSphereSchema schema) throws SQLException {
+        super(aggregator.aggregate(queryResults, schema));
+        this.aggregator = aggregator;
+    }
+    
+    @Override
+    public void close() {
+        aggregator.close();
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.collect.Maps;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
@@ -35,7 +34,6 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Stream merged result for group by.
@@ -44,6 +42,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
@@ -52,6 +54,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                                      final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
         currentRow = new ArrayList<>(labelAndIndexMap.size());
         currentGroupByValues = getOrderByValuesQueue().isEmpty()
                 ? Collections.emptyList()
@@ -76,10 +79,9 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        AggregationUnit[] aggregationUnits = createAggregationUnits();
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
-            aggregate(aggregationUnitMap);
+            aggregate(aggregationUnits);
             if (!cachedRow) {
                 cacheCurrentRow();
                 cachedRow = true;
@@ -89,21 +91,29 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                 break;
             }
         }
-        setAggregationValueToCurrentRow(aggregationUnitMap);
+        setAggregationValueToCurrentRow(aggregationUnits);
+        return result;
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection);
+        }
         return result;
     }
     
-    private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
-        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+    private void aggregate(final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            aggregationValues.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(aggregationProjections[i]));
             } else {
-                for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(each));
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            aggregationUnits[i].merge(aggregationValues);
         }
     }
     
@@ -119,9 +129,9 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToCurrentRow(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) {
-        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+    private void setAggregationValueToCurrentRow(final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            currentRow.set(aggregationProjections[i].getIndex() - 1, aggregationUnits[i].getResult());
         }
     }
     
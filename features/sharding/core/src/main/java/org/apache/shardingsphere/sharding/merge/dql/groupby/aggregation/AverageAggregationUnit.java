@@ -29,31 +29,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final DecimalAccumulator count = new DecimalAccumulator();
     
-    private BigDecimal sum;
+    private final DecimalAccumulator sum = new DecimalAccumulator();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (null == count) {
-            count = BigDecimal.ZERO;
-        }
-        if (null == sum) {
-            sum = BigDecimal.ZERO;
-        }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        count.add(values.get(0));
+        sum.add(values.get(1));
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
-            return count;
+        BigDecimal countValue = count.get();
+        if (null == countValue || BigDecimal.ZERO.equals(countValue)) {
+            return countValue;
         }
         // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, RoundingMode.HALF_UP);
+        return sum.get().divide(countValue, 4, RoundingMode.HALF_UP);
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal accumulator.
+ * 
+ * <p>Integral values are accumulated into a primitive long, the partial sum is moved into {@code BigDecimal} only when long overflows.
+ * Other values are accumulated into {@code BigDecimal} directly.</p>
+ */
+final class DecimalAccumulator {
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    private boolean accumulated;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        accumulated = true;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            addLong(((Number) value).longValue());
+            return;
+        }
+        BigDecimal addend = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        decimalValue = null == decimalValue ? addend : decimalValue.add(addend);
+    }
+    
+    private void addLong(final long value) {
+        long sum = longValue + value;
+        if (((longValue ^ sum) & (value ^ sum)) < 0L) {
+            decimalValue = null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue.add(BigDecimal.valueOf(longValue));
+            longValue = value;
+            return;
+        }
+        longValue = sum;
+    }
+    
+    /**
+     * Get accumulated value.
+     * 
+     * @return accumulated value, null if nothing added
+     */
+    BigDecimal get() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue.add(BigDecimal.valueOf(longValue));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with loser tree.
+ * 
+ * <p>Each leaf of the loser tree holds the current row of one query result, and each inner node holds the loser of the match between its children.
+ * Advancing the winner replays only the matches on its path to the root, which costs log(n) comparisons without re-offering values into a heap.</p>
+ */
+public final class LoserTreeOrderByStreamMergedResult extends StreamMergedResult {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private boolean isFirstNext;
+    
+    public LoserTreeOrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        orderByValues = new OrderByValue[queryResults.size()];
+        exhausted = new boolean[queryResults.size()];
+        for (int i = 0; i < queryResults.size(); i++) {
+            orderByValues[i] = new OrderByValue(queryResults.get(i), orderByItems, selectStatementContext, schema);
+            exhausted[i] = !orderByValues[i].next();
+        }
+        losers = new int[queryResults.size()];
+        buildLoserTree();
+        setCurrentQueryResult(exhausted[losers[0]] ? queryResults.get(0) : orderByValues[losers[0]].getQueryResult());
+        isFirstNext = true;
+    }
+    
+    private void buildLoserTree() {
+        int leafSize = orderByValues.length;
+        int[] winners = new int[leafSize * 2];
+        for (int i = 0; i < leafSize; i++) {
+            winners[leafSize + i] = i;
+        }
+        for (int node = leafSize - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean isLeftWin = isWin(left, right);
+            winners[node] = isLeftWin ? left : right;
+            losers[node] = isLeftWin ? right : left;
+        }
+        losers[0] = 1 == leafSize ? 0 : winners[1];
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (orderByValues.length + leaf) / 2; node > 0; node /= 2) {
+            if (isWin(losers[node], winner)) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isWin(final int candidate, final int opponent) {
+        if (exhausted[candidate] || exhausted[opponent]) {
+            return !exhausted[candidate] || exhausted[opponent] && candidate < opponent;
+        }
+        int result = orderByValues[candidate].compareTo(orderByValues[opponent]);
+        return result < 0 || 0 == result && candidate < opponent;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (exhausted[losers[0]]) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        int winner = losers[0];
+        exhausted[winner] = !orderByValues[winner].next();
+        replay(winner);
+        if (exhausted[losers[0]]) {
+            return false;
+        }
+        setCurrentQueryResult(orderByValues[losers[0]].getQueryResult());
+        return true;
+    }
+}
@@ -20,20 +20,23 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -50,7 +53,15 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final OrderValueType[] orderValueTypes;
+    
+    private final long[] longOrderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -58,6 +69,18 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+            i++;
+        }
+        orderValues = new Comparable<?>[orderByItems.size()];
+        orderValueTypes = new OrderValueType[orderByItems.size()];
+        Arrays.fill(orderValueTypes, OrderValueType.NULL);
+        longOrderValues = new long[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +122,70 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+            Arrays.fill(orderValueTypes, OrderValueType.NULL);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void loadOrderValues() throws SQLException {
+        int i = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+            orderValueTypes[i] = getOrderValueType(value);
+            if (OrderValueType.LONG == orderValueTypes[i]) {
+                longOrderValues[i] = ((Number) value).longValue();
+            } else if (OrderValueType.STRING == orderValueTypes[i] && !orderValuesCaseSensitive.get(i)) {
+                orderValues[i] = ((String) value).toUpperCase();
+                orderValueTypes[i] = OrderValueType.CASE_INSENSITIVE_STRING;
+            }
+            i++;
         }
-        return result;
+    }
+    
+    private OrderValueType getOrderValueType(final Object value) {
+        if (null == value) {
+            return OrderValueType.NULL;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return OrderValueType.LONG;
+        }
+        if (value instanceof BigDecimal) {
+            return OrderValueType.DECIMAL;
+        }
+        return value instanceof String ? OrderValueType.STRING : OrderValueType.OTHER;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = compareTo(orderByValue, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareTo(final OrderByValue orderByValue, final int index) {
+        OrderValueType type = orderValueTypes[index];
+        if (type != orderByValue.orderValueTypes[index] || OrderValueType.NULL == type || OrderValueType.OTHER == type) {
+            return CompareUtils.compareTo(orderValues[index], orderByValue.orderValues[index], orderDirections[index], nullsOrderTypes[index], orderValuesCaseSensitive.get(index));
+        }
+        int result = OrderValueType.LONG == type
+                ? Long.compare(longOrderValues[index], orderByValue.longOrderValues[index])
+                : ((Comparable) orderValues[index]).compareTo(orderByValue.orderValues[index]);
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private enum OrderValueType {
+        
+        NULL, LONG, DECIMAL, STRING, CASE_INSENSITIVE_STRING, OTHER
+    }
 }
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ShorthandProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.rule.RuleBasedQueryExecuteCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.rule.RuleBasedQueryExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Sharding deep pagination engine.
+ * 
+ * <p>Ordered pagination query with large offset fetches offset + row count rows from every data node by default.
+ * This engine executes it with two rounds instead. The first round fetches a window of each data node at offset / data node count,
+ * and the lowest window start becomes the boundary. The second round seeks rows between the boundary and the window end of each data node,
+ * so the global offset of the boundary is calculated, and the requested page is picked out from the rows after it.
+ * Data node without rows in its window counts its rows before the boundary instead of fetching them again.
+ * Only integral and decimal order by values are supported, because they are written into the seek SQL as literals.</p>
+ */
+public final class ShardingDeepPaginationEngine implements RuleBasedQueryExecutor<ShardingRule> {
+    
+    private static final String DERIVED_TABLE_ALIAS = "deep_pagination_";
+    
+    @Override
+    public Optional<QueryResult> execute(final ExecutionContext executionContext, final ShardingRule rule, final ConfigurationProperties props,
+                                         final RuleBasedQueryExecuteCallback callback) throws SQLException {
+        if (!isDeepPagination(executionContext, props.<Long>getValue(ConfigurationPropertyKey.DEEP_PAGINATION_MIN_OFFSET))) {
+            return Optional.empty();
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        OrderByItem orderByItem = selectStatementContext.getOrderByContext().getItems().iterator().next();
+        Comparator<BigDecimal> comparator = OrderDirection.ASC == orderByItem.getSegment().getOrderDirection() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        List<ExecutionUnit> executionUnits = groupByDataSource(executionContext.getExecutionUnits());
+        long offset = paginationContext.getActualOffset();
+        long rowCount = paginationContext.getActualRowCount().orElse(0L);
+        long windowOffset = offset / executionUnits.size();
+        long windowSize = rowCount + offset % executionUnits.size();
+        List<QueryResult> windowQueryResults =
+                callback.execute(executionUnits.stream().map(each -> createWindowExecutionUnit(each, orderByItem, windowOffset, windowSize)).collect(Collectors.toList()));
+        if (windowQueryResults.size() != executionUnits.size()) {
+            return Optional.empty();
+        }
+        List<DataNodeWindow> windows = new ArrayList<>(executionUnits.size());
+        for (QueryResult each : windowQueryResults) {
+            Optional<DataNodeWindow> window = loadWindow(each, orderByItem.getIndex(), windowSize, comparator);
+            if (!window.isPresent()) {
+                return Optional.empty();
+            }
+            windows.add(window.get());
+        }
+        QueryResultMetaData metaData = windowQueryResults.get(0).getMetaData();
+        Optional<BigDecimal> boundary = windows.stream().filter(each -> null != each.firstValue).map(each -> each.firstValue).min(comparator);
+        if (!boundary.isPresent()) {
+            return Optional.of(new DeepPaginationQueryResult(metaData, Collections.emptyList()));
+        }
+        String orderByColumn = new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDialectDatabaseMetaData().getQuoteCharacter()
+                .wrap(metaData.getColumnLabel(orderByItem.getIndex()));
+        Optional<BigDecimal> coveredValue = getCoveredValue(windows, comparator);
+        List<ExecutionUnit> seekExecutionUnits = new ArrayList<>(executionUnits.size() * 2);
+        for (int i = 0; i < executionUnits.size(); i++) {
+            seekExecutionUnits.addAll(createSeekExecutionUnits(executionUnits.get(i), orderByColumn, orderByItem, boundary.get(), windows.get(i), coveredValue));
+        }
+        List<QueryResult> seekQueryResults = callback.execute(seekExecutionUnits);
+        if (seekQueryResults.size() != seekExecutionUnits.size()) {
+            return Optional.empty();
+        }
+        long revisedRowCount = paginationContext.getRevisedRowCount(selectStatementContext);
+        List<SeekRow> rows = new LinkedList<>();
+        long boundaryOffset = 0L;
+        Iterator<QueryResult> seekQueryResultIterator = seekQueryResults.iterator();
+        for (DataNodeWindow each : windows) {
+            Optional<Long> beforeBoundaryCount = null == each.firstValue
+                    ? loadEmptyWindowSeekRows(seekQueryResultIterator.next(), seekQueryResultIterator.next(), orderByItem.getIndex(), rows)
+                    : loadSeekRows(seekQueryResultIterator.next(), orderByItem.getIndex(), each, windowOffset, revisedRowCount, comparator, rows);
+            if (!beforeBoundaryCount.isPresent()) {
+                return Optional.empty();
+            }
+            boundaryOffset += beforeBoundaryCount.get();
+        }
+        return pickPage(metaData, rows, coveredValue, offset - boundaryOffset, rowCount, comparator);
+    }
+    
+    private boolean isDeepPagination(final ExecutionContext executionContext, final long minOffset) {
+        if (minOffset <= 0L || executionContext.getExecutionUnits().size() < 2 || !(executionContext.getSqlStatementContext() instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        return paginationContext.isHasPagination() && paginationContext.getOffsetSegment().filter(LimitValueSegment.class::isInstance).isPresent()
+                && paginationContext.getActualRowCount().isPresent() && paginationContext.getActualOffset() >= minOffset
+                && !selectStatementContext.getOrderByContext().isGenerated() && 1 == selectStatementContext.getOrderByContext().getItems().size()
+                && isPlainSelect(selectStatementContext) && isUniqueColumnLabels(selectStatementContext.getProjectionsContext());
+    }
+    
+    private boolean isPlainSelect(final SelectStatementContext selectStatementContext) {
+        return selectStatementContext.getGroupByContext().getItems().isEmpty() && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                && !selectStatementContext.getProjectionsContext().isDistinctRow() && !selectStatementContext.isContainsSubquery() && !selectStatementContext.isContainsCombine()
+                && !SelectStatementHandler.getLockSegment(selectStatementContext.getSqlStatement()).isPresent();
+    }
+    
+    private boolean isUniqueColumnLabels(final ProjectionsContext projectionsContext) {
+        Collection<String> columnLabels = new HashSet<>();
+        for (Projection each : projectionsContext.getProjections()) {
+            Collection<Projection> columns = each instanceof ShorthandProjection ? ((ShorthandProjection) each).getActualColumns() : Collections.singleton(each);
+            if (columns.isEmpty()) {
+                return false;
+            }
+            for (Projection column : columns) {
+                if (!columnLabels.add(column.getColumnLabel().toLowerCase())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private List<ExecutionUnit> groupByDataSource(final Collection<ExecutionUnit> executionUnits) {
+        Map<String, List<ExecutionUnit>> result = new LinkedHashMap<>(executionUnits.size(), 1F);
+        for (ExecutionUnit each : executionUnits) {
+            result.computeIfAbsent(each.getDataSourceName(), unused -> new LinkedList<>()).add(each);
+        }
+        return result.values().stream().flatMap(Collection::stream).collect(Collectors.toList());
+    }
+    
+    private ExecutionUnit createWindowExecutionUnit(final ExecutionUnit executionUnit, final OrderByItem orderByItem, final long windowOffset, final long windowSize) {
+        String nullsOrder = orderByItem.getSegment().getNullsOrderType().map(optional -> " NULLS " + optional.name()).orElse("");
+        String sql = String.format("SELECT * FROM (%s) %s ORDER BY %d %s%s LIMIT %d OFFSET %d", executionUnit.getSqlUnit().getSql(), DERIVED_TABLE_ALIAS,
+                orderByItem.getIndex(), orderByItem.getSegment().getOrderDirection().name(), nullsOrder, windowSize, windowOffset);
+        return createExecutionUnit(executionUnit, sql);
+    }
+    
+    private Optional<BigDecimal> getCoveredValue(final Collection<DataNodeWindow> windows, final Comparator<BigDecimal> comparator) {
+        return windows.stream().filter(each -> !each.exhausted).map(each -> each.lastValue).min(comparator);
+    }
+    
+    private Collection<ExecutionUnit> createSeekExecutionUnits(final ExecutionUnit executionUnit, final String orderByColumn, final OrderByItem orderByItem,
+                                                               final BigDecimal boundary, final DataNodeWindow window, final Optional<BigDecimal> coveredValue) {
+        if (null != window.firstValue) {
+            return Collections.singleton(createSeekExecutionUnit(executionUnit, orderByColumn, boundary, window.lastValue));
+        }
+        // Data node of empty window has no row at window offset, so only rows before boundary are counted and rows after boundary are seeked
+        boolean asc = OrderDirection.ASC == orderByItem.getSegment().getOrderDirection();
+        String countSQL = String.format("SELECT COUNT(*), COUNT(%s.%s) FROM (%s) %s WHERE %s.%s %s %s OR %s.%s IS NULL", DERIVED_TABLE_ALIAS, orderByColumn,
+                executionUnit.getSqlUnit().getSql(), DERIVED_TABLE_ALIAS, DERIVED_TABLE_ALIAS, orderByColumn, asc ? "<" : ">", boundary.toPlainString(), DERIVED_TABLE_ALIAS, orderByColumn);
+        ExecutionUnit seekExecutionUnit = coveredValue.isPresent()
+                ? createSeekExecutionUnit(executionUnit, orderByColumn, boundary, coveredValue.get())
+                : createExecutionUnit(executionUnit, String.format("SELECT * FROM (%s) %s WHERE %s.%s %s %s",
+                        executionUnit.getSqlUnit().getSql(), DERIVED_TABLE_ALIAS, DERIVED_TABLE_ALIAS, orderByColumn, asc ? ">=" : "<=", boundary.toPlainString()));
+        return Arrays.asList(createExecutionUnit(executionUnit, countSQL), seekExecutionUnit);
+    }
+    
+    private ExecutionUnit createSeekExecutionUnit(final ExecutionUnit executionUnit, final String orderByColumn, final BigDecimal boundary, final BigDecimal windowEnd) {
+        BigDecimal lowerValue = boundary.min(windowEnd);
+        BigDecimal upperValue = boundary.max(windowEnd);
+        String sql = String.format("SELECT * FROM (%s) %s WHERE %s.%s BETWEEN %s AND %s", executionUnit.getSqlUnit().getSql(), DERIVED_TABLE_ALIAS,
+                DERIVED_TABLE_ALIAS, orderByColumn, lowerValue.toPlainString(), upperValue.toPlainString());
+        return createExecutionUnit(executionUnit, sql);
+    }
+    
+    private ExecutionUnit createExecutionUnit(final ExecutionUnit executionUnit, final String sql) {
+        return new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sql, executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getTableRouteMappers()));
+    }
+    
+    private Optional<DataNodeWindow> loadWindow(final QueryResult queryResult, final int orderByIndex, final long windowSize, final Comparator<BigDecimal> comparator) throws SQLException {
+        List<BigDecimal> values = new ArrayList<>();
+        while (queryResult.next()) {
+            Optional<BigDecimal> value = toDecimal(queryResult.getValue(orderByIndex, Object.class));
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            values.add(value.get());
+        }
+        if (values.isEmpty()) {
+            return Optional.of(new DataNodeWindow(null, null, 0L, true));
+        }
+        BigDecimal firstValue = values.get(0);
+        BigDecimal lastValue = values.get(values.size() - 1);
+        boolean exhausted = values.size() < windowSize;
+        // Rows equal to the first value may be both before and after the window, so the count of rows before the window is unknown
+        if (!exhausted && 0 == comparator.compare(firstValue, lastValue)) {
+            return Optional.empty();
+        }
+        long firstValueCount = values.stream().filter(each -> 0 == each.compareTo(firstValue)).count();
+        return Optional.of(new DataNodeWindow(firstValue, lastValue, firstValueCount, exhausted));
+    }
+    
+    private Optional<Long> loadEmptyWindowSeekRows(final QueryResult countQueryResult, final QueryResult seekQueryResult, final int orderByIndex, final List<SeekRow> rows) throws SQLException {
+        if (!countQueryResult.next()) {
+            return Optional.empty();
+        }
+        Optional<BigDecimal> count = toDecimal(countQueryResult.getValue(1, Object.class));
+        Optional<BigDecimal> notNullCount = toDecimal(countQueryResult.getValue(2, Object.class));
+        // Null values may be ordered before or after boundary depending on database, so the count of rows before boundary is unknown
+        if (!count.isPresent() || !notNullCount.isPresent() || 0 != count.get().compareTo(notNullCount.get())) {
+            return Optional.empty();
+        }
+        int columnCount = seekQueryResult.getMetaData().getColumnCount();
+        while (seekQueryResult.next()) {
+            List<Object> row = loadRow(seekQueryResult, columnCount);
+            Optional<BigDecimal> value = toDecimal(row.get(orderByIndex - 1));
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            rows.add(new SeekRow(value.get(), new MemoryQueryResultDataRow(row)));
+        }
+        return Optional.of(count.get().longValue());
+    }
+    
+    private Optional<Long> loadSeekRows(final QueryResult queryResult, final int orderByIndex, final DataNodeWindow window,
+                                        final long windowOffset, final long revisedRowCount, final Comparator<BigDecimal> comparator, final List<SeekRow> rows) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        long rowCount = 0L;
+        long beforeWindowCount = 0L;
+        long firstValueCount = 0L;
+        while (queryResult.next()) {
+            rowCount++;
+            List<Object> row = loadRow(queryResult, columnCount);
+            Optional<BigDecimal> value = toDecimal(row.get(orderByIndex - 1));
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            int compareResult = comparator.compare(value.get(), window.firstValue);
+            beforeWindowCount += compareResult < 0 ? 1L : 0L;
+            firstValueCount += 0 == compareResult ? 1L : 0L;
+            rows.add(new SeekRow(value.get(), new MemoryQueryResultDataRow(row)));
+        }
+        long result = windowOffset - beforeWindowCount - (firstValueCount - window.firstValueCount);
+        boolean truncated = result + rowCount >= revisedRowCount;
+        return firstValueCount < window.firstValueCount || result < 0L || truncated ? Optional.empty() : Optional.of(result);
+    }
+    
+    private List<Object> loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            result.add(queryResult.getValue(i, Object.class));
+        }
+        return result;
+    }
+    
+    private Optional<QueryResult> pickPage(final QueryResultMetaData metaData, final List<SeekRow> rows, final Optional<BigDecimal> coveredValue,
+                                           final long skipCount, final long rowCount, final Comparator<BigDecimal> comparator) {
+        List<SeekRow> sortedRows = new ArrayList<>(rows);
+        sortedRows.sort((o1, o2) -> comparator.compare(o1.value, o2.value));
+        long coveredCount = coveredValue.map(optional -> sortedRows.stream().filter(each -> comparator.compare(each.value, optional) <= 0).count()).orElse((long) sortedRows.size());
+        if (skipCount < 0L || coveredValue.isPresent() && skipCount + rowCount > coveredCount) {
+            return Optional.empty();
+        }
+        int fromIndex = (int) Math.min(skipCount, sortedRows.size());
+        int toIndex = (int) Math.min(skipCount + rowCount, sortedRows.size());
+        List<MemoryQueryResultDataRow> result = sortedRows.subList(fromIndex, toIndex).stream().map(each -> each.row).collect(Collectors.toList());
+        return Optional.of(new DeepPaginationQueryResult(metaData, result));
+    }
+    
+    private Optional<BigDecimal> toDecimal(final Object value) {
+        if (value instanceof BigDecimal) {
+            return Optional.of((BigDecimal) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Optional.of(BigDecimal.valueOf(((Number) value).longValue()));
+        }
+        return value instanceof BigInteger ? Optional.of(new BigDecimal((BigInteger) value)) : Optional.empty();
+    }
+    
+    @Override
+    public int getOrder() {
+        return ShardingOrder.ORDER;
+    }
+    
+    @Override
+    public Class<ShardingRule> getTypeClass() {
+        return ShardingRule.class;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class DataNodeWindow {
+        
+        private final BigDecimal firstValue;
+        
+        private final BigDecimal lastValue;
+        
+        private final long firstValueCount;
+        
+        private final boolean exhausted;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SeekRow {
+        
+        private final BigDecimal value;
+        
+        private final MemoryQueryResultDataRow row;
+    }
+}
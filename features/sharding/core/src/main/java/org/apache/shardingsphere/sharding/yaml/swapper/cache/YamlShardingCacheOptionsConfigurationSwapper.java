@@ -32,11 +32,12 @@ public final class YamlShardingCacheOptionsConfigurationSwapper implements YamlC
         result.setSoftValues(data.isSoftValues());
         result.setInitialCapacity(data.getInitialCapacity());
         result.setMaximumSize(data.getMaximumSize());
+        result.setExpireAfterAccessMillis(data.getExpireAfterAccessMillis());
         return result;
     }
     
     @Override
     public ShardingCacheOptionsConfiguration swapToObject(final YamlShardingCacheOptionsConfiguration yamlConfig) {
-        return new ShardingCacheOptionsConfiguration(yamlConfig.isSoftValues(), yamlConfig.getInitialCapacity(), yamlConfig.getMaximumSize());
+        return new ShardingCacheOptionsConfiguration(yamlConfig.isSoftValues(), yamlConfig.getInitialCapacity(), yamlConfig.getMaximumSize(), yamlConfig.getExpireAfterAccessMillis());
     }
 }
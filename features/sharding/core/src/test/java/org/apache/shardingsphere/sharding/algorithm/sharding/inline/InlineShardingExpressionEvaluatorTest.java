@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.lang.MissingMethodException;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class InlineShardingExpressionEvaluatorTest {
+    
+    private static final Collection<Comparable<?>> VALUES = Arrays.asList(0, 7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 3000000000L, -3000000000L, Long.MAX_VALUE,
+            (short) 5, (byte) -3, "foo", BigInteger.TEN, new BigDecimal("1.5"));
+    
+    @Test
+    void assertIsCompiled() {
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_id % 4}").isCompiled(), is(true));
+        assertThat(new InlineShardingExpressionEvaluator("ds_${(user_id + 1) * 2 % 16}_${order_id}").isCompiled(), is(true));
+        assertThat(new InlineShardingExpressionEvaluator("t_order").isCompiled(), is(true));
+    }
+    
+    @Test
+    void assertIsNotCompiled() {
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${(order_id % 4).abs()}").isCompiled(), is(false));
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_id / 4}").isCompiled(), is(false));
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_id.hashCode() % 4}").isCompiled(), is(false));
+        assertThat(new InlineShardingExpressionEvaluator("t_order_$order_id").isCompiled(), is(false));
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${it}").isCompiled(), is(false));
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_id % 100000000000000000000}").isCompiled(), is(false));
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_id % 010}").isCompiled(), is(false));
+        assertThat(new InlineShardingExpressionEvaluator("<GROOVY>t_order_${order_id % 4}").isCompiled(), is(false));
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertEvaluateSameAsGroovy(final String expression) {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator(expression);
+        for (Comparable<?> each : VALUES) {
+            Map<String, Comparable<?>> variables = new HashMap<>(2, 1F);
+            variables.put("order_id", each);
+            variables.put("user_id", 3);
+            assertThat(evaluate(() -> evaluator.evaluate(variables)), is(evaluate(() -> evaluateGroovy(expression, variables))));
+        }
+    }
+    
+    @Test
+    void assertEvaluateWithMissingVariable() {
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_id}").evaluate("user_id", 1), is("t_order_null"));
+    }
+    
+    private String evaluate(final Supplier<String> evaluator) {
+        try {
+            return evaluator.get();
+        } catch (final MissingMethodException ex) {
+            return ex.getClass().getName();
+        }
+    }
+    
+    private String evaluateGroovy(final String expression, final Map<String, Comparable<?>> variables) {
+        Closure<?> closure = InlineExpressionParserFactory.newInstance(expression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, Comparable<?>> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    private static class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            return Stream.of(Arguments.of("t_order_${order_id}"), Arguments.of("t_order_${ order_id }_${user_id}"), Arguments.of("ds_${user_id % 2}.t_order_${user_id + 1}"),
+                    Arguments.of("t_order_${order_id % 4}"), Arguments.of("t_order_${order_id * 3 - 1}"), Arguments.of("t_order_${(order_id + user_id) % 16}"),
+                    Arguments.of("t_order_${order_id * 2 + user_id * 3000000000 % 7}"), Arguments.of("t_order_${order_id + 2147483647}"),
+                    Arguments.of("t_order_${order_id % 010}"), Arguments.of("t_order_${order_id * 0 + 0}"));
+        }
+    }
+}
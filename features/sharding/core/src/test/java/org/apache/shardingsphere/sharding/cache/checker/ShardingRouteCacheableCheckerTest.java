@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.cache.checker;
 
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
@@ -48,6 +49,7 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.timeservice.api.config.TimestampServiceRuleConfiguration;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -65,6 +67,8 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ShardingRouteCacheableCheckerTest {
@@ -84,6 +88,18 @@ class ShardingRouteCacheableCheckerTest {
         assertThat(actual.getShardingConditionParameterMarkerIndexes(), is(expectedShardingConditionParameterMarkerIndexes));
     }
     
+    @Test
+    void assertCheckBatchInsertNotCacheable() {
+        ShardingRule shardingRule = createShardingRule();
+        ShardingSphereDatabase database = createDatabase(shardingRule, createTimeServiceRule());
+        QueryContext queryContext = createQueryContext(database, "insert into t_warehouse (id) values (?)", Collections.singletonList(1));
+        List<Object> params = ((InsertStatementContext) queryContext.getSqlStatementContext()).setUpBatchParameters(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2)));
+        QueryContext batchQueryContext = new QueryContext(queryContext.getSqlStatementContext(), queryContext.getSql(), params);
+        ShardingRouteCacheableCheckResult actual = new ShardingRouteCacheableChecker(shardingRule.getShardingCache()).check(database, batchQueryContext);
+        assertFalse(actual.isProbablyCacheable());
+        assertTrue(actual.getShardingConditionParameterMarkerIndexes().isEmpty());
+    }
+    
     private ShardingRule createShardingRule() {
         ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
         ruleConfig.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", "t_order,t_order_item"));
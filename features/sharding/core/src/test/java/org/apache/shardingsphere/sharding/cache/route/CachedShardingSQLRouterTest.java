@@ -32,6 +32,7 @@ import org.apache.shardingsphere.sharding.cache.route.CachedShardingSQLRouter.Or
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteUncacheableReason;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -47,6 +48,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -65,8 +67,10 @@ class CachedShardingSQLRouterTest {
     void assertCreateRouteContextWithSQLExceedMaxAllowedLength() {
         when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(1, null));
         QueryContext queryContext = new QueryContext(sqlStatementContext, "select 1", Collections.emptyList());
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
         Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(null, queryContext, mock(RuleMetaData.class), null, shardingCache, null, null);
         assertFalse(actual.isPresent());
+        verify(shardingCache.getRouteCache()).recordUncacheable(ShardingRouteUncacheableReason.SQL_TOO_LONG);
     }
     
     @Test
@@ -75,8 +79,10 @@ class CachedShardingSQLRouterTest {
         when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
         when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
         when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(false, Collections.emptyList()));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
         Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(null, queryContext, mock(RuleMetaData.class), null, shardingCache, null, null);
         assertFalse(actual.isPresent());
+        verify(shardingCache.getRouteCache()).recordUncacheable(ShardingRouteUncacheableReason.UNSUPPORTED_STATEMENT);
     }
     
     @Test
@@ -85,8 +91,10 @@ class CachedShardingSQLRouterTest {
         when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
         when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
         when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.singletonList(1)));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
         Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(null, queryContext, mock(RuleMetaData.class), null, shardingCache, null, null);
         assertFalse(actual.isPresent());
+        verify(shardingCache.getRouteCache()).recordUncacheable(ShardingRouteUncacheableReason.PARAMETER_MISSING);
     }
     
     @Test
@@ -105,6 +113,7 @@ class CachedShardingSQLRouterTest {
         assertTrue(actual.isPresent());
         assertThat(actual.get(), is(expected));
         verify(shardingCache.getRouteCache()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+        verify(shardingCache.getRouteCache()).recordRouteTime(anyLong());
     }
     
     @Test
@@ -142,5 +151,6 @@ class CachedShardingSQLRouterTest {
         assertTrue(actual.isPresent());
         assertThat(actual.get(), is(expected));
         verify(shardingCache.getRouteCache(), never()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+        verify(shardingCache.getRouteCache()).recordUncacheable(ShardingRouteUncacheableReason.MULTIPLE_DATA_NODES);
     }
 }
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +38,22 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertGetStats() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1, 60000L));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        cache.get(key);
+        cache.recordRouteTime(100L);
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        cache.get(key);
+        cache.recordUncacheable(ShardingRouteUncacheableReason.MULTIPLE_DATA_NODES);
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+        assertThat(cache.getStats().loadSuccessCount(), is(1L));
+        assertThat(cache.getStats().totalLoadTime(), is(100L));
+        assertThat(cache.getEstimatedSize(), is(1L));
+        assertThat(cache.getUncacheableCount(ShardingRouteUncacheableReason.MULTIPLE_DATA_NODES), is(1L));
+        assertThat(cache.getUncacheableCount(ShardingRouteUncacheableReason.SQL_TOO_LONG), is(0L));
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillableMergedResultTest {
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        assertNext(merge(1, createQueryResult(1, 5), createQueryResult(3, 7), createQueryResult(0, -1)));
+    }
+    
+    @Test
+    void assertNextWithoutSpill() throws SQLException {
+        assertNext(merge(100, createQueryResult(1, 5), createQueryResult(3, 7), createQueryResult(0, -1)));
+    }
+    
+    @Test
+    void assertNextWithNotSerializableValue() throws SQLException, IOException {
+        Collection<Path> expected = listSpillFiles();
+        assertNext(merge(1, createQueryResult(1, 5, "foo"), createQueryResult(3, 7, new Object()), createQueryResult(0, -1)));
+        assertThat(listSpillFiles(), is(expected));
+    }
+    
+    private void assertNext(final MergedResult actual) throws SQLException {
+        assertThat(actual, instanceOf(GroupBySpillableMergedResult.class));
+        for (int id = 7; id > 0; id--) {
+            int count = id >= 3 && id <= 5 ? 2 : 1;
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(id * 10));
+            assertThat(actual.getValue(3, Object.class), is(id));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(count)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(id * 10 * count)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private MergedResult merge(final int maxMemoryGroups, final QueryResult... queryResults) throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"),
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_GROUPS.getKey(), String.valueOf(maxMemoryGroups)))));
+        return resultMerger.merge(Arrays.asList(queryResults), createSelectStatementContext(), mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(ConnectionContext.class));
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        GroupBySpillableMergedResult actual = new GroupBySpillableMergedResult(Arrays.asList(createQueryResult(0, -1), createQueryResult(0, -1)),
+                createSelectStatementContext(), mock(ShardingSphereSchema.class), 1);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertCloseDeletesSpillFiles() throws SQLException, IOException {
+        Collection<Path> expected = listSpillFiles();
+        MergedResult actual = merge(1, createQueryResult(1, 5), createQueryResult(3, 7));
+        assertTrue(actual.next());
+        assertThat(listSpillFiles().size(), greaterThan(expected.size()));
+        actual.close();
+        assertThat(listSpillFiles(), is(expected));
+    }
+    
+    @Test
+    void assertSpillFilesDeletedWhenMergeFailed() throws SQLException, IOException {
+        Collection<Path> expected = listSpillFiles();
+        QueryResult failedQueryResult = createQueryResult(3, 7);
+        AtomicInteger nextCount = new AtomicInteger();
+        when(failedQueryResult.next()).thenAnswer(invocation -> {
+            if (nextCount.incrementAndGet() > 3) {
+                throw new SQLException("Connection reset");
+            }
+            return true;
+        });
+        assertThrows(SQLException.class, () -> merge(1, createQueryResult(1, 5), failedQueryResult));
+        assertThat(listSpillFiles(), is(expected));
+    }
+    
+    private Collection<Path> listSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).collect(Collectors.toSet());
+        }
+    }
+    
+    private QueryResult createQueryResult(final int startId, final int endId) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger currentId = new AtomicInteger(startId - 1);
+        when(result.next()).thenAnswer(invocation -> currentId.incrementAndGet() <= endId);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> getValue(invocation.getArgument(0), currentId.get()));
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final int startId, final int endId, final Object attachment) throws SQLException {
+        QueryResult result = createQueryResult(startId, endId);
+        when(result.getMetaData().getColumnCount()).thenReturn(6);
+        when(result.getValue(6, Object.class)).thenReturn(attachment);
+        return result;
+    }
+    
+    private Object getValue(final int columnIndex, final int id) {
+        switch (columnIndex) {
+            case 1:
+            case 4:
+                return 1;
+            case 2:
+            case 5:
+                return id * 10;
+            default:
+                return id;
+        }
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ResourceMetaData.class),
+                mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        return new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+}
@@ -19,10 +19,12 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class AccumulationAggregationUnitTest {
     
@@ -36,4 +38,29 @@ class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    void assertAccumulationAggregationWithLongOverflow() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(2));
+        assertThat(accumulationAggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.valueOf(2L))));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithDecimalValues() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("1.25")));
+        accumulationAggregationUnit.merge(Collections.singletonList(0.5D));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("2.75")));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithoutValue() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(null));
+        assertNull(accumulationAggregationUnit.getResult());
+    }
 }
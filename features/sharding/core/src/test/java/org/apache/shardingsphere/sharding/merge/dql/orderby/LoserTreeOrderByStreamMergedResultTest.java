@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoserTreeOrderByStreamMergedResultTest {
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private ShardingDQLResultMerger resultMerger;
+    
+    @BeforeEach
+    void setUp() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        SimpleTableSegment tableSegment = new SimpleTableSegment(new TableNameSegment(10, 13, new IdentifierValue("tbl")));
+        selectStatement.setFrom(tableSegment);
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Arrays.asList(
+                new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST),
+                new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST))));
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        ShardingSphereDatabase database = mockDatabase();
+        selectStatementContext = new SelectStatementContext(
+                createShardingSphereMetaData(database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"),
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.LOSER_TREE_ORDER_BY_MERGE_ENABLED.getKey(), Boolean.TRUE.toString()))));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData().findRules(TableContainedRule.class)).thenReturn(Collections.emptyList());
+        return result;
+    }
+    
+    private ShardingSphereMetaData createShardingSphereMetaData(final ShardingSphereDatabase database) {
+        return new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ResourceMetaData.class),
+                mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class, RETURNS_DEEP_STUBS), mock(QueryResult.class, RETURNS_DEEP_STUBS), mock(QueryResult.class, RETURNS_DEEP_STUBS));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(LoserTreeOrderByStreamMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForSingleResultSet() throws SQLException {
+        List<QueryResult> queryResults = Collections.singletonList(mockQueryResult());
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn(1, 1, 2, 2);
+        MergedResult actual = new LoserTreeOrderByStreamMergedResult(queryResults, selectStatementContext, createDatabase().getSchema(DefaultDatabase.LOGIC_NAME));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForMix() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult(), mockQueryResult(), mockQueryResult());
+        when(queryResults.get(0).next()).thenReturn(true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn(2L, 2L);
+        when(queryResults.get(1).next()).thenReturn(true, true, true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn(1, 1, 3, 3, 5, 5);
+        when(queryResults.get(3).next()).thenReturn(true, true, false);
+        when(queryResults.get(3).getValue(1, Object.class)).thenReturn(4L, 4L, 6L, 6L);
+        when(queryResults.get(4).next()).thenReturn(true, false);
+        when(queryResults.get(4).getValue(1, Object.class)).thenReturn(0, 0);
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (long each = 0L; each <= 6L; each++) {
+            assertTrue(actual.next());
+            assertThat(((Number) actual.getValue(1, Object.class)).longValue(), is(each));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForSecondOrderByItemDesc() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult());
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn(1, 2);
+        when(queryResults.get(0).getValue(2, Object.class)).thenReturn("c", "c", "a", "a");
+        when(queryResults.get(1).next()).thenReturn(true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn(1);
+        when(queryResults.get(1).getValue(2, Object.class)).thenReturn("B", "B");
+        when(queryResults.get(2).next()).thenReturn(true, false);
+        when(queryResults.get(2).getValue(1, Object.class)).thenReturn(1);
+        when(queryResults.get(2).getValue(2, Object.class)).thenReturn(null, null);
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is("c"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is("B"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is("a"));
+        assertFalse(actual.next());
+    }
+    
+    private QueryResult mockQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnName(1)).thenReturn("col1");
+        when(metaData.getColumnName(2)).thenReturn("col2");
+        return result;
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        ShardingSphereColumn column1 = new ShardingSphereColumn("col1", 0, false, false, true, true, false, false);
+        ShardingSphereColumn column2 = new ShardingSphereColumn("col2", 0, false, false, false, true, false, false);
+        ShardingSphereTable table = new ShardingSphereTable("tbl", Arrays.asList(column1, column2), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("tbl", table), Collections.emptyMap());
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME,
+                TypedSPILoader.getService(DatabaseType.class, "MySQL"), mock(ResourceMetaData.class), mock(RuleMetaData.class),
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, schema));
+    }
+}
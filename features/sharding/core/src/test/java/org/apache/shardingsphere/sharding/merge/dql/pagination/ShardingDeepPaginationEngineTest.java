@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingDeepPaginationEngineTest {
+    
+    private static final Pattern WINDOW_PATTERN = Pattern.compile("LIMIT (\\d+) OFFSET (\\d+)$");
+    
+    private static final Pattern SEEK_PATTERN = Pattern.compile("BETWEEN (-?\\d+) AND (-?\\d+)$");
+    
+    private static final Pattern COUNT_PATTERN = Pattern.compile("^SELECT COUNT.* ([<>]) (-?\\d+) OR .* IS NULL$");
+    
+    @Test
+    void assertExecuteWithEvenDataNodes() throws SQLException {
+        Map<String, List<Long>> dataNodes = new LinkedHashMap<>();
+        dataNodes.put("ds_0", range(0L, 300L, 3L));
+        dataNodes.put("ds_1", range(1L, 300L, 3L));
+        dataNodes.put("ds_2", range(2L, 300L, 3L));
+        assertExecute(dataNodes, 100L, 10L, OrderDirection.ASC);
+    }
+    
+    @Test
+    void assertExecuteWithUnevenRowCounts() throws SQLException {
+        Map<String, List<Long>> dataNodes = new LinkedHashMap<>();
+        dataNodes.put("ds_0", range(0L, 900L, 3L));
+        dataNodes.put("ds_1", range(1L, 600L, 3L));
+        dataNodes.put("ds_2", range(2L, 1200L, 3L));
+        assertExecute(dataNodes, 120L, 7L, OrderDirection.ASC);
+    }
+    
+    @Test
+    void assertExecuteWithDuplicatedValues() throws SQLException {
+        Map<String, List<Long>> dataNodes = new LinkedHashMap<>();
+        dataNodes.put("ds_0", range(0L, 300L, 1L).stream().map(each -> each / 3L).collect(Collectors.toList()));
+        dataNodes.put("ds_1", range(1L, 301L, 1L).stream().map(each -> each / 3L).collect(Collectors.toList()));
+        assertExecute(dataNodes, 150L, 20L, OrderDirection.ASC);
+    }
+    
+    @Test
+    void assertExecuteWithDescendingOrder() throws SQLException {
+        Map<String, List<Long>> dataNodes = new LinkedHashMap<>();
+        dataNodes.put("ds_0", range(0L, 300L, 3L));
+        dataNodes.put("ds_1", range(1L, 300L, 3L));
+        dataNodes.put("ds_2", range(2L, 300L, 3L));
+        assertExecute(dataNodes, 50L, 10L, OrderDirection.DESC);
+    }
+    
+    @Test
+    void assertExecuteWithSkewedDataNodes() throws SQLException {
+        Map<String, List<Long>> dataNodes = new LinkedHashMap<>();
+        dataNodes.put("ds_0", range(0L, 200L, 1L));
+        dataNodes.put("ds_1", range(500L, 520L, 1L));
+        dataNodes.put("ds_2", Collections.emptyList());
+        assertFalse(new ShardingDeepPaginationEngine().execute(createExecutionContext(dataNodes, 100L, 10L, OrderDirection.ASC), mock(ShardingRule.class), createProperties(1L),
+                executionUnits -> execute(dataNodes, executionUnits, 110L, Comparator.naturalOrder())).isPresent());
+    }
+    
+    @Test
+    void assertExecuteWithEmptyWindowDataNode() throws SQLException {
+        Map<String, List<Long>> dataNodes = new LinkedHashMap<>();
+        dataNodes.put("ds_0", range(0L, 600L, 2L));
+        dataNodes.put("ds_1", range(1L, 600L, 2L));
+        dataNodes.put("ds_2", range(0L, 48L, 1L));
+        Collection<String> executedSQLs = new LinkedList<>();
+        Optional<QueryResult> actual = new ShardingDeepPaginationEngine().execute(createExecutionContext(dataNodes, 150L, 10L, OrderDirection.ASC), mock(ShardingRule.class),
+                createProperties(1L), executionUnits -> {
+                    executionUnits.forEach(each -> executedSQLs.add(each.getSqlUnit().getSql()));
+                    return execute(dataNodes, executionUnits, 160L, Comparator.naturalOrder());
+                });
+        assertTrue(actual.isPresent());
+        List<Long> actualValues = new LinkedList<>();
+        while (actual.get().next()) {
+            actualValues.add((Long) actual.get().getValue(1, Object.class));
+        }
+        assertThat(actualValues, is(dataNodes.values().stream().flatMap(Collection::stream).sorted().skip(150L).limit(10L).collect(Collectors.toList())));
+        assertTrue(executedSQLs.stream().anyMatch(each -> each.startsWith("SELECT COUNT(*)")));
+        assertFalse(executedSQLs.stream().anyMatch(each -> each.startsWith("SELECT id, name FROM t_order")));
+    }
+    
+    @Test
+    void assertExecuteWithPageAfterAllRows() throws SQLException {
+        Map<String, List<Long>> dataNodes = new LinkedHashMap<>();
+        dataNodes.put("ds_0", range(0L, 20L, 1L));
+        dataNodes.put("ds_1", range(0L, 20L, 1L));
+        assertExecute(dataNodes, 100L, 10L, OrderDirection.ASC);
+    }
+    
+    @Test
+    void assertExecuteWithSmallOffset() throws SQLException {
+        Map<String, List<Long>> dataNodes = new LinkedHashMap<>();
+        dataNodes.put("ds_0", range(0L, 20L, 1L));
+        dataNodes.put("ds_1", range(0L, 20L, 1L));
+        AtomicInteger executeCount = new AtomicInteger();
+        Optional<QueryResult> actual = new ShardingDeepPaginationEngine()
+                .execute(createExecutionContext(dataNodes, 10L, 10L, OrderDirection.ASC), mock(ShardingRule.class), createProperties(100L), executionUnits -> {
+                    executeCount.incrementAndGet();
+                    return Collections.emptyList();
+                });
+        assertFalse(actual.isPresent());
+        assertThat(executeCount.get(), is(0));
+    }
+    
+    private void assertExecute(final Map<String, List<Long>> dataNodes, final long offset, final long rowCount, final OrderDirection orderDirection) throws SQLException {
+        Comparator<Long> comparator = OrderDirection.ASC == orderDirection ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        Optional<QueryResult> actual = new ShardingDeepPaginationEngine().execute(createExecutionContext(dataNodes, offset, rowCount, orderDirection), mock(ShardingRule.class),
+                createProperties(1L), executionUnits -> execute(dataNodes, executionUnits, offset + rowCount, comparator));
+        assertTrue(actual.isPresent());
+        List<Long> expected = dataNodes.values().stream().flatMap(Collection::stream).sorted(comparator).skip(offset).limit(rowCount).collect(Collectors.toList());
+        List<Long> actualValues = new LinkedList<>();
+        while (actual.get().next()) {
+            actualValues.add((Long) actual.get().getValue(1, Object.class));
+        }
+        assertThat(actualValues, is(expected));
+    }
+    
+    private List<QueryResult> execute(final Map<String, List<Long>> dataNodes, final Collection<ExecutionUnit> executionUnits, final long revisedRowCount, final Comparator<Long> comparator) {
+        List<QueryResult> result = new ArrayList<>(executionUnits.size());
+        for (ExecutionUnit each : executionUnits) {
+            List<Long> rows = dataNodes.get(each.getDataSourceName()).stream().sorted(comparator).limit(revisedRowCount).collect(Collectors.toList());
+            String sql = each.getSqlUnit().getSql();
+            Matcher windowMatcher = WINDOW_PATTERN.matcher(sql);
+            Matcher seekMatcher = SEEK_PATTERN.matcher(sql);
+            Matcher countMatcher = COUNT_PATTERN.matcher(sql);
+            if (countMatcher.find()) {
+                long boundary = Long.parseLong(countMatcher.group(2));
+                long count = rows.stream().filter(value -> "<".equals(countMatcher.group(1)) ? value < boundary : value > boundary).count();
+                result.add(new DeepPaginationQueryResult(createQueryResultMetaData(), Collections.singletonList(new MemoryQueryResultDataRow(Arrays.asList(count, count)))));
+                continue;
+            }
+            if (windowMatcher.find()) {
+                rows = rows.stream().skip(Long.parseLong(windowMatcher.group(2))).limit(Long.parseLong(windowMatcher.group(1))).collect(Collectors.toList());
+            } else if (seekMatcher.find()) {
+                long lowerValue = Long.parseLong(seekMatcher.group(1));
+                long upperValue = Long.parseLong(seekMatcher.group(2));
+                rows = rows.stream().filter(value -> value >= lowerValue && value <= upperValue).collect(Collectors.toList());
+            }
+            result.add(new DeepPaginationQueryResult(createQueryResultMetaData(),
+                    rows.stream().map(value -> new MemoryQueryResultDataRow(Arrays.asList(value, "name_" + value))).collect(Collectors.toList())));
+        }
+        return result;
+    }
+    
+    private QueryResultMetaData createQueryResultMetaData() {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        try {
+            when(result.getColumnCount()).thenReturn(2);
+            when(result.getColumnLabel(1)).thenReturn("id");
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return result;
+    }
+    
+    private ConfigurationProperties createProperties(final long minOffset) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.DEEP_PAGINATION_MIN_OFFSET.getKey(), String.valueOf(minOffset))));
+    }
+    
+    private ExecutionContext createExecutionContext(final Map<String, List<Long>> dataNodes, final long offset, final long rowCount, final OrderDirection orderDirection) {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(offset, rowCount, orderDirection);
+        Collection<ExecutionUnit> executionUnits = dataNodes.keySet().stream()
+                .map(each -> new ExecutionUnit(each, new SQLUnit("SELECT id, name FROM t_order ORDER BY id LIMIT 0, " + (offset + rowCount), Collections.emptyList()))).collect(Collectors.toList());
+        return new ExecutionContext(new QueryContext(selectStatementContext, "", Collections.emptyList()), executionUnits, new RouteContext());
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final long offset, final long rowCount, final OrderDirection orderDirection) {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new ColumnProjectionSegment(new ColumnSegment(0, 0, new IdentifierValue("id"))));
+        projectionsSegment.getProjections().add(new ColumnProjectionSegment(new ColumnSegment(0, 0, new IdentifierValue("name"))));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, orderDirection, null))));
+        selectStatement.setLimit(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, offset), new NumberLiteralLimitValueSegment(0, 0, rowCount)));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ResourceMetaData.class),
+                mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        return new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private List<Long> range(final long startInclusive, final long endExclusive, final long step) {
+        return LongStream.range(0L, (endExclusive - startInclusive + step - 1L) / step).map(each -> startInclusive + each * step).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.handler.query;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.distsql.handler.query.RQLExecutor;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteUncacheableReason;
+import org.apache.shardingsphere.sharding.distsql.statement.ShowShardingRouteCacheStatusStatement;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Show sharding route cache status executor.
+ */
+public final class ShowShardingRouteCacheStatusExecutor implements RQLExecutor<ShowShardingRouteCacheStatusStatement> {
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShardingSphereDatabase database, final ShowShardingRouteCacheStatusStatement sqlStatement) {
+        Optional<ShardingCache> shardingCache = database.getRuleMetaData().findSingleRule(ShardingRule.class).map(ShardingRule::getShardingCache);
+        return shardingCache.map(optional -> Collections.singleton(buildRow(optional.getRouteCache()))).orElse(Collections.emptySet());
+    }
+    
+    private LocalDataQueryResultRow buildRow(final ShardingRouteCache routeCache) {
+        CacheStats stats = routeCache.getStats();
+        return new LocalDataQueryResultRow(routeCache.getEstimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), (long) stats.averageLoadPenalty(),
+                routeCache.getUncacheableCount(ShardingRouteUncacheableReason.SQL_TOO_LONG), routeCache.getUncacheableCount(ShardingRouteUncacheableReason.UNSUPPORTED_STATEMENT),
+                routeCache.getUncacheableCount(ShardingRouteUncacheableReason.PARAMETER_MISSING), routeCache.getUncacheableCount(ShardingRouteUncacheableReason.MULTIPLE_DATA_NODES));
+    }
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("estimated_size", "hit_count", "miss_count", "hit_rate", "eviction_count", "average_route_nanos",
+                "sql_too_long_count", "unsupported_statement_count", "parameter_missing_count", "multiple_data_nodes_count");
+    }
+    
+    @Override
+    public Class<ShowShardingRouteCacheStatusStatement> getType() {
+        return ShowShardingRouteCacheStatusStatement.class;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.query;
+
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteUncacheableReason;
+import org.apache.shardingsphere.sharding.distsql.handler.query.ShowShardingRouteCacheStatusExecutor;
+import org.apache.shardingsphere.sharding.distsql.statement.ShowShardingRouteCacheStatusStatement;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowShardingRouteCacheStatusExecutorTest {
+    
+    @Test
+    void assertGetRowData() {
+        ShardingRouteCache routeCache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        routeCache.get(key);
+        routeCache.recordRouteTime(100L);
+        routeCache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        routeCache.get(key);
+        routeCache.recordUncacheable(ShardingRouteUncacheableReason.SQL_TOO_LONG);
+        ShardingRule shardingRule = mock(ShardingRule.class, RETURNS_DEEP_STUBS);
+        when(shardingRule.getShardingCache().getRouteCache()).thenReturn(routeCache);
+        Collection<LocalDataQueryResultRow> actual = new ShowShardingRouteCacheStatusExecutor().getRows(mockDatabase(shardingRule), mock(ShowShardingRouteCacheStatusStatement.class));
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is(1L));
+        assertThat(row.getCell(2), is(1L));
+        assertThat(row.getCell(3), is(1L));
+        assertThat(row.getCell(4), is(0.5D));
+        assertThat(row.getCell(5), is(0L));
+        assertThat(row.getCell(6), is(100L));
+        assertThat(row.getCell(7), is(1L));
+        assertThat(row.getCell(8), is(0L));
+        assertThat(row.getCell(9), is(0L));
+        assertThat(row.getCell(10), is(0L));
+    }
+    
+    @Test
+    void assertGetRowDataWithoutShardingCache() {
+        Collection<LocalDataQueryResultRow> actual = new ShowShardingRouteCacheStatusExecutor().getRows(mockDatabase(mock(ShardingRule.class)), mock(ShowShardingRouteCacheStatusStatement.class));
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertGetColumns() {
+        Collection<String> columns = new ShowShardingRouteCacheStatusExecutor().getColumnNames();
+        assertThat(columns.size(), is(10));
+        Iterator<String> iterator = columns.iterator();
+        assertThat(iterator.next(), is("estimated_size"));
+        assertThat(iterator.next(), is("hit_count"));
+        assertThat(iterator.next(), is("miss_count"));
+        assertThat(iterator.next(), is("hit_rate"));
+        assertThat(iterator.next(), is("eviction_count"));
+        assertThat(iterator.next(), is("average_route_nanos"));
+        assertThat(iterator.next(), is("sql_too_long_count"));
+        assertThat(iterator.next(), is("unsupported_statement_count"));
+        assertThat(iterator.next(), is("parameter_missing_count"));
+        assertThat(iterator.next(), is("multiple_data_nodes_count"));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final ShardingRule shardingRule) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.singleton(shardingRule)));
+        return result;
+    }
+}
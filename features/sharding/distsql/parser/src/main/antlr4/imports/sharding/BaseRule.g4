@@ -65,22 +65,30 @@ property
     : key=STRING_ EQ_ value=literal
     ;
 
+identifier
+    : IDENTIFIER_ | unreservedWord
+    ;
+
+unreservedWord
+    : ROUTE | CACHE | STATUS
+    ;
+
 tableName
-    : IDENTIFIER_
+    : identifier
     ;
 
 shardingAlgorithmName
-    : IDENTIFIER_
+    : identifier
     ;
 
 keyGeneratorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 auditorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 ruleName
-    : IDENTIFIER_
+    : identifier
     ;
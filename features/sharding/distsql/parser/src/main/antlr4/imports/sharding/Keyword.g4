@@ -147,6 +147,18 @@ NODES
     : N O D E S
     ;
 
+ROUTE
+    : R O U T E
+    ;
+
+CACHE
+    : C A C H E
+    ;
+
+STATUS
+    : S T A T U S
+    ;
+
 KEY
     : K E Y
     ;
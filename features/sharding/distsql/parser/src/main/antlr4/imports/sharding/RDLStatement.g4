@@ -160,7 +160,7 @@ auditAllowHintDisable
     ;
 
 columnName
-    : IDENTIFIER_
+    : identifier
     ;
 
 tableReferenceRuleDefinition
@@ -39,6 +39,10 @@ showShardingTableNodes
     : SHOW SHARDING TABLE NODES tableName? (FROM databaseName)?
     ;
 
+showShardingRouteCacheStatus
+    : SHOW SHARDING ROUTE CACHE STATUS (FROM databaseName)?
+    ;
+
 showShardingKeyGenerators
     : SHOW SHARDING KEY GENERATORS (FROM databaseName)?
     ;
@@ -80,5 +84,5 @@ tableRule
     ;
 
 databaseName
-    : IDENTIFIER_
+    : identifier
     ;
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.binder.context.statement.dml;
 
+import com.google.common.base.Preconditions;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
 import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
@@ -42,6 +43,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.Se
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.OnDuplicateKeyColumnsSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.subquery.SubquerySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
@@ -207,8 +209,7 @@ public final class InsertStatementContext extends CommonSQLStatementContext impl
      * @return value list count
      */
     public int getValueListCount() {
-        InsertStatement insertStatement = getSqlStatement();
-        return InsertStatementHandler.getSetAssignmentSegment(insertStatement).isPresent() ? 1 : insertStatement.getValues().size();
+        return insertValueContexts.size();
     }
     
     /**
@@ -278,4 +279,45 @@ public final class InsertStatementContext extends CommonSQLStatementContext impl
         ShardingSphereSchema schema = getSchema(metaData, defaultDatabaseName);
         generatedKeyContext = new GeneratedKeyContextEngine(getSqlStatement(), schema).createGenerateKeyContext(insertColumnNames, valueExpressions, params).orElse(null);
     }
+    
+    /**
+     * Set up parameters of a batch for single row insert values.
+     * 
+     * <p>Each parameter set is bound to its own copy of the value list, as if the rows were written in one multi-row insert statement.</p>
+     *
+     * @param paramSets parameter sets of single row insert values
+     * @return flattened parameters of all rows
+     */
+    public List<Object> setUpBatchParameters(final List<List<Object>> paramSets) {
+        Preconditions.checkState(1 == valueExpressions.size(), "Only single row insert values can be set up with batch parameters.");
+        List<List<ExpressionSegment>> batchValueExpressions = new ArrayList<>(paramSets.size());
+        List<Object> result = new ArrayList<>(paramSets.size() * paramSets.get(0).size());
+        for (List<Object> each : paramSets) {
+            batchValueExpressions.add(shiftParameterMarkers(valueExpressions.get(0), result.size()));
+            result.addAll(each);
+        }
+        insertValueContexts = getInsertValueContexts(result, new AtomicInteger(0), batchValueExpressions);
+        insertSelectContext = null;
+        onDuplicateKeyUpdateValueContext = null;
+        ShardingSphereSchema schema = getSchema(metaData, defaultDatabaseName);
+        generatedKeyContext = new GeneratedKeyContextEngine(getSqlStatement(), schema).createGenerateKeyContext(insertColumnNames, batchValueExpressions, result).orElse(null);
+        return result;
+    }
+    
+    private List<ExpressionSegment> shiftParameterMarkers(final List<ExpressionSegment> expressions, final int paramsOffset) {
+        if (0 == paramsOffset) {
+            return expressions;
+        }
+        List<ExpressionSegment> result = new ArrayList<>(expressions.size());
+        for (ExpressionSegment each : expressions) {
+            if (each instanceof ParameterMarkerExpressionSegment) {
+                ParameterMarkerExpressionSegment paramMarker = (ParameterMarkerExpressionSegment) each;
+                result.add(new ParameterMarkerExpressionSegment(
+                        paramMarker.getStartIndex(), paramMarker.getStopIndex(), paramMarker.getParameterMarkerIndex() + paramsOffset, paramMarker.getParameterMarkerType()));
+            } else {
+                result.add(each);
+            }
+        }
+        return result;
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.binder.context.statement.dml;
 
+import org.apache.shardingsphere.infra.binder.context.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -339,6 +340,26 @@ class InsertStatementContextTest {
         assertThat(insertStatementContext.getValueListCount(), is(1));
     }
     
+    @Test
+    void assertSetUpBatchParameters() {
+        InsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("tbl"))));
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, Arrays.asList(
+                new ParameterMarkerExpressionSegment(0, 0, 0), new ParameterMarkerExpressionSegment(0, 0, 1), new LiteralExpressionSegment(0, 0, "init"))));
+        InsertStatementContext actual = createInsertStatementContext(Arrays.asList(1, "Tom"), insertStatement);
+        List<Object> params = actual.setUpBatchParameters(Arrays.asList(Arrays.asList(1, "Tom"), Arrays.asList(2, "Jerry"), Arrays.asList(3, "Bob")));
+        assertThat(params, is(Arrays.asList(1, "Tom", 2, "Jerry", 3, "Bob")));
+        assertThat(actual.getValueListCount(), is(3));
+        assertThat(actual.getGroupedParameters(), is(Arrays.asList(Arrays.asList(1, "Tom"), Arrays.asList(2, "Jerry"), Arrays.asList(3, "Bob"))));
+        InsertValueContext lastInsertValueContext = actual.getInsertValueContexts().get(2);
+        assertThat(lastInsertValueContext.getParameterMarkerExpressions().get(0).getParameterMarkerIndex(), is(4));
+        assertThat(lastInsertValueContext.getLiteralValue(1), is(Optional.of("Bob")));
+        assertThat(lastInsertValueContext.getLiteralValue(2), is(Optional.of("init")));
+        actual.setUpParameters(Arrays.asList(4, "Alice"));
+        assertThat(actual.getValueListCount(), is(1));
+        assertThat(actual.getGroupedParameters(), is(Collections.singletonList(Arrays.asList(4, "Alice"))));
+    }
+    
     @Test
     void assertGetInsertColumnNamesForInsertColumnsForMySQL() {
         assertGetInsertColumnNamesForInsertColumns(new MySQLInsertStatement());
@@ -54,6 +54,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL on virtual threads instead of worker group, only take effect on JDK which supports virtual thread.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * The max concurrent execution groups of each storage unit when SQL executes on virtual threads, 0 means unlimited.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT("kernel-executor-max-concurrency-per-storage-unit", String.valueOf(0), int.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -64,15 +74,62 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether validate table metadata consistency of all actual tables in background when only representative actual tables are loaded.
+     */
+    TABLE_METADATA_BACKGROUND_CHECK_ENABLED("table-metadata-background-check-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Local directory to persist versioned table metadata snapshot, which is used to start up without loading table metadata. Empty means disabled.
+     */
+    TABLE_METADATA_SNAPSHOT_PATH("table-metadata-snapshot-path", "", String.class, true),
+    
+    /**
+     * Whether merge ordered query results with loser tree instead of priority queue.
+     */
+    LOSER_TREE_ORDER_BY_MERGE_ENABLED("loser-tree-order-by-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max count of groups kept in memory for group by merge, rows of other groups will be spilled to local disk.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_GROUPS("group-by-merge-max-memory-groups", String.valueOf(0), int.class, false),
+    
+    /**
+     * Min offset of ordered pagination query to be executed with two rounds seek across data nodes.
+     * Less than or equal to 0 means disabled.
+     */
+    DEEP_PAGINATION_MIN_OFFSET("deep-pagination-min-offset", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max rows of batched single row insert to be coalesced into one multi-row insert statement for each actual table.
+     * Less than or equal to 1 means disabled.
+     */
+    BATCH_INSERT_COALESCE_SIZE("batch-insert-coalesce-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Refresh interval milliseconds of table statistics used by SQL federation planner.
+     */
+    SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS("sql-federation-statistics-refresh-interval-milliseconds", String.valueOf(60000L), long.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
     PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE("proxy-frontend-database-protocol-type", null, DatabaseType.class, false),
     
     /**
-     * Flush threshold for every record from databases for ShardingSphere-Proxy.
+     * Flush threshold by bytes of result data buffered for one connection of ShardingSphere-Proxy.
      */
-    PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
+    PROXY_FRONTEND_FLUSH_BYTES("proxy-frontend-flush-bytes", String.valueOf(64 * 1024), int.class, false),
+    
+    /**
+     * Flush threshold by rows of result data buffered for one connection of ShardingSphere-Proxy.
+     * Less than or equal to 0 means disabled.
+     * 
+     * @deprecated Should use proxy-frontend-flush-bytes, proxy-frontend-flush-threshold will remove in next version.
+     */
+    @Deprecated
+    PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(0), int.class, false),
     
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
@@ -90,6 +147,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Whether back the dedicated executor of each proxy frontend connection with virtual thread, only take effect on JDK which supports virtual thread.
+     */
+    PROXY_FRONTEND_CONNECTION_VIRTUAL_THREAD_ENABLED("proxy-frontend-connection-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Directory of SQL corpus files to warm up SQL parser when ShardingSphere-Proxy starts, each file is named by database type, such as MySQL.sql.
+     * Empty means no warm up.
+     */
+    PROXY_SQL_PARSER_WARM_UP_PATH("proxy-sql-parser-warm-up-path", "", String.class, true),
+    
     /**
      * Proxy default start port.
      */
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUn
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.SnapshotSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.SystemSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -89,9 +90,8 @@ public final class ShardingSphereDatabase {
     public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
                                                 final DatabaseConfiguration databaseConfig, final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
         Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, instanceContext);
-        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(GenericSchemaBuilder
-                .build(new GenericSchemaBuilderMaterial(protocolType, storageTypes, DataSourceStateManager.getInstance().getEnabledDataSources(name, databaseConfig), databaseRules,
-                        props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name))));
+        Map<String, ShardingSphereSchema> schemas =
+                new ConcurrentHashMap<>(GenericSchemaBuilder.build(createSchemaBuilderMaterial(name, protocolType, storageTypes, databaseConfig, databaseRules, props)));
         SystemSchemaBuilder.build(name, protocolType, props).forEach(schemas::putIfAbsent);
         return create(name, protocolType, databaseConfig, databaseRules, schemas);
     }
@@ -126,6 +126,36 @@ public final class ShardingSphereDatabase {
         return new ShardingSphereDatabase(name, protocolType, resourceMetaData, ruleMetaData, schemas);
     }
     
+    /**
+     * Create database meta data on startup.
+     * 
+     * <p>Schemas are loaded from local table meta data snapshot instead of storage units if the snapshot is up to date.</p>
+     * 
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param storageTypes storage types
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param instanceContext instance context
+     * @return database meta data
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase createOnStartup(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
+                                                         final DatabaseConfiguration databaseConfig, final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, instanceContext);
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(SnapshotSchemaBuilder.build(name, databaseConfig.getStorageUnits(),
+                createSchemaBuilderMaterial(name, protocolType, storageTypes, databaseConfig, databaseRules, props)));
+        SystemSchemaBuilder.build(name, protocolType, props).forEach(schemas::putIfAbsent);
+        return create(name, protocolType, databaseConfig, databaseRules, schemas);
+    }
+    
+    private static GenericSchemaBuilderMaterial createSchemaBuilderMaterial(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
+                                                                            final DatabaseConfiguration databaseConfig, final Collection<ShardingSphereRule> rules,
+                                                                            final ConfigurationProperties props) {
+        return new GenericSchemaBuilderMaterial(protocolType, storageTypes, DataSourceStateManager.getInstance().getEnabledDataSources(name, databaseConfig), rules,
+                props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name));
+    }
+    
     private static ResourceMetaData createResourceMetaData(final Map<StorageNode, DataSource> dataSources, final Map<String, StorageUnit> storageUnits) {
         return new ResourceMetaData(dataSources, storageUnits);
     }
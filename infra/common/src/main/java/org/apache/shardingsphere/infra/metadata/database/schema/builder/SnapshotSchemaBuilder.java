@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereSchemasSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlSchemaSwapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Snapshot schema builder.
+ * 
+ * <p>
+ * Schemas built by {@link GenericSchemaBuilder} are persisted into versioned local snapshot file of database if {@code table-metadata-snapshot-path} is configured.
+ * Startup build loads schemas from the snapshot without loading table meta data if the version of rule and storage unit configuration is unchanged.
+ * The snapshot is only used on startup, it is rebuilt after tables loaded from storage units are checked against it once startup finished.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SnapshotSchemaBuilder {
+    
+    private static final String SNAPSHOT_FORMAT_VERSION = "1";
+    
+    /**
+     * Build schemas.
+     *
+     * @param databaseName database name
+     * @param storageUnits storage units
+     * @param material generic schema builder material
+     * @return schemas
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> build(final String databaseName, final Map<String, StorageUnit> storageUnits, final GenericSchemaBuilderMaterial material) throws SQLException {
+        Optional<File> snapshotFile = getSnapshotFile(databaseName, material);
+        if (!snapshotFile.isPresent()) {
+            return GenericSchemaBuilder.build(material);
+        }
+        String version = createVersion(storageUnits, material);
+        Optional<YamlShardingSphereSchemasSnapshot> snapshot = load(snapshotFile.get(), version);
+        if (snapshot.isPresent()) {
+            Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(snapshot.get().getSchemas().size(), 1F);
+            snapshot.get().getSchemas().forEach((key, value) -> result.put(key, new YamlSchemaSwapper().swapToObject(value)));
+            return result;
+        }
+        Map<String, ShardingSphereSchema> result = GenericSchemaBuilder.build(material);
+        persist(snapshotFile.get(), version, result);
+        return result;
+    }
+    
+    /**
+     * Persist schemas into snapshot.
+     *
+     * @param databaseName database name
+     * @param storageUnits storage units
+     * @param material generic schema builder material
+     * @param schemas schemas to be persisted
+     */
+    public static void persist(final String databaseName, final Map<String, StorageUnit> storageUnits, final GenericSchemaBuilderMaterial material, final Map<String, ShardingSphereSchema> schemas) {
+        getSnapshotFile(databaseName, material).ifPresent(optional -> persist(optional, createVersion(storageUnits, material), schemas));
+    }
+    
+    private static void persist(final File snapshotFile, final String version, final Map<String, ShardingSphereSchema> schemas) {
+        YamlShardingSphereSchemasSnapshot snapshot = new YamlShardingSphereSchemasSnapshot();
+        snapshot.setVersion(version);
+        schemas.forEach((key, value) -> snapshot.getSchemas().put(key, new YamlSchemaSwapper().swapToYamlConfiguration(value)));
+        try {
+            Files.createDirectories(snapshotFile.getParentFile().toPath());
+            File tempFile = new File(snapshotFile.getParentFile(), snapshotFile.getName() + ".tmp");
+            Files.write(tempFile.toPath(), YamlEngine.marshal(snapshot).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException ex) {
+            log.warn("Persist table meta data snapshot `{}` failed.", snapshotFile, ex);
+        }
+    }
+    
+    private static Optional<File> getSnapshotFile(final String databaseName, final GenericSchemaBuilderMaterial material) {
+        String snapshotPath = material.getProps().getValue(ConfigurationPropertyKey.TABLE_METADATA_SNAPSHOT_PATH);
+        return Strings.isNullOrEmpty(snapshotPath) ? Optional.empty() : Optional.of(new File(snapshotPath, databaseName + ".yaml"));
+    }
+    
+    private static String createVersion(final Map<String, StorageUnit> storageUnits, final GenericSchemaBuilderMaterial material) {
+        StringBuilder result = new StringBuilder(SNAPSHOT_FORMAT_VERSION).append('\n').append(material.getProtocolType().getType()).append('\n').append(material.getDefaultSchemaName())
+                .append('\n').append(material.getProps().<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).append('\n');
+        for (String each : new TreeSet<>(material.getDataSourceMap().keySet())) {
+            result.append(each).append('=').append(material.getStorageTypes().get(each).getType());
+            if (storageUnits.containsKey(each)) {
+                ConnectionProperties connectionProps = storageUnits.get(each).getConnectionProperties();
+                result.append('@').append(connectionProps.getHostname()).append(':').append(connectionProps.getPort()).append('/').append(connectionProps.getCatalog())
+                        .append('/').append(connectionProps.getSchema());
+            }
+            result.append('\n');
+        }
+        Collection<RuleConfiguration> ruleConfigs = new LinkedList<>();
+        for (ShardingSphereRule each : material.getRules()) {
+            ruleConfigs.add(each.getConfiguration());
+        }
+        result.append(YamlEngine.marshal(new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfigurations(ruleConfigs)));
+        return Hashing.sha256().hashString(result, StandardCharsets.UTF_8).toString();
+    }
+    
+    private static Optional<YamlShardingSphereSchemasSnapshot> load(final File snapshotFile, final String version) {
+        if (!snapshotFile.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            YamlShardingSphereSchemasSnapshot snapshot = YamlEngine.unmarshal(snapshotFile, YamlShardingSphereSchemasSnapshot.class);
+            if (!version.equals(snapshot.getVersion()) || null == snapshot.getSchemas() || snapshot.getSchemas().isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(snapshot);
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load table meta data snapshot `{}` failed.", snapshotFile, ex);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(MetaDataLoader.class)
+class SnapshotSchemaBuilderTest {
+    
+    @TempDir
+    private Path snapshotPath;
+    
+    @Test
+    void assertBuildWithoutSnapshotPath() throws SQLException {
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("foo_tbl"));
+        Map<String, ShardingSphereSchema> actual = SnapshotSchemaBuilder.build("foo_db", Collections.emptyMap(), createMaterial(new Properties()));
+        assertTrue(actual.get(DefaultDatabase.LOGIC_NAME).containsTable("foo_tbl"));
+        assertFalse(new File(snapshotPath.toFile(), "foo_db.yaml").exists());
+    }
+    
+    @Test
+    void assertBuildFromSnapshot() throws SQLException {
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.TABLE_METADATA_SNAPSHOT_PATH.getKey(), snapshotPath.toString()));
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("foo_tbl"));
+        assertTrue(SnapshotSchemaBuilder.build("foo_db", Collections.emptyMap(), createMaterial(props)).get(DefaultDatabase.LOGIC_NAME).containsTable("foo_tbl"));
+        assertTrue(new File(snapshotPath.toFile(), "foo_db.yaml").isFile());
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("bar_tbl"));
+        ShardingSphereSchema actual = SnapshotSchemaBuilder.build("foo_db", Collections.emptyMap(), createMaterial(props)).get(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.getTable("foo_tbl").getName(), is("foo_tbl"));
+    }
+    
+    @Test
+    void assertBuildWithMismatchedSnapshotVersion() throws SQLException {
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.TABLE_METADATA_SNAPSHOT_PATH.getKey(), snapshotPath.toString()));
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("foo_tbl"));
+        SnapshotSchemaBuilder.build("foo_db", Collections.emptyMap(), createMaterial(props));
+        props.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("bar_tbl"));
+        Map<String, ShardingSphereSchema> actual = SnapshotSchemaBuilder.build("foo_db", Collections.emptyMap(), createMaterial(props));
+        assertTrue(actual.get(DefaultDatabase.LOGIC_NAME).containsTable("bar_tbl"));
+        assertFalse(actual.get(DefaultDatabase.LOGIC_NAME).containsTable("foo_tbl"));
+    }
+    
+    @Test
+    void assertPersist() throws SQLException {
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.TABLE_METADATA_SNAPSHOT_PATH.getKey(), snapshotPath.toString()));
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("foo_tbl"));
+        SnapshotSchemaBuilder.build("foo_db", Collections.emptyMap(), createMaterial(props));
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("bar_tbl"));
+        SnapshotSchemaBuilder.persist("foo_db", Collections.emptyMap(), createMaterial(props), GenericSchemaBuilder.build(createMaterial(props)));
+        ShardingSphereSchema actual = SnapshotSchemaBuilder.build("foo_db", Collections.emptyMap(), createMaterial(props)).get(DefaultDatabase.LOGIC_NAME);
+        assertTrue(actual.containsTable("bar_tbl"));
+        assertFalse(actual.containsTable("foo_tbl"));
+    }
+    
+    @Test
+    void assertPersistWithoutSnapshotPath() throws SQLException {
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("foo_tbl"));
+        SnapshotSchemaBuilder.persist("foo_db", Collections.emptyMap(), createMaterial(new Properties()), GenericSchemaBuilder.build(createMaterial(new Properties())));
+        assertFalse(new File(snapshotPath.toFile(), "foo_db.yaml").exists());
+    }
+    
+    private GenericSchemaBuilderMaterial createMaterial(final Properties props) {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        TableContainedRule rule = mock(TableContainedRule.class, RETURNS_DEEP_STUBS);
+        when(rule.getLogicTableMapper().getTableNames()).thenReturn(Arrays.asList("foo_tbl", "bar_tbl"));
+        return new GenericSchemaBuilderMaterial(databaseType, Collections.singletonMap(DefaultDatabase.LOGIC_NAME, databaseType),
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new MockedDataSource()), Collections.singleton(rule), new ConfigurationProperties(props), DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private Map<String, SchemaMetaData> createSchemaMetaDataMap(final String tableName) {
+        return Collections.singletonMap(DefaultDatabase.LOGIC_NAME,
+                new SchemaMetaData(DefaultDatabase.LOGIC_NAME, Collections.singletonList(new TableMetaData(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList()))));
+    }
+}
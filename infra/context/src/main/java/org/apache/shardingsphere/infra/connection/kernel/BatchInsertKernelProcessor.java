@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Batch insert kernel processor.
+ * 
+ * <p>
+ * Batched parameter sets of a single row insert statement are routed together, SQL is rewritten once for every target table
+ * and each row keeps its own rewritten parameters, instead of routing and rewriting every parameter set separately.
+ * Rows routed to same data node are coalesced into multi-row insert statements if {@code batch-insert-coalesce-size} is greater than 1,
+ * rows without original data nodes are never coalesced because no rule rewrites their insert values.
+ * </p>
+ */
+public final class BatchInsertKernelProcessor {
+    
+    /**
+     * Judge whether SQL statement is supported.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return supported or not
+     */
+    public boolean isSupported(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatement insertStatement = ((InsertStatementContext) sqlStatementContext).getSqlStatement();
+        if (1 != insertStatement.getValues().size() || insertStatement.getInsertSelect().isPresent() || InsertStatementHandler.getSetAssignmentSegment(insertStatement).isPresent()
+                || InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent() || InsertStatementHandler.getReturningSegment(insertStatement).isPresent()) {
+            return false;
+        }
+        boolean containsParameterMarker = false;
+        for (ExpressionSegment each : insertStatement.getValues().iterator().next().getValues()) {
+            if (each instanceof ParameterMarkerExpressionSegment && ParameterMarkerType.QUESTION == ((ParameterMarkerExpressionSegment) each).getParameterMarkerType()) {
+                containsParameterMarker = true;
+            } else if (!(each instanceof LiteralExpressionSegment)) {
+                return false;
+            }
+        }
+        return containsParameterMarker;
+    }
+    
+    /**
+     * Generate batch insert execution context.
+     *
+     * @param queryContext query context, whose insert statement context is set up by batch parameters of all rows
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param connectionContext connection context
+     * @return batch insert execution context, empty if rows can not be routed to one data node each
+     */
+    public Optional<BatchInsertExecutionContext> generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
+                                                                          final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        if (queryContext.getHintValueContext().isSkipSQLRewrite()) {
+            return Optional.empty();
+        }
+        InsertStatementContext sqlStatementContext = (InsertStatementContext) queryContext.getSqlStatementContext();
+        List<List<Object>> rowParams = new ArrayList<>(sqlStatementContext.getInsertValueContexts().size());
+        for (InsertValueContext each : sqlStatementContext.getInsertValueContexts()) {
+            rowParams.add(each.getParameters());
+        }
+        RouteContext routeContext = new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, globalRuleMetaData, database);
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
+        ParameterBuilder paramBuilder = sqlRewriteEntry.rewriteParameters(
+                queryContext.getSql(), queryContext.getParameters(), sqlStatementContext, routeContext, connectionContext, queryContext.getHintValueContext());
+        if (!(paramBuilder instanceof GroupedParameterBuilder) || !((GroupedParameterBuilder) paramBuilder).getGenericParameterBuilder().getParameters().isEmpty()) {
+            return Optional.empty();
+        }
+        List<Comparable<?>> generatedValues = sqlStatementContext.getGeneratedKeyContext().map(optional -> new ArrayList<>(optional.getGeneratedValues())).orElseGet(ArrayList::new);
+        int coalesceSize = Math.max(1, props.<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_SIZE));
+        Optional<Map<List<Integer>, ExecutionUnit>> chunkTemplates = routeContext.getOriginalDataNodes().isEmpty()
+                ? createSharedTemplates(sqlRewriteEntry, queryContext, database, routeContext, rowParams, generatedValues, connectionContext)
+                : createDataNodeTemplates(sqlRewriteEntry, queryContext, routeContext, rowParams, coalesceSize, generatedValues, connectionContext);
+        if (!chunkTemplates.isPresent()) {
+            return Optional.empty();
+        }
+        List<BatchInsertExecutionUnit> executionUnits = createExecutionUnits(chunkTemplates.get(), (GroupedParameterBuilder) paramBuilder);
+        Collection<ExecutionUnit> actualExecutionUnits = new ArrayList<>(executionUnits.size());
+        for (BatchInsertExecutionUnit each : executionUnits) {
+            actualExecutionUnits.add(each.getExecutionUnit());
+        }
+        ExecutionContext executionContext = new ExecutionContext(queryContext, actualExecutionUnits, routeContext);
+        logSQL(queryContext, props, executionContext);
+        return Optional.of(new BatchInsertExecutionContext(executionContext, executionUnits, generatedValues));
+    }
+    
+    private Optional<Map<List<Integer>, ExecutionUnit>> createSharedTemplates(final SQLRewriteEntry sqlRewriteEntry, final QueryContext queryContext, final ShardingSphereDatabase database,
+                                                                              final RouteContext routeContext, final List<List<Object>> rowParams, final List<Comparable<?>> generatedValues,
+                                                                              final ConnectionContext connectionContext) {
+        if (routeContext.getRouteUnits().size() > 1) {
+            return Optional.empty();
+        }
+        QueryContext representativeQueryContext = createRepresentativeQueryContext(queryContext, rowParams, Collections.singletonList(0), generatedValues);
+        SQLRewriteResult rewriteResult = sqlRewriteEntry.rewrite(representativeQueryContext.getSql(), representativeQueryContext.getParameters(),
+                representativeQueryContext.getSqlStatementContext(), routeContext, connectionContext, representativeQueryContext.getHintValueContext());
+        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(database, rewriteResult, representativeQueryContext.getSqlStatementContext());
+        if (1 != executionUnits.size()) {
+            return Optional.empty();
+        }
+        Map<List<Integer>, ExecutionUnit> result = new LinkedHashMap<>(rowParams.size(), 1F);
+        for (int i = 0; i < rowParams.size(); i++) {
+            result.put(Collections.singletonList(i), executionUnits.iterator().next());
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Map<List<Integer>, ExecutionUnit>> createDataNodeTemplates(final SQLRewriteEntry sqlRewriteEntry, final QueryContext queryContext, final RouteContext routeContext,
+                                                                                final List<List<Object>> rowParams, final int coalesceSize, final List<Comparable<?>> generatedValues,
+                                                                                final ConnectionContext connectionContext) {
+        Optional<Map<DataNode, List<List<Integer>>>> chunks = findDataNodeChunks(routeContext, rowParams.size(), coalesceSize);
+        if (!chunks.isPresent()) {
+            return Optional.empty();
+        }
+        Map<DataNode, Map<Integer, ExecutionUnit>> sizedTemplates = new HashMap<>(chunks.get().size(), 1F);
+        Map<DataNode, List<Integer>> representativeRows = findRepresentativeRows(chunks.get(), sizedTemplates);
+        while (!representativeRows.isEmpty()) {
+            QueryContext representativeQueryContext = createRepresentativeQueryContext(queryContext, rowParams, sortRowIndexes(representativeRows.values()), generatedValues);
+            Optional<Map<DataNode, ExecutionUnit>> templates = createTemplates(sqlRewriteEntry, representativeQueryContext,
+                    createRepresentativeRouteContext(routeContext, representativeRows), representativeRows.keySet(), connectionContext);
+            if (!templates.isPresent()) {
+                return Optional.empty();
+            }
+            for (Entry<DataNode, ExecutionUnit> entry : templates.get().entrySet()) {
+                sizedTemplates.computeIfAbsent(entry.getKey(), key -> new HashMap<>(2, 1F)).put(representativeRows.get(entry.getKey()).size(), entry.getValue());
+            }
+            representativeRows = findRepresentativeRows(chunks.get(), sizedTemplates);
+        }
+        Map<List<Integer>, ExecutionUnit> result = new LinkedHashMap<>();
+        for (Entry<DataNode, List<List<Integer>>> entry : chunks.get().entrySet()) {
+            for (List<Integer> each : entry.getValue()) {
+                result.put(each, sizedTemplates.get(entry.getKey()).get(each.size()));
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Map<DataNode, List<List<Integer>>>> findDataNodeChunks(final RouteContext routeContext, final int rowCount, final int coalesceSize) {
+        if (routeContext.getOriginalDataNodes().size() != rowCount) {
+            return Optional.empty();
+        }
+        Map<DataNode, List<Integer>> rowIndexes = new LinkedHashMap<>();
+        int rowIndex = 0;
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            if (1 != each.size()) {
+                return Optional.empty();
+            }
+            rowIndexes.computeIfAbsent(each.iterator().next(), key -> new ArrayList<>()).add(rowIndex++);
+        }
+        Map<DataNode, List<List<Integer>>> result = new LinkedHashMap<>(rowIndexes.size(), 1F);
+        for (Entry<DataNode, List<Integer>> entry : rowIndexes.entrySet()) {
+            result.put(entry.getKey(), Lists.partition(entry.getValue(), coalesceSize));
+        }
+        return Optional.of(result);
+    }
+    
+    private Map<DataNode, List<Integer>> findRepresentativeRows(final Map<DataNode, List<List<Integer>>> chunks, final Map<DataNode, Map<Integer, ExecutionUnit>> sizedTemplates) {
+        Map<DataNode, List<Integer>> result = new LinkedHashMap<>();
+        for (Entry<DataNode, List<List<Integer>>> entry : chunks.entrySet()) {
+            Map<Integer, ExecutionUnit> templates = sizedTemplates.getOrDefault(entry.getKey(), Collections.emptyMap());
+            entry.getValue().stream().filter(each -> !templates.containsKey(each.size())).findFirst().ifPresent(optional -> result.put(entry.getKey(), optional));
+        }
+        return result;
+    }
+    
+    private List<Integer> sortRowIndexes(final Collection<List<Integer>> rowIndexes) {
+        List<Integer> result = new ArrayList<>();
+        rowIndexes.forEach(result::addAll);
+        Collections.sort(result);
+        return result;
+    }
+    
+    private List<BatchInsertExecutionUnit> createExecutionUnits(final Map<List<Integer>, ExecutionUnit> chunkTemplates, final GroupedParameterBuilder paramBuilder) {
+        List<BatchInsertExecutionUnit> result = new ArrayList<>(chunkTemplates.size());
+        for (Entry<List<Integer>, ExecutionUnit> entry : chunkTemplates.entrySet()) {
+            List<Object> params = new ArrayList<>();
+            for (int each : entry.getKey()) {
+                params.addAll(paramBuilder.getParameters(each));
+            }
+            SQLUnit sqlUnit = entry.getValue().getSqlUnit();
+            result.add(new BatchInsertExecutionUnit(new ExecutionUnit(entry.getValue().getDataSourceName(), new SQLUnit(sqlUnit.getSql(), params, sqlUnit.getTableRouteMappers())), entry.getKey()));
+        }
+        result.sort(Comparator.comparingInt(each -> each.getRowIndexes().get(0)));
+        return result;
+    }
+    
+    private QueryContext createRepresentativeQueryContext(final QueryContext queryContext, final List<List<Object>> rowParams, final Collection<Integer> rowIndexes,
+                                                          final List<Comparable<?>> generatedValues) {
+        InsertStatementContext sqlStatementContext = (InsertStatementContext) queryContext.getSqlStatementContext();
+        boolean supportAutoIncrement = sqlStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isSupportAutoIncrement).orElse(false);
+        List<List<Object>> paramSets = new ArrayList<>(rowIndexes.size());
+        for (int each : rowIndexes) {
+            paramSets.add(rowParams.get(each));
+        }
+        List<Object> params = sqlStatementContext.setUpBatchParameters(paramSets);
+        sqlStatementContext.getGeneratedKeyContext().filter(optional -> optional.isGenerated() && !generatedValues.isEmpty()).ifPresent(optional -> {
+            for (int each : rowIndexes) {
+                optional.getGeneratedValues().add(generatedValues.get(each));
+            }
+            optional.setSupportAutoIncrement(supportAutoIncrement);
+        });
+        return new QueryContext(sqlStatementContext, queryContext.getSql(), params, queryContext.getHintValueContext(), queryContext.isUseCache());
+    }
+    
+    private RouteContext createRepresentativeRouteContext(final RouteContext routeContext, final Map<DataNode, List<Integer>> representativeRows) {
+        Map<Integer, DataNode> rowDataNodes = new TreeMap<>();
+        for (Entry<DataNode, List<Integer>> entry : representativeRows.entrySet()) {
+            entry.getValue().forEach(each -> rowDataNodes.put(each, entry.getKey()));
+        }
+        RouteContext result = new RouteContext();
+        for (DataNode each : rowDataNodes.values()) {
+            result.getOriginalDataNodes().add(Collections.singletonList(each));
+        }
+        result.getRouteUnits().addAll(routeContext.getRouteUnits());
+        result.getRouteStageContexts().putAll(routeContext.getRouteStageContexts());
+        return result;
+    }
+    
+    private Optional<Map<DataNode, ExecutionUnit>> createTemplates(final SQLRewriteEntry sqlRewriteEntry, final QueryContext queryContext, final RouteContext routeContext,
+                                                                   final Collection<DataNode> dataNodes, final ConnectionContext connectionContext) {
+        SQLRewriteResult rewriteResult = sqlRewriteEntry.rewrite(
+                queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext, queryContext.getHintValueContext());
+        if (!(rewriteResult instanceof RouteSQLRewriteResult)) {
+            return Optional.empty();
+        }
+        Map<DataNode, ExecutionUnit> result = new LinkedHashMap<>(dataNodes.size(), 1F);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits().entrySet()) {
+            Collection<DataNode> routedDataNodes = findRoutedDataNodes(entry.getKey(), dataNodes);
+            if (routedDataNodes.size() > 1) {
+                return Optional.empty();
+            }
+            for (DataNode each : routedDataNodes) {
+                result.put(each, new ExecutionUnit(entry.getKey().getDataSourceMapper().getActualName(),
+                        new SQLUnit(entry.getValue().getSql(), entry.getValue().getParameters(), getTableRouteMappers(entry.getKey()))));
+            }
+        }
+        return result.size() == dataNodes.size() ? Optional.of(result) : Optional.empty();
+    }
+    
+    private Collection<DataNode> findRoutedDataNodes(final RouteUnit routeUnit, final Collection<DataNode> dataNodes) {
+        Collection<DataNode> result = new ArrayList<>(1);
+        for (DataNode each : dataNodes) {
+            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private List<RouteMapper> getTableRouteMappers(final RouteUnit routeUnit) {
+        List<RouteMapper> result = new ArrayList<>(routeUnit.getTableMappers().size());
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            result.add(new RouteMapper(each.getLogicName(), each.getActualName()));
+        }
+        return result;
+    }
+    
+    private void logSQL(final QueryContext queryContext, final ConfigurationProperties props, final ExecutionContext executionContext) {
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            SQLLogger.logSQL(queryContext, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.context.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.subquery.SubquerySegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchInsertKernelProcessorTest {
+    
+    @Test
+    void assertIsSupportedWithParameterMarkersAndLiterals() {
+        assertTrue(new BatchInsertKernelProcessor().isSupported(mockInsertStatementContext(createInsertStatement(
+                new ParameterMarkerExpressionSegment(0, 0, 0), new LiteralExpressionSegment(0, 0, "init")))));
+    }
+    
+    @Test
+    void assertIsNotSupportedWithoutInsertStatement() {
+        assertFalse(new BatchInsertKernelProcessor().isSupported(mock(CommonSQLStatementContext.class)));
+    }
+    
+    @Test
+    void assertIsNotSupportedWithoutParameterMarker() {
+        assertFalse(new BatchInsertKernelProcessor().isSupported(mockInsertStatementContext(createInsertStatement(new LiteralExpressionSegment(0, 0, 1)))));
+    }
+    
+    @Test
+    void assertIsNotSupportedWithDollarParameterMarker() {
+        assertFalse(new BatchInsertKernelProcessor().isSupported(mockInsertStatementContext(createInsertStatement(new ParameterMarkerExpressionSegment(0, 0, 0, ParameterMarkerType.DOLLAR)))));
+    }
+    
+    @Test
+    void assertIsNotSupportedWithMultipleValues() {
+        MySQLInsertStatement insertStatement = createInsertStatement(new ParameterMarkerExpressionSegment(0, 0, 0));
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, Collections.singletonList(new ParameterMarkerExpressionSegment(0, 0, 1))));
+        assertFalse(new BatchInsertKernelProcessor().isSupported(mockInsertStatementContext(insertStatement)));
+    }
+    
+    @Test
+    void assertIsNotSupportedWithInsertSelect() {
+        MySQLInsertStatement insertStatement = createInsertStatement(new ParameterMarkerExpressionSegment(0, 0, 0));
+        insertStatement.setInsertSelect(new SubquerySegment(0, 0, new MySQLSelectStatement(), ""));
+        assertFalse(new BatchInsertKernelProcessor().isSupported(mockInsertStatementContext(insertStatement)));
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithoutOriginalDataNodes() {
+        Optional<BatchInsertExecutionContext> actual = new BatchInsertKernelProcessor().generateExecutionContext(mockBatchQueryContext(2), mockDatabase(),
+                new RuleMetaData(Collections.singleton(mockTranslatorRule())), new ConfigurationProperties(new Properties()), mock(ConnectionContext.class));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getExecutionUnits().size(), is(2));
+        assertThat(actual.get().getExecutionUnits().get(0).getExecutionUnit().getDataSourceName(), is("foo_ds"));
+        assertThat(actual.get().getExecutionUnits().get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO tbl VALUES (?)"));
+        assertThat(actual.get().getExecutionUnits().get(0).getExecutionUnit().getSqlUnit().getParameters(), is(Collections.singletonList(1)));
+        assertThat(actual.get().getExecutionUnits().get(0).getRowIndexes(), is(Collections.singletonList(0)));
+        assertThat(actual.get().getExecutionUnits().get(1).getExecutionUnit().getSqlUnit().getParameters(), is(Collections.singletonList(2)));
+        assertThat(actual.get().getExecutionUnits().get(1).getRowIndexes(), is(Collections.singletonList(1)));
+        assertTrue(actual.get().getGeneratedValues().isEmpty());
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithoutOriginalDataNodesNotCoalesced() {
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_SIZE.getKey(), "2"));
+        Optional<BatchInsertExecutionContext> actual = new BatchInsertKernelProcessor().generateExecutionContext(mockBatchQueryContext(3), mockDatabase(),
+                new RuleMetaData(Collections.singleton(mockTranslatorRule())), new ConfigurationProperties(props), mock(ConnectionContext.class));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getExecutionUnits().size(), is(3));
+        assertThat(actual.get().getExecutionUnits().get(2).getExecutionUnit().getSqlUnit().getParameters(), is(Collections.singletonList(3)));
+        assertThat(actual.get().getExecutionUnits().get(2).getRowIndexes(), is(Collections.singletonList(2)));
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithInsertSelectParameters() {
+        InsertStatementContext sqlStatementContext = mockInsertStatementContext(createInsertStatement(new ParameterMarkerExpressionSegment(0, 0, 0)));
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "INSERT INTO tbl VALUES (?)", Arrays.asList(1, 2));
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getStorageUnits()).thenReturn(Collections.emptyMap());
+        ShardingSphereDatabase database =
+                new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), resourceMetaData, new RuleMetaData(Collections.emptyList()), Collections.emptyMap());
+        assertFalse(new BatchInsertKernelProcessor().generateExecutionContext(queryContext, database, new RuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))),
+                new ConfigurationProperties(new Properties()), mock(ConnectionContext.class)).isPresent());
+    }
+    
+    private QueryContext mockBatchQueryContext(final int rowCount) {
+        InsertStatementContext sqlStatementContext = mockInsertStatementContext(createInsertStatement(new ParameterMarkerExpressionSegment(0, 0, 0)));
+        List<InsertValueContext> insertValueContexts = new ArrayList<>(rowCount);
+        List<List<Object>> groupedParams = new ArrayList<>(rowCount);
+        List<Object> params = new ArrayList<>(rowCount);
+        for (int i = 1; i <= rowCount; i++) {
+            insertValueContexts.add(mock(InsertValueContext.class));
+            groupedParams.add(Collections.singletonList(i));
+            params.add(i);
+        }
+        when(sqlStatementContext.getInsertValueContexts()).thenReturn(insertValueContexts);
+        when(sqlStatementContext.getInsertSelectContext()).thenReturn(null);
+        when(sqlStatementContext.getGroupedParameters()).thenReturn(groupedParams);
+        when(sqlStatementContext.getOnDuplicateKeyUpdateParameters()).thenReturn(Collections.emptyList());
+        when(sqlStatementContext.getGeneratedKeyContext()).thenReturn(Optional.empty());
+        when(sqlStatementContext.setUpBatchParameters(any())).thenReturn(Collections.singletonList(1));
+        return new QueryContext(sqlStatementContext, "INSERT INTO tbl VALUES (?)", params);
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getStorageUnits()).thenReturn(Collections.emptyMap());
+        when(resourceMetaData.getAllInstanceDataSourceNames()).thenReturn(Collections.singletonList("foo_ds"));
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), resourceMetaData, new RuleMetaData(Collections.emptyList()), Collections.emptyMap());
+    }
+    
+    private SQLTranslatorRule mockTranslatorRule() {
+        SQLTranslatorRule result = mock(SQLTranslatorRule.class);
+        when(result.translate(anyString(), any(), any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        return result;
+    }
+    
+    private MySQLInsertStatement createInsertStatement(final ExpressionSegment... values) {
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.getValues().add(new InsertValuesSegment(0, 0, Arrays.asList(values)));
+        return result;
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final MySQLInsertStatement insertStatement) {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        return result;
+    }
+}
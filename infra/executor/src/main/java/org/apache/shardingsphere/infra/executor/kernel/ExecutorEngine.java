@@ -17,18 +17,23 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.StorageUnitConcurrencyLimiter;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -36,13 +41,29 @@ import java.util.concurrent.Future;
 /**
  * Executor engine.
  */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    private final StorageUnitConcurrencyLimiter storageUnitConcurrencyLimiter;
+    
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(new ExecutorServiceManager(executorSize), new StorageUnitConcurrencyLimiter(0));
+    }
+    
+    /**
+     * Create executor engine with configuration properties.
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)
+                ? createExecutorEngineWithVirtualThread(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                        props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT))
+                : createExecutorEngineWithSize(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
     }
     
     /**
@@ -55,6 +76,19 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine which executes execution groups on virtual threads.
+     * 
+     * <p>Falls back to platform thread pool of executor size if virtual thread is not supported by current JDK.</p>
+     *
+     * @param executorSize executor size of platform thread pool if virtual thread is not supported
+     * @param maxConcurrencyPerStorageUnit max concurrent execution groups of each storage unit, less than or equal to 0 means unlimited
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithVirtualThread(final int executorSize, final int maxConcurrencyPerStorageUnit) {
+        return new ExecutorEngine(new ExecutorServiceManager(executorSize, true), new StorageUnitConcurrencyLimiter(maxConcurrencyPerStorageUnit));
+    }
+    
     /**
      * Execute.
      *
@@ -72,31 +106,36 @@ public final class ExecutorEngine implements AutoCloseable {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+        Collection<ExecutionGroup<I>> inputGroups = executionGroupContext.getInputGroups();
+        int resultSize = inputGroups.stream().mapToInt(each -> each.getInputs().size()).sum();
+        return serial ? serialExecute(inputGroups.iterator(), firstCallback, callback, resultSize)
+                : parallelExecute(inputGroups.iterator(), inputGroups.size(), firstCallback, callback, resultSize);
     }
     
-    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups,
+                                         final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final int resultSize) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        List<O> result = new ArrayList<>(resultSize);
+        result.addAll(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
         while (executionGroups.hasNext()) {
             result.addAll(syncExecute(executionGroups.next(), callback));
         }
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final int groupSize,
+                                           final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final int resultSize) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, groupSize - 1, callback);
+        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures, resultSize);
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true);
+        return storageUnitConcurrencyLimiter.execute(executionGroup, callback, true);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final int groupSize, final ExecutorCallback<I, O> callback) {
+        Collection<Future<Collection<O>>> result = new ArrayList<>(groupSize);
         while (executionGroups.hasNext()) {
             result.add(asyncExecute(executionGroups.next(), callback));
         }
@@ -104,11 +143,12 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false));
+        return executorServiceManager.getExecutorService().submit(() -> storageUnitConcurrencyLimiter.execute(executionGroup, callback, false));
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
+    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures, final int resultSize) throws SQLException {
+        List<O> result = new ArrayList<>(resultSize);
+        result.addAll(firstResults);
         for (Future<Collection<O>> each : restFutures) {
             try {
                 result.addAll(each.get());
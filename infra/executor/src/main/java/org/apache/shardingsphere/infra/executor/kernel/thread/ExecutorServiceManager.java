@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -41,8 +42,26 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        Optional<ExecutorService> virtualThreadExecutorService = virtualThreadEnabled ? getVirtualThreadExecutorService() : Optional.empty();
+        executorService = TtlExecutors.getTtlExecutorService(virtualThreadExecutorService.orElseGet(() -> getExecutorService(executorSize, nameFormat)));
+    }
+    
+    private Optional<ExecutorService> getVirtualThreadExecutorService() {
+        // Virtual thread is only available on JDK 21 and later, fall back to platform thread pool of executor size when running on earlier JDK
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -21,6 +21,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -40,4 +41,21 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name.
+     *
+     * @param name thread name
+     * @return virtual thread factory, empty if virtual thread is not supported by current JDK
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String name) {
+        // Virtual thread is only available on JDK 21 and later, so the builder is looked up reflectively
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = builderClass.getMethod("name", String.class).invoke(Thread.class.getMethod("ofVirtual").invoke(null), NAME_FORMAT_PREFIX + name);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
 }
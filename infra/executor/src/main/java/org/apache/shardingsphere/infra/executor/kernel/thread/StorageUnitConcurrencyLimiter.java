@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Storage unit concurrency limiter.
+ * 
+ * <p>Limits how many execution groups of the same storage unit run concurrently, groups without storage unit name are not limited.</p>
+ */
+@RequiredArgsConstructor
+public final class StorageUnitConcurrencyLimiter {
+    
+    private final int maxConcurrency;
+    
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+    
+    /**
+     * Execute execution group with concurrency limited.
+     *
+     * @param executionGroup execution group
+     * @param callback executor callback
+     * @param isTrunkThread is execution in trunk thread
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> Collection<O> execute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final boolean isTrunkThread) throws SQLException {
+        if (maxConcurrency <= 0 || null == executionGroup.getDataSourceName()) {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread);
+        }
+        Semaphore semaphore = semaphores.computeIfAbsent(executionGroup.getDataSourceName(), unused -> new Semaphore(maxConcurrency));
+        acquire(semaphore);
+        try {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread);
+        } finally {
+            semaphore.release();
+        }
+    }
+    
+    private void acquire(final Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
@@ -63,11 +64,17 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        String databaseName = null == executionGroupContext.getReportContext() ? null : executionGroupContext.getReportContext().getDatabaseName();
         try {
-            return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInTransaction());
+            return executorEngine.execute(executionGroupContext, null == firstCallback ? null : createExecutorCallback(firstCallback, databaseName), createExecutorCallback(callback, databaseName),
+                    connectionContext.getTransactionContext().isInTransaction());
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
         }
     }
+    
+    private <T> ExecutorCallback<JDBCExecutionUnit, T> createExecutorCallback(final JDBCExecutorCallback<T> callback, final String databaseName) {
+        return (executionUnits, isTrunkThread) -> callback.execute(executionUnits, isTrunkThread, databaseName);
+    }
 }
@@ -56,10 +56,23 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread) throws SQLException {
+        return execute(executionUnits, isTrunkThread, null);
+    }
+    
+    /**
+     * Execute.
+     *
+     * @param executionUnits execution units
+     * @param isTrunkThread is execution in trunk thread
+     * @param databaseName database name, null if unknown
+     * @return execution results
+     * @throws SQLException throw when execute failure
+     */
+    public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final String databaseName) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
         Collection<T> result = new LinkedList<>();
         for (JDBCExecutionUnit each : executionUnits) {
-            T executeResult = execute(each, isTrunkThread);
+            T executeResult = execute(each, isTrunkThread, databaseName);
             if (null != executeResult) {
                 result.add(executeResult);
             }
@@ -72,14 +85,14 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
      *
      * @see <a href="https://github.com/apache/skywalking/blob/master/docs/en/guides/Java-Plugin-Development-Guide.md#user-content-plugin-development-guide">Plugin Development Guide</a>
      */
-    private T execute(final JDBCExecutionUnit jdbcExecutionUnit, final boolean isTrunkThread) throws SQLException {
+    private T execute(final JDBCExecutionUnit jdbcExecutionUnit, final boolean isTrunkThread, final String databaseName) throws SQLException {
         SQLExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         DatabaseType storageType = resourceMetaData.getStorageUnits().get(jdbcExecutionUnit.getExecutionUnit().getDataSourceName()).getStorageType();
         ConnectionProperties connectionProps = resourceMetaData.getStorageUnits().get(jdbcExecutionUnit.getExecutionUnit().getDataSourceName()).getConnectionProperties();
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
-            sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
+            sqlExecutionHook.start(databaseName, jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution();
@@ -88,6 +101,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             if (!storageType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
+                    sqlExecutionHook.finishSuccess();
                     return isTrunkThread ? saneResult.get() : null;
                 }
             }
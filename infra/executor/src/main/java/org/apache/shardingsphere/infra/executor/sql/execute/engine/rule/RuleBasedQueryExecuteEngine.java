@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.rule;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Rule based query execute engine.
+ */
+public final class RuleBasedQueryExecuteEngine {
+    
+    private final ConfigurationProperties props;
+    
+    @SuppressWarnings("rawtypes")
+    private final Map<ShardingSphereRule, RuleBasedQueryExecutor> executors;
+    
+    public RuleBasedQueryExecuteEngine(final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        this.props = props;
+        executors = OrderedSPILoader.getServices(RuleBasedQueryExecutor.class, rules);
+    }
+    
+    /**
+     * Execute query by rule based query executors.
+     *
+     * @param executionContext execution context
+     * @param callback callback to execute query with execution units
+     * @return query result, empty if query is not executed by any rule based query executor
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Optional<QueryResult> execute(final ExecutionContext executionContext, final RuleBasedQueryExecuteCallback callback) throws SQLException {
+        for (Entry<ShardingSphereRule, RuleBasedQueryExecutor> entry : executors.entrySet()) {
+            Optional<QueryResult> result = entry.getValue().execute(executionContext, entry.getKey(), props, callback);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+}
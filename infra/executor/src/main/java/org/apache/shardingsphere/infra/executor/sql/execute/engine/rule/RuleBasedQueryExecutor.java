@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.rule;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPI;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Rule based query executor, which executes query of rule in its own way instead of executing routed execution units directly.
+ * 
+ * @param <T> type of rule
+ */
+@SingletonSPI
+public interface RuleBasedQueryExecutor<T extends ShardingSphereRule> extends OrderedSPI<T> {
+    
+    /**
+     * Execute query.
+     *
+     * @param executionContext execution context
+     * @param rule rule
+     * @param props configuration properties
+     * @param callback callback to execute query with execution units
+     * @return query result, empty if query is not executed by current executor
+     * @throws SQLException SQL exception
+     */
+    Optional<QueryResult> execute(ExecutionContext executionContext, T rule, ConfigurationProperties props, RuleBasedQueryExecuteCallback callback) throws SQLException;
+}
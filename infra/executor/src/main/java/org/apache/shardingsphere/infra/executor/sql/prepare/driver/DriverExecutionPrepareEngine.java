@@ -101,6 +101,6 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         for (SQLUnit each : sqlUnits) {
             inputs.add((T) sqlExecutionUnitBuilder.build(new ExecutionUnit(dataSourceName, each), statementManager, connection, connectionMode, option, databaseType));
         }
-        return new ExecutionGroup<>(inputs);
+        return new ExecutionGroup<>(inputs, dataSourceName);
     }
 }
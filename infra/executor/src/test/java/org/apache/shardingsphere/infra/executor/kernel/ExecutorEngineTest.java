@@ -82,6 +82,15 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertParallelExecuteWithVirtualThread() throws SQLException, InterruptedException {
+        try (ExecutorEngine virtualThreadExecutorEngine = ExecutorEngine.createExecutorEngineWithVirtualThread(1, 1)) {
+            List<String> actual = virtualThreadExecutorEngine.execute(executionGroupContext, firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
+    
     @Test
     void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
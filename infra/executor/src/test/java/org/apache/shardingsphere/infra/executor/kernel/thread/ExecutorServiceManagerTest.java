@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.TransmittableThreadLocal;
+import com.alibaba.ttl.threadpool.TtlExecutors;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -50,6 +54,13 @@ class ExecutorServiceManagerTest {
         assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
     }
     
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertFallBackToFixedThreadPoolWithoutVirtualThread() {
+        ExecutorService executorService = TtlExecutors.unwrap(new ExecutorServiceManager(2, true).getExecutorService());
+        assertThat(((ThreadPoolExecutor) executorService).getMaximumPoolSize(), is(2));
+    }
+    
     private void assertFinished(final AtomicBoolean finished) {
         Awaitility.await().atMost(1L, TimeUnit.MINUTES).pollInterval(100L, TimeUnit.MILLISECONDS).until(finished::get);
     }
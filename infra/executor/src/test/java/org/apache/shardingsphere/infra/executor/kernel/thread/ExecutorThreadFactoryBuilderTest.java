@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -33,4 +35,12 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    void assertBuildVirtualWithName() {
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual("test");
+        assertThat(threadFactory.isPresent(), is(Arrays.stream(Thread.class.getMethods()).anyMatch(each -> "ofVirtual".equals(each.getName()))));
+        threadFactory.ifPresent(optional -> assertThat(optional.newThread(() -> {
+        }).getName(), is("ShardingSphere-test")));
+    }
 }
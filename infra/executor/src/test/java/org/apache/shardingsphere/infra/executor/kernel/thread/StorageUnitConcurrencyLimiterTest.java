@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StorageUnitConcurrencyLimiterTest {
+    
+    @Test
+    void assertExecuteWithLimitedConcurrency() throws Exception {
+        assertThat(executeConcurrently(new StorageUnitConcurrencyLimiter(2), "foo_ds"), is(2));
+    }
+    
+    @Test
+    void assertExecuteWithUnlimitedConcurrency() throws Exception {
+        assertThat(executeConcurrently(new StorageUnitConcurrencyLimiter(0), "foo_ds"), is(8));
+    }
+    
+    @Test
+    void assertExecuteWithoutDataSourceName() throws Exception {
+        assertThat(executeConcurrently(new StorageUnitConcurrencyLimiter(2), null), is(8));
+    }
+    
+    private int executeConcurrently(final StorageUnitConcurrencyLimiter limiter, final String dataSourceName) throws Exception {
+        AtomicInteger concurrency = new AtomicInteger();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        ExecutorCallback<Object, Integer> callback = (inputs, isTrunkThread) -> waitAndCount(concurrency, maxConcurrency);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Collection<Integer>>> futures = new LinkedList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> limiter.execute(new ExecutionGroup<>(Collections.singletonList(new Object()), dataSourceName), callback, false)));
+            }
+            for (Future<Collection<Integer>> each : futures) {
+                each.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        return maxConcurrency.get();
+    }
+    
+    private Collection<Integer> waitAndCount(final AtomicInteger concurrency, final AtomicInteger maxConcurrency) throws SQLException {
+        int current = concurrency.incrementAndGet();
+        maxConcurrency.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(200L);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        concurrency.decrementAndGet();
+        return Collections.singleton(current);
+    }
+}
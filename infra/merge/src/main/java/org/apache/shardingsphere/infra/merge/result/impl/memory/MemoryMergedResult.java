@@ -61,7 +61,15 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
         }
     }
     
-    protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    protected MemoryMergedResult(final Iterator<MemoryQueryResultRow> memoryResultSetRows) {
+        this.memoryResultSetRows = memoryResultSetRows;
+    }
+    
+    // It is only called by the constructor with query results
+    protected List<MemoryQueryResultRow> init(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext,
+                                              final List<QueryResult> queryResults) throws SQLException {
+        throw new UnsupportedOperationException("Memory query result rows should be initialized by subclass.");
+    }
     
     @Override
     public final boolean next() {
@@ -37,7 +37,13 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, null, isParseComment);
+    }
+    
+    public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                         final CacheOption literalParameterizedCacheOption, final boolean isParseComment) {
+        sqlStatementParserEngine =
+                SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, literalParameterizedCacheOption, isParseComment);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
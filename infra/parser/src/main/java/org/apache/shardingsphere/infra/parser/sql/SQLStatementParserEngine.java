@@ -22,8 +22,12 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.LiteralParameterizedSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser engine.
  */
@@ -39,14 +43,29 @@ public final class SQLStatementParserEngine {
     @Getter
     private final CacheOption parseTreeCacheOption;
     
+    @Getter
+    private final CacheOption literalParameterizedCacheOption;
+    
+    private final LiteralParameterizedSQLParserEngine literalParameterizedParserEngine;
+    
+    private final SQLStatementVisitorEngine visitorEngine;
+    
     @Getter
     private final boolean isParseComment;
     
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, null, isParseComment);
+    }
+    
+    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                    final CacheOption literalParameterizedCacheOption, final boolean isParseComment) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
+        this.literalParameterizedCacheOption = literalParameterizedCacheOption;
+        literalParameterizedParserEngine = null == literalParameterizedCacheOption ? null : new LiteralParameterizedSQLParserEngine(databaseType, literalParameterizedCacheOption);
+        visitorEngine = new SQLStatementVisitorEngine(databaseType, isParseComment);
         this.isParseComment = isParseComment;
     }
     
@@ -58,6 +77,18 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+        if (useCache) {
+            return sqlStatementCache.get(sql);
+        }
+        return null == literalParameterizedParserEngine ? sqlStatementParserExecutor.parse(sql) : literalParameterizedParserEngine.parse(sql, visitorEngine::visit);
+    }
+    
+    /**
+     * Find literal parameterized SQL parser engine.
+     *
+     * @return literal parameterized SQL parser engine, empty if literal parameterized cache is disabled
+     */
+    public Optional<LiteralParameterizedSQLParserEngine> findLiteralParameterizedParserEngine() {
+        return Optional.ofNullable(literalParameterizedParserEngine);
     }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -44,12 +45,27 @@ public final class SQLStatementParserEngineFactory {
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType,
                                                                        final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        return getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, null, isParseComment);
+    }
+    
+    /**
+     * Get SQL statement parser engine.
+     *
+     * @param databaseType database type
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param parseTreeCacheOption parse tree cache option
+     * @param literalParameterizedCacheOption literal parameterized cache option, null means disabled
+     * @param isParseComment is parse comment
+     * @return SQL statement parser engine
+     */
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                                       final CacheOption literalParameterizedCacheOption, final boolean isParseComment) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, literalParameterizedCacheOption, isParseComment));
         } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)
-                || result.isParseComment() != isParseComment) {
-            result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+                || !Objects.equals(result.getLiteralParameterizedCacheOption(), literalParameterizedCacheOption) || result.isParseComment() != isParseComment) {
+            result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, literalParameterizedCacheOption, isParseComment);
             ENGINES.put(databaseType, result);
         }
         return result;
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorato
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
@@ -79,6 +80,25 @@ public final class SQLRewriteEntry {
                 : new RouteSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, routeContext);
     }
     
+    /**
+     * Rewrite parameters without generating SQL tokens.
+     * 
+     * @param sql SQL
+     * @param params SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param connectionContext connection context
+     * @param hintValueContext hint value context
+     * 
+     * @return rewritten parameter builder
+     */
+    public ParameterBuilder rewriteParameters(final String sql, final List<Object> params, final SQLStatementContext sqlStatementContext,
+                                              final RouteContext routeContext, final ConnectionContext connectionContext, final HintValueContext hintValueContext) {
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database, sqlStatementContext, sql, params, connectionContext, hintValueContext);
+        decorate(decorators, sqlRewriteContext, routeContext, hintValueContext);
+        return sqlRewriteContext.getParameterBuilder();
+    }
+    
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> params, final SQLStatementContext sqlStatementContext,
                                                       final RouteContext routeContext, final ConnectionContext connectionContext, final HintValueContext hintValueContext) {
         SQLRewriteContext result = new SQLRewriteContext(database, sqlStatementContext, sql, params, connectionContext, hintValueContext);
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -44,6 +46,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -82,6 +85,18 @@ class SQLRewriteEntryTest {
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
     
+    @Test
+    void assertRewriteParameters() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, TypedSPILoader.getService(DatabaseType.class, "H2"), mockResourceMetaData(),
+                mock(RuleMetaData.class), Collections.singletonMap("test", mock(ShardingSphereSchema.class)));
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(
+                database, new RuleMetaData(Collections.singleton(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()))), new ConfigurationProperties(new Properties()));
+        ParameterBuilder actual = sqlRewriteEntry.rewriteParameters("SELECT ?", Collections.singletonList(1), mock(CommonSQLStatementContext.class), new RouteContext(),
+                mock(ConnectionContext.class), new HintValueContext());
+        assertThat(actual, instanceOf(StandardParameterBuilder.class));
+        assertThat(actual.getParameters(), is(Collections.singletonList(1)));
+    }
+    
     private ResourceMetaData mockResourceMetaData() {
         Map<String, StorageUnit> storageUnits = new LinkedHashMap<>(2, 1F);
         StorageUnit storageUnit1 = mock(StorageUnit.class);
@@ -17,13 +17,15 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.connection.kernel.BatchInsertExecutionUnit;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -39,6 +41,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +50,8 @@ import java.util.Optional;
 
 /**
  * Prepared statement executor to process add batch.
+ * 
+ * <p>Batch execution units are indexed by data source name and SQL, parameters of same unit are appended into one array list.</p>
  */
 public final class BatchPreparedStatementExecutor {
     
@@ -56,8 +61,7 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -68,7 +72,7 @@ public final class BatchPreparedStatementExecutor {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(databaseName));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -86,44 +90,53 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
+            getOrCreateBatchExecutionUnit(each).mapAddBatchCount(batchCount);
         }
-        return result;
+        batchCount++;
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    /**
+     * Add batch for batch insert execution units, each of which may coalesce several rows added by JDBC API call addBatch.
+     *
+     * @param executionUnits batch insert execution units
+     * @param rowCount count of rows added by JDBC API call addBatch
+     */
+    public void addBatchForInsertExecutionUnits(final Collection<BatchInsertExecutionUnit> executionUnits, final int rowCount) {
+        for (BatchInsertExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = getOrCreateBatchExecutionUnit(each.getExecutionUnit());
+            Collection<Integer> jdbcAddBatchTimes = new ArrayList<>(each.getRowIndexes().size());
+            for (int rowIndex : each.getRowIndexes()) {
+                jdbcAddBatchTimes.add(batchCount + rowIndex);
+            }
+            batchExecutionUnit.mapAddBatchCount(jdbcAddBatchTimes);
+        }
+        batchCount += rowCount;
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
-            }
+    private BatchExecutionUnit getOrCreateBatchExecutionUnit(final ExecutionUnit executionUnit) {
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit);
+        if (null == result) {
+            result = createBatchExecutionUnit(executionUnit);
+            batchExecutionUnits.put(result.getExecutionUnit(), result);
+        } else {
+            result.getExecutionUnit().getSqlUnit().getParameters().addAll(executionUnit.getSqlUnit().getParameters());
         }
+        return result;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private BatchExecutionUnit createBatchExecutionUnit(final ExecutionUnit executionUnit) {
+        SQLUnit sqlUnit = executionUnit.getSqlUnit();
+        return new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), new ArrayList<>(sqlUnit.getParameters()), sqlUnit.getTableRouteMappers())));
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -153,7 +166,16 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return isNeedAccumulate(sqlStatementContext) || isCoalesced() ? accumulate(results) : results.get(0);
+    }
+    
+    private boolean isCoalesced() {
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            if (each.getRowsPerActualAddBatchCall() > 1) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -178,24 +200,21 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
-            int value = null == executeResult ? 0 : executeResult[entry.getValue()];
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == batchExecutionUnit) {
+            return;
+        }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == executeResult ? 0 : getRowUpdateCount(executeResult[entry.getValue()], batchExecutionUnit.getRowsPerActualAddBatchCall());
             addBatchCounts[entry.getKey()] += value;
         }
     }
     
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
-            }
+    private int getRowUpdateCount(final int updateCount, final int rowCount) {
+        if (1 == rowCount || updateCount < 0) {
+            return updateCount;
         }
-        return Collections.emptyMap();
-    }
-    
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+        return updateCount == rowCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -240,12 +259,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
-        }
-        throw new IllegalStateException();
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != batchExecutionUnit);
+        return batchExecutionUnit.getParameterSets();
     }
     
     /**
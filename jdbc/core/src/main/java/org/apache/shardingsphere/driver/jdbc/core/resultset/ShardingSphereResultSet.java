@@ -395,4 +395,9 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         ShardingSpherePreconditions.checkState(null != result, () -> new SQLFeatureNotSupportedException(String.format("Can not get index from column label `%s`.", columnLabel)));
         return result;
     }
+    
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        mergeResultSet.close();
+    }
 }
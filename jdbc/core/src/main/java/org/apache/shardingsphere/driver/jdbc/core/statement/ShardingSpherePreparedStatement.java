@@ -39,6 +39,8 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.BatchInsertExecutionContext;
+import org.apache.shardingsphere.infra.connection.kernel.BatchInsertKernelProcessor;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.mysql.type.MySQLDatabaseType;
@@ -56,6 +58,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.RawSQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.callback.RawSQLExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.rule.RuleBasedQueryExecuteEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
@@ -140,6 +143,10 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final KernelProcessor kernelProcessor;
     
+    private final BatchInsertKernelProcessor batchInsertKernelProcessor;
+    
+    private final List<List<Object>> batchInsertParameterSets = new ArrayList<>();
+    
     private final boolean statementsCacheable;
     
     private final TrafficRule trafficRule;
@@ -147,6 +154,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Getter(AccessLevel.PROTECTED)
     private final StatementManager statementManager;
     
+    private StatementManager ruleBasedQueryStatementManager;
+    
     @Getter
     private final boolean selectContainsEnhancedTable;
     
@@ -164,6 +173,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ResultSet currentBatchGeneratedKeysResultSet;
     
+    private boolean batchInsertRoutedOnce;
+    
     public ShardingSpherePreparedStatement(final ShardingSphereConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false, null);
     }
@@ -211,6 +222,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         kernelProcessor = new KernelProcessor();
         statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData());
         trafficRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(TrafficRule.class);
+        batchInsertKernelProcessor = new BatchInsertKernelProcessor();
+        batchInsertRoutedOnce = trafficRule.getStrategyRules().isEmpty() && batchInsertKernelProcessor.isSupported(sqlStatementContext);
         selectContainsEnhancedTable = sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsEnhancedTable();
         statementManager = new StatementManager();
     }
@@ -245,13 +258,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
                 return executeFederationQuery(queryContext);
             }
             executionContext = createExecutionContext(queryContext);
-            List<QueryResult> queryResults = executeQuery0();
-            MergedResult mergedResult = mergeQuery(queryResults);
-            List<ResultSet> resultSets = getResultSets();
-            if (null == columnLabelAndIndexMap) {
-                columnLabelAndIndexMap = ShardingSphereResultSetUtils.createColumnLabelAndIndexMap(sqlStatementContext, selectContainsEnhancedTable, resultSets.get(0).getMetaData());
-            }
-            result = new ShardingSphereResultSet(resultSets, mergedResult, this, selectContainsEnhancedTable, executionContext, columnLabelAndIndexMap);
+            result = createResultSet(executeQuery0());
             // CHECKSTYLE:OFF
         } catch (final RuntimeException ex) {
             // CHECKSTYLE:ON
@@ -314,12 +321,57 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             return executor.getRawExecutor().execute(createRawExecutionGroupContext(),
                     executionContext.getQueryContext(), new RawSQLExecutorCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
         }
+        Optional<QueryResult> ruleBasedQueryResult = executeRuleBasedQuery();
+        if (ruleBasedQueryResult.isPresent()) {
+            return Collections.singletonList(ruleBasedQueryResult.get());
+        }
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
         cacheStatements(executionGroupContext.getInputGroups());
-        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(),
-                new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
-                        metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), sqlStatement,
-                        SQLExecutorExceptionHandler.isExceptionThrown()));
+        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(), createExecuteQueryCallback());
+    }
+    
+    private Optional<QueryResult> executeRuleBasedQuery() throws SQLException {
+        Optional<QueryResult> result = new RuleBasedQueryExecuteEngine(metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps())
+                .execute(executionContext, this::executeRuleBasedQueryRound);
+        if (!result.isPresent()) {
+            closeRuleBasedQueryStatements();
+        }
+        return result;
+    }
+    
+    private List<QueryResult> executeRuleBasedQueryRound(final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        closeRuleBasedQueryStatements();
+        ruleBasedQueryStatementManager = new StatementManager();
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
+                createDriverExecutionPrepareEngine(ruleBasedQueryStatementManager).prepare(executionContext.getRouteContext(), executionUnits, new ExecutionGroupReportContext(databaseName));
+        cacheStatements(executionGroupContext.getInputGroups());
+        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(), createExecuteQueryCallback());
+    }
+    
+    private void closeRuleBasedQueryStatements() throws SQLException {
+        statements.clear();
+        parameterSets.clear();
+        if (null != ruleBasedQueryStatementManager) {
+            try {
+                ruleBasedQueryStatementManager.close();
+            } finally {
+                ruleBasedQueryStatementManager = null;
+            }
+        }
+    }
+    
+    private ShardingSphereResultSet createResultSet(final List<QueryResult> queryResults) throws SQLException {
+        MergedResult mergedResult = mergeQuery(queryResults);
+        List<ResultSet> resultSets = getResultSets();
+        if (null == columnLabelAndIndexMap) {
+            columnLabelAndIndexMap = ShardingSphereResultSetUtils.createColumnLabelAndIndexMap(sqlStatementContext, selectContainsEnhancedTable, resultSets.get(0).getMetaData());
+        }
+        return new ShardingSphereResultSet(resultSets, mergedResult, this, selectContainsEnhancedTable, executionContext, columnLabelAndIndexMap);
+    }
+    
+    private PreparedStatementExecuteQueryCallback createExecuteQueryCallback() {
+        return new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
+                metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
     }
     
     private ResultSet executeFederationQuery(final QueryContext queryContext) {
@@ -330,6 +382,10 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
+        return createDriverExecutionPrepareEngine(statementManager);
+    }
+    
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final StatementManager statementManager) {
         int maxConnectionsSizePerQuery = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, connection.getDatabaseConnectionManager(), statementManager,
                 statementOption, metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules(),
@@ -401,6 +457,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     public boolean execute() throws SQLException {
+        ResultSet ruleBasedQueryResultSet = null;
         try {
             if (statementsCacheable && !statements.isEmpty()) {
                 resetParameters();
@@ -426,6 +483,13 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
                 Collection<ExecuteResult> executeResults = executor.getRawExecutor().execute(createRawExecutionGroupContext(), executionContext.getQueryContext(), new RawSQLExecutorCallback());
                 return executeResults.iterator().next() instanceof QueryResult;
             }
+            if (executionContext.getSqlStatementContext() instanceof SelectStatementContext) {
+                Optional<QueryResult> ruleBasedQueryResult = executeRuleBasedQuery();
+                if (ruleBasedQueryResult.isPresent()) {
+                    ruleBasedQueryResultSet = createResultSet(Collections.singletonList(ruleBasedQueryResult.get()));
+                    return true;
+                }
+            }
             return isNeedImplicitCommitTransaction(connection, executionContext) ? executeWithImplicitCommitTransaction() : useDriverToExecute();
             // CHECKSTYLE:OFF
         } catch (final RuntimeException ex) {
@@ -434,6 +498,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType());
         } finally {
             clearBatch();
+            currentResultSet = ruleBasedQueryResultSet;
         }
     }
     
@@ -576,7 +641,10 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private QueryContext createQueryContext() {
-        List<Object> params = new ArrayList<>(getParameters());
+        return createQueryContext(new ArrayList<>(getParameters()));
+    }
+    
+    private QueryContext createQueryContext(final List<Object> params) {
         if (sqlStatementContext instanceof ParameterAware) {
             ((ParameterAware) sqlStatementContext).setUpParameters(params);
         }
@@ -612,9 +680,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
-    private void clearPrevious() {
-        statements.clear();
-        parameterSets.clear();
+    private void clearPrevious() throws SQLException {
+        closeRuleBasedQueryStatements();
         generatedValues.clear();
     }
     
@@ -650,22 +717,64 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
-            QueryContext queryContext = createQueryContext();
-            trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
-            executionContext = null == trafficInstanceId ? createExecutionContext(queryContext) : createExecutionContext(queryContext, trafficInstanceId);
-            batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
+            if (isBatchInsertRoutedOnce()) {
+                batchInsertParameterSets.add(new ArrayList<>(getParameters()));
+                return;
+            }
+            flushBatchInsertParameterSets();
+            addBatch(createQueryContext());
         } finally {
             currentResultSet = null;
             clearParameters();
         }
     }
     
+    private void addBatch(final QueryContext queryContext) {
+        trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
+        executionContext = null == trafficInstanceId ? createExecutionContext(queryContext) : createExecutionContext(queryContext, trafficInstanceId);
+        batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
+    }
+    
+    private boolean isBatchInsertRoutedOnce() {
+        return batchInsertRoutedOnce && !HintManager.isInstantiated() && batchPreparedStatementExecutor.getBatchExecutionUnits().isEmpty();
+    }
+    
+    private void flushBatchInsertParameterSets() {
+        if (batchInsertParameterSets.isEmpty()) {
+            return;
+        }
+        List<List<Object>> paramSets = new ArrayList<>(batchInsertParameterSets);
+        batchInsertParameterSets.clear();
+        Optional<BatchInsertExecutionContext> batchInsertExecutionContext = createBatchInsertExecutionContext(paramSets);
+        if (batchInsertExecutionContext.isPresent()) {
+            executionContext = batchInsertExecutionContext.get().getExecutionContext();
+            generatedValues.addAll(batchInsertExecutionContext.get().getGeneratedValues());
+            batchPreparedStatementExecutor.addBatchForInsertExecutionUnits(batchInsertExecutionContext.get().getExecutionUnits(), paramSets.size());
+            return;
+        }
+        batchInsertRoutedOnce = false;
+        for (List<Object> each : paramSets) {
+            addBatch(createQueryContext(each));
+        }
+    }
+    
+    private Optional<BatchInsertExecutionContext> createBatchInsertExecutionContext(final List<List<Object>> paramSets) {
+        List<Object> params = ((InsertStatementContext) sqlStatementContext).setUpBatchParameters(paramSets);
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, params, hintValueContext, true);
+        RuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
+        ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(databaseName);
+        SQLAuditEngine.audit(sqlStatementContext, params, globalRuleMetaData, currentDatabase, null, hintValueContext);
+        return batchInsertKernelProcessor.generateExecutionContext(
+                queryContext, currentDatabase, globalRuleMetaData, metaDataContexts.getMetaData().getProps(), connection.getDatabaseConnectionManager().getConnectionContext());
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
-        if (null == executionContext) {
+        if (null == executionContext && batchInsertParameterSets.isEmpty()) {
             return new int[0];
         }
         try {
+            flushBatchInsertParameterSets();
             // TODO add raw SQL executor
             initBatchPreparedStatementExecutor();
             int[] results = batchPreparedStatementExecutor.executeBatch(executionContext.getSqlStatementContext());
@@ -715,6 +824,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void clearBatch() {
         currentResultSet = null;
+        batchInsertParameterSets.clear();
         batchPreparedStatementExecutor.clear();
         clearParameters();
     }
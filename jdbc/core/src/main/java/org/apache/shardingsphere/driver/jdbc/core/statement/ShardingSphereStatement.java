@@ -53,6 +53,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.RawSQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.callback.RawSQLExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.rule.RuleBasedQueryExecuteEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
@@ -175,11 +176,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
                 return executeFederationQuery(queryContext);
             }
             executionContext = createExecutionContext(queryContext);
-            List<QueryResult> queryResults = executeQuery0();
-            MergedResult mergedResult = mergeQuery(queryResults);
-            boolean selectContainsEnhancedTable =
-                    executionContext.getSqlStatementContext() instanceof SelectStatementContext && ((SelectStatementContext) executionContext.getSqlStatementContext()).isContainsEnhancedTable();
-            result = new ShardingSphereResultSet(getResultSets(), mergedResult, this, selectContainsEnhancedTable, executionContext);
+            result = createResultSet(executeQuery0());
             // CHECKSTYLE:OFF
         } catch (final RuntimeException ex) {
             // CHECKSTYLE:ON
@@ -219,12 +216,43 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             return executor.getRawExecutor().execute(
                     createRawExecutionContext(), executionContext.getQueryContext(), new RawSQLExecutorCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
         }
+        Optional<QueryResult> ruleBasedQueryResult = executeRuleBasedQuery();
+        if (ruleBasedQueryResult.isPresent()) {
+            return Collections.singletonList(ruleBasedQueryResult.get());
+        }
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
         cacheStatements(executionGroupContext.getInputGroups());
-        StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
+        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(), createExecuteQueryCallback());
+    }
+    
+    private Optional<QueryResult> executeRuleBasedQuery() throws SQLException {
+        Optional<QueryResult> result = new RuleBasedQueryExecuteEngine(metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps())
+                .execute(executionContext, this::executeRuleBasedQueryRound);
+        if (!result.isPresent()) {
+            clearStatements();
+        }
+        return result;
+    }
+    
+    private List<QueryResult> executeRuleBasedQueryRound(final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        clearStatements();
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
+                createDriverExecutionPrepareEngine().prepare(executionContext.getRouteContext(), executionUnits, new ExecutionGroupReportContext(databaseName));
+        cacheStatements(executionGroupContext.getInputGroups());
+        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(), createExecuteQueryCallback());
+    }
+    
+    private StatementExecuteQueryCallback createExecuteQueryCallback() {
+        return new StatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
                 metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), executionContext.getSqlStatementContext().getSqlStatement(),
                 SQLExecutorExceptionHandler.isExceptionThrown());
-        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(), callback);
+    }
+    
+    private ShardingSphereResultSet createResultSet(final List<QueryResult> queryResults) throws SQLException {
+        MergedResult mergedResult = mergeQuery(queryResults);
+        boolean selectContainsEnhancedTable =
+                executionContext.getSqlStatementContext() instanceof SelectStatementContext && ((SelectStatementContext) executionContext.getSqlStatementContext()).isContainsEnhancedTable();
+        return new ShardingSphereResultSet(getResultSets(), mergedResult, this, selectContainsEnhancedTable, executionContext);
     }
     
     private ResultSet executeFederationQuery(final QueryContext queryContext) {
@@ -430,6 +458,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private boolean execute0(final String sql, final ExecuteCallback executeCallback, final TrafficExecutorCallback<Boolean> trafficCallback) throws SQLException {
+        ResultSet ruleBasedQueryResultSet = null;
         try {
             QueryContext queryContext = createQueryContext(sql);
             handleAutoCommit(queryContext);
@@ -451,9 +480,16 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
                 Collection<ExecuteResult> results = executor.getRawExecutor().execute(createRawExecutionContext(), executionContext.getQueryContext(), new RawSQLExecutorCallback());
                 return results.iterator().next() instanceof QueryResult;
             }
+            if (executionContext.getSqlStatementContext() instanceof SelectStatementContext) {
+                Optional<QueryResult> ruleBasedQueryResult = executeRuleBasedQuery();
+                if (ruleBasedQueryResult.isPresent()) {
+                    ruleBasedQueryResultSet = createResultSet(Collections.singletonList(ruleBasedQueryResult.get()));
+                    return true;
+                }
+            }
             return isNeedImplicitCommitTransaction(connection, executionContext) ? executeWithImplicitCommitTransaction(executeCallback) : useDriverToExecute(executeCallback);
         } finally {
-            currentResultSet = null;
+            currentResultSet = ruleBasedQueryResultSet;
         }
     }
     
@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.connection.kernel.BatchInsertExecutionUnit;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -52,11 +53,15 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -74,6 +79,8 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String MULTI_ROWS_INSERT_SQL = "INSERT INTO table_x (id) VALUES (?), (?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(Runtime.getRuntime().availableProcessors() * 2 - 1);
     
     private BatchPreparedStatementExecutor executor;
@@ -170,6 +177,50 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
+                new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(2)))));
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(3)))));
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+        assertThat(actual.get(1).getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(actual.get(1).getParameterSets(), is(Collections.singletonList(Collections.singletonList(2))));
+    }
+    
+    @Test
+    void assertAddBatchForInsertExecutionUnits() {
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(0)))));
+        executor.addBatchForInsertExecutionUnits(Arrays.asList(new BatchInsertExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(MULTI_ROWS_INSERT_SQL, Arrays.asList(1, 3))), Arrays.asList(0, 2)),
+                new BatchInsertExecutionUnit(new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(2))), Collections.singletonList(1))), 3);
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(1).getExecutionUnit().getSqlUnit().getSql(), is(MULTI_ROWS_INSERT_SQL));
+        assertThat(actual.get(1).getParameterSets(), is(Collections.singletonList(Arrays.asList(1, 3))));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap().get(3), is(0));
+        assertThat(actual.get(1).getRowsPerActualAddBatchCall(), is(2));
+        assertThat(actual.get(2).getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+        assertThat(actual.get(2).getRowsPerActualAddBatchCall(), is(1));
+    }
+    
+    @Test
+    void assertExecuteBatchForCoalescedPreparedStatement() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{2, 3});
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit(MULTI_ROWS_INSERT_SQL, Arrays.asList(1, 2, 3, 4)));
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(executionUnit);
+        batchExecutionUnit.mapAddBatchCount(Arrays.asList(0, 1));
+        batchExecutionUnit.mapAddBatchCount(Arrays.asList(2, 3));
+        Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = Collections.singletonList(
+                new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, preparedStatement))));
+        setFields(executionGroups, Collections.singletonMap(executionUnit, batchExecutionUnit), 4);
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -180,22 +231,22 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
-        setFields(executionGroups, batchExecutionUnits);
+        setFields(executionGroups, batchExecutionUnits, 2);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits, final int batchCount) {
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
                 new ExecutionGroupReportContext("logic_db")));
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), executor, batchExecutionUnits);
-        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, 2);
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, batchCount);
     }
 }
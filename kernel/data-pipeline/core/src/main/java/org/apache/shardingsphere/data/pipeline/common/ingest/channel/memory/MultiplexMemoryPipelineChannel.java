@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
 
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
@@ -25,16 +26,18 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderReco
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
  * Multiplex memory pipeline channel.
+ * 
+ * <p>Each consumer thread is assigned to a distinct channel on its first fetch, peek, poll or ack.</p>
  */
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
@@ -42,11 +45,17 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final List<PipelineChannel> channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final AtomicInteger nextAssignmentIndex = new AtomicInteger();
+    
+    private final ThreadLocal<PipelineChannel> assignedChannel = ThreadLocal.withInitial(this::assignChannel);
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
-        this.channelNumber = channelNumber;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
+        this(IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList()));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final List<PipelineChannel> channels) {
+        channelNumber = channels.size();
+        this.channels = new ArrayList<>(channels);
     }
     
     @Override
@@ -58,7 +67,7 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         }
         long insertDataRecordsCount = records.stream().filter(DataRecord.class::isInstance).map(DataRecord.class::cast).filter(each -> IngestDataChangeType.INSERT.equals(each.getType())).count();
         if (insertDataRecordsCount == records.size()) {
-            channels.get(Math.abs(firstRecord.hashCode() % channelNumber)).pushRecords(records);
+            channels.get(getChannelIndex(firstRecord)).pushRecords(records);
             return;
         }
         for (Record each : records) {
@@ -73,7 +82,7 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
                 channels.get(i).pushRecords(records);
             }
         } else if (DataRecord.class.equals(ingestedRecord.getClass())) {
-            channels.get(Math.abs(ingestedRecord.hashCode() % channelNumber)).pushRecords(records);
+            channels.get(getChannelIndex(ingestedRecord)).pushRecords(records);
         } else if (PlaceholderRecord.class.equals(ingestedRecord.getClass())) {
             channels.get(0).pushRecords(records);
         } else {
@@ -81,6 +90,10 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         }
     }
     
+    private int getChannelIndex(final Record record) {
+        return Math.floorMod(record.hashCode(), channelNumber);
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
         return findChannel().fetchRecords(batchSize, timeout, timeUnit);
@@ -102,28 +115,13 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels.get(channelAssignment.get(threadId));
+        return assignedChannel.get();
     }
     
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
-            }
-        }
-    }
-    
-    private void assignmentChannel(final String threadId) {
-        for (int i = 0; i < channels.size(); i++) {
-            if (!channelAssignment.containsValue(i)) {
-                channelAssignment.put(threadId, i);
-                return;
-            }
-        }
+    private PipelineChannel assignChannel() {
+        int index = nextAssignmentIndex.getAndIncrement();
+        Preconditions.checkState(index < channelNumber, "All %s channels have been assigned to consumer threads.", channelNumber);
+        return channels.get(index);
     }
     
     @Override
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer memory pipeline channel.
+ *
+ * <p>Bounded lock-free ring buffer, every slot carries a sequence so that producers and consumers only compete on CAS of positions.</p>
+ */
+public final class RingBufferMemoryPipelineChannel implements PipelineChannel {
+    
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    
+    private final int mask;
+    
+    private final AtomicReferenceArray<List<Record>> buffer;
+    
+    private final AtomicLongArray sequences;
+    
+    private final AtomicLong producerPosition = new AtomicLong();
+    
+    private final AtomicLong consumerPosition = new AtomicLong();
+    
+    private final AckCallback ackCallback;
+    
+    public RingBufferMemoryPipelineChannel(final int bufferSize, final AckCallback ackCallback) {
+        int capacity = getCapacity(bufferSize);
+        mask = capacity - 1;
+        buffer = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.ackCallback = ackCallback;
+    }
+    
+    private int getCapacity(final int bufferSize) {
+        int result = 1;
+        while (result < bufferSize) {
+            result <<= 1;
+        }
+        return result;
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) {
+        while (!offer(records)) {
+            park(FULL_PARK_NANOS);
+        }
+    }
+    
+    private boolean offer(final List<Record> records) {
+        while (true) {
+            long position = producerPosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (0L == difference) {
+                if (producerPosition.compareAndSet(position, position + 1L)) {
+                    buffer.set(index, records);
+                    sequences.set(index, position + 1L);
+                    return true;
+                }
+            } else if (difference < 0L) {
+                return false;
+            }
+        }
+    }
+    
+    private List<Record> poll() {
+        while (true) {
+            long position = consumerPosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1L);
+            if (0L == difference) {
+                if (consumerPosition.compareAndSet(position, position + 1L)) {
+                    List<Record> result = buffer.get(index);
+                    buffer.set(index, null);
+                    sequences.set(index, position + mask + 1L);
+                    return result;
+                }
+            } else if (difference < 0L) {
+                return null;
+            }
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+        while (result.size() < batchSize) {
+            List<Record> records = poll();
+            if (null != records) {
+                result.addAll(records);
+                continue;
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                break;
+            }
+            park(Math.min(IDLE_PARK_NANOS, remainingNanos));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void park(final long nanos) {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        LockSupport.parkNanos(nanos);
+    }
+    
+    @Override
+    public List<Record> peekRecords() {
+        long position = consumerPosition.get();
+        int index = (int) (position & mask);
+        List<Record> result = sequences.get(index) == position + 1L ? buffer.get(index) : null;
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public List<Record> pollRecords() {
+        List<Record> result = poll();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        List<Record> records;
+        do {
+            records = poll();
+        } while (null != records);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord.Key;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
@@ -85,6 +86,37 @@ public final class DataRecordMerger {
         return result;
     }
     
+    /**
+     * Group consecutive update data records which have same updated columns and unique key columns, so each group could share one update SQL.
+     *
+     * @param dataRecords update data records
+     * @return grouped update data records in original order
+     */
+    public List<List<DataRecord>> groupByUpdatedColumns(final List<DataRecord> dataRecords) {
+        List<List<DataRecord>> result = new LinkedList<>();
+        List<String> previousColumnNames = null;
+        for (DataRecord each : dataRecords) {
+            List<String> columnNames = getUpdatedAndUniqueKeyColumnNames(each);
+            if (!columnNames.equals(previousColumnNames)) {
+                result.add(new LinkedList<>());
+                previousColumnNames = columnNames;
+            }
+            result.get(result.size() - 1).add(each);
+        }
+        return result;
+    }
+    
+    private List<String> getUpdatedAndUniqueKeyColumnNames(final DataRecord dataRecord) {
+        List<String> result = new ArrayList<>(dataRecord.getColumnCount() + 1);
+        result.add(dataRecord.getTableName());
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isUpdated() || each.isUniqueKey()) {
+                result.add((each.isUpdated() ? "U" : "") + (each.isUniqueKey() ? "K" : "") + ":" + each.getName());
+            }
+        }
+        return result;
+    }
+    
     private Key getKeyFromDataRecord(final DataRecord dataRecord) {
         return IngestDataChangeType.DELETE.equals(dataRecord.getType()) ? dataRecord.getOldKey() : dataRecord.getKey();
     }
@@ -190,8 +190,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+        for (List<DataRecord> each : MERGER.groupByUpdatedColumns(dataRecords)) {
+            if (1 == each.size()) {
+                executeUpdate(connection, each.get(0));
+            } else {
+                executeBatchUpdate(connection, each);
+            }
         }
     }
     
@@ -202,18 +206,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String updateSql = importSQLBuilder.buildUpdateSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
             updateStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
-                }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
-            }
+            setUpdateParameters(preparedStatement, shardingColumns, setColumns, conditionColumns);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
@@ -224,6 +217,45 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void executeBatchUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.get(0);
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        String updateSql = importSQLBuilder.buildUpdateSQL(getSchemaName(dataRecord.getTableName()), dataRecord, RecordUtils.extractConditionColumns(dataRecord, shardingColumns));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
+            updateStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                List<Column> setColumns = each.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+                setUpdateParameters(preparedStatement, shardingColumns, setColumns, RecordUtils.extractConditionColumns(each, shardingColumns));
+                preparedStatement.addBatch();
+            }
+            int[] updateCounts = preparedStatement.executeBatch();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("executeBatchUpdate failed, updateCount={}, updateSql={}, dataRecord={}", updateCounts[i], updateSql, dataRecords.get(i));
+                }
+            }
+        } finally {
+            updateStatement.set(null);
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final Set<String> shardingColumns,
+                                     final List<Column> setColumns, final List<Column> conditionColumns) throws SQLException {
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+        }
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
         String deleteSQL = importSQLBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord,
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
@@ -40,7 +41,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class MultiplexMemoryPipelineChannelTest {
     
@@ -66,6 +71,23 @@ class MultiplexMemoryPipelineChannelTest {
         execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    void assertAssignDistinctChannelForEachConsumerThread() throws InterruptedException {
+        List<PipelineChannel> channels = Arrays.asList(mock(PipelineChannel.class), mock(PipelineChannel.class));
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(channels);
+        for (int i = 0; i < CHANNEL_NUMBER; i++) {
+            Thread thread = new Thread(() -> {
+                memoryChannel.pollRecords();
+                memoryChannel.pollRecords();
+            });
+            thread.start();
+            thread.join();
+        }
+        verify(channels.get(0), times(2)).pollRecords();
+        verify(channels.get(1), times(2)).pollRecords();
+        assertThrows(IllegalStateException.class, memoryChannel::pollRecords);
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int recordCount, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(recordCount);
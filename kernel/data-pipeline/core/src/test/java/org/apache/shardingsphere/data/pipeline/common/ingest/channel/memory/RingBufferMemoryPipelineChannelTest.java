@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.common.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferMemoryPipelineChannelTest {
+    
+    @Test
+    void assertFetchRecordsInOrder() {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(4, new EmptyAckCallback());
+        List<Record> expected = new ArrayList<>(20);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 4; i++) {
+                Record record = new PlaceholderRecord(new PlaceholderPosition());
+                expected.add(record);
+                channel.pushRecords(Collections.singletonList(record));
+            }
+            List<Record> actual = channel.fetchRecords(4, 1, TimeUnit.SECONDS);
+            assertThat(actual.size(), is(4));
+            for (int i = 0; i < 4; i++) {
+                assertThat(actual.get(i), sameInstance(expected.get(round * 4 + i)));
+            }
+        }
+    }
+    
+    @Test
+    void assertPeekAndPollRecords() {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(2, new EmptyAckCallback());
+        assertTrue(channel.peekRecords().isEmpty());
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecords(records);
+        assertThat(channel.peekRecords(), sameInstance(records));
+        assertThat(channel.pollRecords(), sameInstance(records));
+        assertTrue(channel.pollRecords().isEmpty());
+    }
+    
+    @Test
+    void assertFetchRecordsTimeoutCorrectly() {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(10, new EmptyAckCallback());
+        long startMills = System.currentTimeMillis();
+        channel.fetchRecords(1, 100, TimeUnit.MILLISECONDS);
+        long delta = System.currentTimeMillis() - startMills;
+        assertTrue(delta >= 100 && delta < 250, "Delta is not in [100,250) : " + delta);
+    }
+    
+    @Test
+    void assertPushRecordsWithConcurrentProducers() throws Exception {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(8, new EmptyAckCallback());
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            futures.add(executorService.submit(() -> pushPlaceholderRecords(channel, 1000)));
+        }
+        int actualCount = 0;
+        while (actualCount < 4000) {
+            actualCount += channel.fetchRecords(100, 1, TimeUnit.SECONDS).size();
+        }
+        for (Future<?> each : futures) {
+            each.get(10L, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        assertThat(actualCount, is(4000));
+        assertTrue(channel.pollRecords().isEmpty());
+    }
+    
+    private void pushPlaceholderRecords(final RingBufferMemoryPipelineChannel channel, final int count) {
+        for (int i = 0; i < count; i++) {
+            channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        }
+    }
+}
@@ -160,6 +160,26 @@ class DataRecordMergerTest {
         assertThat(groupedDataRecords.get(1).getBatchInsertDataRecords().size(), is(1));
     }
     
+    @Test
+    void assertGroupByUpdatedColumns() {
+        DataRecord first = mockUpdateDataRecord("t1", 1, 1, 1);
+        DataRecord second = mockUpdateDataRecord("t1", 2, 2, 2);
+        DataRecord updatePrimaryKey = mockUpdateDataRecord("t1", 3, 4, 3, 3);
+        DataRecord third = mockUpdateDataRecord("t1", 5, 5, 5);
+        DataRecord otherTable = mockUpdateDataRecord("t2", 6, 6, 6);
+        List<List<DataRecord>> actual = dataRecordMerger.groupByUpdatedColumns(Arrays.asList(first, second, updatePrimaryKey, third, otherTable));
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0).size(), is(2));
+        assertThat(actual.get(0).get(0), sameInstance(first));
+        assertThat(actual.get(0).get(1), sameInstance(second));
+        assertThat(actual.get(1).size(), is(1));
+        assertThat(actual.get(1).get(0), sameInstance(updatePrimaryKey));
+        assertThat(actual.get(2).size(), is(1));
+        assertThat(actual.get(2).get(0), sameInstance(third));
+        assertThat(actual.get(3).size(), is(1));
+        assertThat(actual.get(3).get(0), sameInstance(otherTable));
+    }
+    
     private DataRecord mockInsertDataRecord(final int id, final int userId, final int totalPrice) {
         return mockInsertDataRecord("order", id, userId, totalPrice);
     }
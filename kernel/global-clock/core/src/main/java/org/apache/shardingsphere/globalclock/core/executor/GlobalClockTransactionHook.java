@@ -71,7 +71,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         if (!enabled) {
             return;
         }
-        transactionContext.setBeginMills(globalClockProvider.getCurrentTimestamp());
+        transactionContext.setBeginMills(globalClockProvider.getSnapshotTimestamp());
     }
     
     @Override
@@ -88,7 +88,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
             return;
         }
         if (null == isolationLevel || TransactionIsolationLevel.READ_COMMITTED == isolationLevel) {
-            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, globalClockProvider.getCurrentTimestamp());
+            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, globalClockProvider.getSnapshotTimestamp());
         }
     }
     
@@ -39,4 +39,15 @@ public interface GlobalClockProvider extends TypedSPI {
      * @return next timestamp
      */
     long getNextTimestamp();
+    
+    /**
+     * Get snapshot timestamp.
+     * 
+     * <p>Snapshot timestamp may be behind current timestamp, but must not be ahead of it.</p>
+     *
+     * @return snapshot timestamp
+     */
+    default long getSnapshotTimestamp() {
+        return getCurrentTimestamp();
+    }
 }
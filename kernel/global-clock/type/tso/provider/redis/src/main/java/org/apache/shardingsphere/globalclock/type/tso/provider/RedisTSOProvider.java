@@ -24,10 +24,26 @@ import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Redis timestamp oracle provider.
+ * 
+ * <p>
+ * Current and next timestamps, which are used as commit CSNs, are always read or increased on redis, so commit CSNs stay globally ordered.
+ * When {@code leaseSize} is greater than 1, each compute node leases snapshot timestamps only: one CSN read from redis is reused as snapshot
+ * timestamp by at most {@code leaseSize} transactions and for at most {@code leaseTimeoutMilliseconds}, then it is read again:
+ * </p>
+ * <ul>
+ *     <li>a leased snapshot timestamp is a CSN which redis has already reached, so a snapshot never includes a commit with a greater CSN,
+ *     and it never misses a commit with a smaller CSN which it did not miss when the CSN was read;</li>
+ *     <li>snapshot timestamps of one compute node never go backwards, and a commit of the compute node moves them to the CSN after the commit,
+ *     so transactions of a compute node always see its own commits;</li>
+ *     <li>a snapshot on one compute node may miss commits made on other compute nodes after its leased CSN was read, which is bounded by
+ *     {@code leaseTimeoutMilliseconds}. Keep leasing disabled when transactions across compute nodes must read each other's latest commits.</li>
+ * </ul>
  */
 @Slf4j
 public final class RedisTSOProvider implements TSOProvider {
@@ -40,17 +56,34 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     
+    private final AtomicLong leasedSnapshotCount = new AtomicLong();
+    
+    private final Object leaseLock = new Object();
+    
+    private volatile long leasedSnapshotCSN;
+    
+    private volatile long leasedNanoTime;
+    
     private JedisPool jedisPool;
     
     private Properties props;
     
+    private long leaseSize;
+    
+    private long leaseTimeoutNanos;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         if (initialized.compareAndSet(false, true)) {
+            leaseSize = Long.parseLong(getValue(props, RedisTSOPropertyKey.LEASE_SIZE));
+            leaseTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(getValue(props, RedisTSOPropertyKey.LEASE_TIMEOUT_MILLISECONDS)));
             createJedisPool();
             checkJedisPool();
             initCSN();
+            if (isLeaseEnabled()) {
+                leaseSnapshotCSN();
+            }
         }
     }
     
@@ -82,6 +115,10 @@ public final class RedisTSOProvider implements TSOProvider {
         return props.containsKey(propertyKey.getKey()) ? props.getProperty(propertyKey.getKey()) : propertyKey.getDefaultValue();
     }
     
+    private boolean isLeaseEnabled() {
+        return leaseSize > 1L;
+    }
+    
     @Override
     public long getCurrentTimestamp() {
         try (Jedis jedis = jedisPool.getResource()) {
@@ -91,9 +128,43 @@ public final class RedisTSOProvider implements TSOProvider {
     
     @Override
     public long getNextTimestamp() {
+        long result;
         try (Jedis jedis = jedisPool.getResource()) {
-            return jedis.incr(CSN_KEY);
+            result = jedis.incr(CSN_KEY);
+        }
+        if (isLeaseEnabled()) {
+            synchronized (leaseLock) {
+                leasedSnapshotCSN = Math.max(leasedSnapshotCSN, result);
+            }
         }
+        return result;
+    }
+    
+    @Override
+    public long getSnapshotTimestamp() {
+        if (!isLeaseEnabled()) {
+            return getCurrentTimestamp();
+        }
+        if (!isLeaseExpired() && leasedSnapshotCount.incrementAndGet() <= leaseSize) {
+            return leasedSnapshotCSN;
+        }
+        synchronized (leaseLock) {
+            if (isLeaseExpired() || leasedSnapshotCount.get() > leaseSize) {
+                leaseSnapshotCSN();
+            }
+            leasedSnapshotCount.incrementAndGet();
+            return leasedSnapshotCSN;
+        }
+    }
+    
+    private void leaseSnapshotCSN() {
+        leasedSnapshotCSN = Math.max(leasedSnapshotCSN, getCurrentTimestamp());
+        leasedSnapshotCount.set(0L);
+        leasedNanoTime = System.nanoTime();
+    }
+    
+    private boolean isLeaseExpired() {
+        return System.nanoTime() - leasedNanoTime >= leaseTimeoutNanos;
     }
     
     @Override
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+class RedisTSOProviderTest {
+    
+    private final Map<String, String> redisData = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger redisRoundTrips = new AtomicInteger();
+    
+    private MockedConstruction<JedisPool> mockedJedisPool;
+    
+    @BeforeEach
+    void setUp() {
+        Jedis jedis = createLocalRedis();
+        mockedJedisPool = mockConstruction(JedisPool.class, (mock, context) -> when(mock.getResource()).thenReturn(jedis));
+    }
+    
+    private Jedis createLocalRedis() {
+        Jedis result = mock(Jedis.class);
+        when(result.get(anyString())).thenAnswer(invocation -> {
+            redisRoundTrips.incrementAndGet();
+            return redisData.get(invocation.<String>getArgument(0));
+        });
+        when(result.set(anyString(), anyString())).thenAnswer(invocation -> {
+            redisRoundTrips.incrementAndGet();
+            redisData.put(invocation.getArgument(0), invocation.getArgument(1));
+            return "OK";
+        });
+        when(result.incr(anyString())).thenAnswer(invocation -> incrBy(invocation.getArgument(0), 1L));
+        when(result.incrBy(anyString(), anyLong())).thenAnswer(invocation -> incrBy(invocation.getArgument(0), invocation.getArgument(1)));
+        return result;
+    }
+    
+    private synchronized long incrBy(final String key, final long increment) {
+        redisRoundTrips.incrementAndGet();
+        long result = Long.parseLong(redisData.getOrDefault(key, "0")) + increment;
+        redisData.put(key, String.valueOf(result));
+        return result;
+    }
+    
+    @AfterEach
+    void tearDown() {
+        mockedJedisPool.close();
+    }
+    
+    @Test
+    void assertGetTimestampWithoutLease() {
+        RedisTSOProvider provider = createProvider(new Properties());
+        assertThat(provider.getCurrentTimestamp(), is((long) Integer.MAX_VALUE));
+        assertThat(provider.getSnapshotTimestamp(), is((long) Integer.MAX_VALUE));
+        assertThat(provider.getNextTimestamp(), is(Integer.MAX_VALUE + 1L));
+        assertThat(provider.getCurrentTimestamp(), is(Integer.MAX_VALUE + 1L));
+        assertThat(provider.getSnapshotTimestamp(), is(Integer.MAX_VALUE + 1L));
+        assertThat(redisData.get("csn"), is(String.valueOf(Integer.MAX_VALUE + 1L)));
+    }
+    
+    @Test
+    void assertGetSnapshotTimestampWithLease() {
+        RedisTSOProvider provider = createProvider(createLeaseProps(3, Long.MAX_VALUE));
+        final int roundTrips = redisRoundTrips.get();
+        assertThat(provider.getSnapshotTimestamp(), is((long) Integer.MAX_VALUE));
+        assertThat(provider.getSnapshotTimestamp(), is((long) Integer.MAX_VALUE));
+        assertThat(provider.getSnapshotTimestamp(), is((long) Integer.MAX_VALUE));
+        assertThat(redisRoundTrips.get(), is(roundTrips));
+        assertThat(provider.getSnapshotTimestamp(), is((long) Integer.MAX_VALUE));
+        assertThat(redisRoundTrips.get(), is(roundTrips + 1));
+    }
+    
+    @Test
+    void assertGetCommitTimestampWithLease() {
+        RedisTSOProvider provider = createProvider(createLeaseProps(3, Long.MAX_VALUE));
+        final int roundTrips = redisRoundTrips.get();
+        assertThat(provider.getCurrentTimestamp(), is((long) Integer.MAX_VALUE));
+        assertThat(provider.getNextTimestamp(), is(Integer.MAX_VALUE + 1L));
+        assertThat(provider.getCurrentTimestamp(), is(Integer.MAX_VALUE + 1L));
+        assertThat(redisRoundTrips.get(), is(roundTrips + 3));
+        assertThat(provider.getSnapshotTimestamp(), is(Integer.MAX_VALUE + 1L));
+        assertThat(redisRoundTrips.get(), is(roundTrips + 3));
+    }
+    
+    @Test
+    void assertGetTimestampWithLeaseOnMultipleComputeNodes() {
+        Properties props = createLeaseProps(10, Long.MAX_VALUE);
+        RedisTSOProvider firstProvider = createProvider(props);
+        RedisTSOProvider secondProvider = createProvider(props);
+        long firstSnapshotTimestamp = firstProvider.getSnapshotTimestamp();
+        long commitTimestamp = secondProvider.getCurrentTimestamp();
+        secondProvider.getNextTimestamp();
+        assertThat(firstProvider.getCurrentTimestamp(), greaterThan(commitTimestamp));
+        assertThat(firstProvider.getSnapshotTimestamp(), is(firstSnapshotTimestamp));
+        assertThat(firstProvider.getSnapshotTimestamp(), lessThanOrEqualTo(commitTimestamp));
+    }
+    
+    @Test
+    void assertGetSnapshotTimestampWithUnexpiredLeaseOnIdleComputeNode() {
+        RedisTSOProvider idleProvider = createProvider(createLeaseProps(10, Long.MAX_VALUE));
+        List<Long> busyTimestamps = getNextTimestamps(createProvider(createLeaseProps(10, Long.MAX_VALUE)), 25);
+        assertThat(idleProvider.getSnapshotTimestamp(), lessThan(Collections.max(busyTimestamps)));
+    }
+    
+    @Test
+    void assertGetSnapshotTimestampWithExpiredLeaseOnIdleComputeNode() {
+        RedisTSOProvider idleProvider = createProvider(createLeaseProps(10, 0L));
+        List<Long> busyTimestamps = getNextTimestamps(createProvider(createLeaseProps(10, Long.MAX_VALUE)), 25);
+        assertThat(idleProvider.getSnapshotTimestamp(), is(Collections.max(busyTimestamps)));
+    }
+    
+    @Test
+    void assertGetSnapshotTimestampWithLeaseConcurrently() throws Exception {
+        RedisTSOProvider provider = createProvider(createLeaseProps(7, Long.MAX_VALUE));
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Long>>> futures = new LinkedList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executorService.submit(() -> getSnapshotTimestampsAfterCommits(provider, 1000)));
+            }
+            for (Future<List<Long>> each : futures) {
+                List<Long> timestamps = each.get();
+                for (int i = 1; i < timestamps.size(); i++) {
+                    assertThat(timestamps.get(i), greaterThan(timestamps.get(i - 1)));
+                }
+            }
+            assertThat(provider.getSnapshotTimestamp(), is(provider.getCurrentTimestamp()));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private List<Long> getSnapshotTimestampsAfterCommits(final RedisTSOProvider provider, final int count) {
+        List<Long> result = new LinkedList<>();
+        for (int i = 0; i < count; i++) {
+            long commitTimestamp = provider.getNextTimestamp();
+            long actual = provider.getSnapshotTimestamp();
+            assertTrue(actual >= commitTimestamp);
+            result.add(actual);
+        }
+        return result;
+    }
+    
+    private List<Long> getNextTimestamps(final RedisTSOProvider provider, final int count) {
+        List<Long> result = new LinkedList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(provider.getNextTimestamp());
+        }
+        return result;
+    }
+    
+    private Properties createLeaseProps(final long leaseSize, final long leaseTimeoutMillis) {
+        return PropertiesBuilder.build(new Property("leaseSize", String.valueOf(leaseSize)), new Property("leaseTimeoutMilliseconds", String.valueOf(leaseTimeoutMillis)));
+    }
+    
+    private RedisTSOProvider createProvider(final Properties props) {
+        RedisTSOProvider result = new RedisTSOProvider();
+        result.init(props);
+        return result;
+    }
+}
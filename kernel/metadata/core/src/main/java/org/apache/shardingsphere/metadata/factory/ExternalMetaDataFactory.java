@@ -82,7 +82,7 @@ public final class ExternalMetaDataFactory {
             String databaseName = entry.getKey();
             if (!entry.getValue().getStorageUnits().isEmpty() || !systemDatabase.getSystemSchemas().contains(databaseName)) {
                 Map<String, DatabaseType> storageTypes = DatabaseTypeEngine.getStorageTypes(entry.getKey(), entry.getValue());
-                result.put(databaseName.toLowerCase(), ShardingSphereDatabase.create(databaseName, protocolType, storageTypes, entry.getValue(), props, instanceContext));
+                result.put(databaseName.toLowerCase(), ShardingSphereDatabase.createOnStartup(databaseName, protocolType, storageTypes, entry.getValue(), props, instanceContext));
             }
         }
         return result;
@@ -57,13 +57,12 @@ public final class DataSourceUnitPersistService implements DatabaseBasedPersistS
     
     @Override
     public Map<String, DataSourcePoolProperties> load(final String databaseName) {
-        return isExisted(databaseName) ? getDataSourcePoolProperties(repository.getDirectly(
-                DatabaseMetaDataNode.getMetaDataDataSourceUnitsPath(databaseName, getDatabaseActiveVersion(databaseName)))) : new LinkedHashMap<>();
-    }
-    
-    private boolean isExisted(final String databaseName) {
-        return !Strings.isNullOrEmpty(getDatabaseActiveVersion(databaseName)) && !Strings.isNullOrEmpty(repository.getDirectly(DatabaseMetaDataNode.getMetaDataDataSourceUnitsPath(databaseName,
-                getDatabaseActiveVersion(databaseName))));
+        String activeVersion = getDatabaseActiveVersion(databaseName);
+        if (Strings.isNullOrEmpty(activeVersion)) {
+            return new LinkedHashMap<>();
+        }
+        String dataSources = repository.getDirectly(DatabaseMetaDataNode.getMetaDataDataSourceUnitsPath(databaseName, activeVersion));
+        return Strings.isNullOrEmpty(dataSources) ? new LinkedHashMap<>() : getDataSourcePoolProperties(dataSources);
     }
     
     @SuppressWarnings("unchecked")
@@ -56,15 +56,12 @@ public final class DatabaseRulePersistService implements DatabaseBasedPersistSer
     @SuppressWarnings("unchecked")
     @Override
     public Collection<RuleConfiguration> load(final String databaseName) {
-        return isExisted(databaseName)
-                ? new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(YamlEngine.unmarshal(repository.getDirectly(DatabaseMetaDataNode.getRulePath(databaseName,
-                        getDatabaseActiveVersion(databaseName))), Collection.class, true))
-                : new LinkedList<>();
-    }
-    
-    private boolean isExisted(final String databaseName) {
-        return !Strings.isNullOrEmpty(getDatabaseActiveVersion(databaseName))
-                && !Strings.isNullOrEmpty(repository.getDirectly(DatabaseMetaDataNode.getRulePath(databaseName, getDatabaseActiveVersion(databaseName))));
+        String activeVersion = getDatabaseActiveVersion(databaseName);
+        if (Strings.isNullOrEmpty(activeVersion)) {
+            return new LinkedList<>();
+        }
+        String rules = repository.getDirectly(DatabaseMetaDataNode.getRulePath(databaseName, activeVersion));
+        return Strings.isNullOrEmpty(rules) ? new LinkedList<>() : new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(YamlEngine.unmarshal(rules, Collection.class, true));
     }
     
     private String getDatabaseActiveVersion(final String databaseName) {
@@ -95,12 +95,17 @@ public final class NewTableMetaDataPersistService implements SchemaMetaDataPersi
     }
     
     private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
+        Map<String, String> activeVersionNodes = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            activeVersionNodes.put(NewDatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each), each);
+        }
+        Map<String, String> versionNodes = new LinkedHashMap<>(tableNames.size(), 1F);
+        repository.getDirectlyInBatch(activeVersionNodes.keySet()).forEach((key, value) -> versionNodes.put(
+                NewDatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, activeVersionNodes.get(key), value), activeVersionNodes.get(key)));
         Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
-        tableNames.forEach(each -> {
-            String table = repository.getDirectly(NewDatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, each,
-                    repository.getDirectly(NewDatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each))));
-            if (!Strings.isNullOrEmpty(table)) {
-                result.put(each.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class)));
+        repository.getDirectlyInBatch(versionNodes.keySet()).forEach((key, value) -> {
+            if (!Strings.isNullOrEmpty(value)) {
+                result.put(versionNodes.get(key).toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(value, YamlShardingSphereTable.class)));
             }
         });
         return result;
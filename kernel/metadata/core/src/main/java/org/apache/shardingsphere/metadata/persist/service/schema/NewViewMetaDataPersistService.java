@@ -94,12 +94,17 @@ public final class NewViewMetaDataPersistService implements SchemaMetaDataPersis
     }
     
     private Map<String, ShardingSphereView> getViewMetaDataByViewNames(final String databaseName, final String schemaName, final Collection<String> viewNames) {
+        Map<String, String> activeVersionNodes = new LinkedHashMap<>(viewNames.size(), 1F);
+        for (String each : viewNames) {
+            activeVersionNodes.put(NewDatabaseMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, each), each);
+        }
+        Map<String, String> versionNodes = new LinkedHashMap<>(viewNames.size(), 1F);
+        repository.getDirectlyInBatch(activeVersionNodes.keySet()).forEach((key, value) -> versionNodes.put(
+                NewDatabaseMetaDataNode.getViewVersionNode(databaseName, schemaName, activeVersionNodes.get(key), value), activeVersionNodes.get(key)));
         Map<String, ShardingSphereView> result = new LinkedHashMap<>(viewNames.size(), 1F);
-        viewNames.forEach(each -> {
-            String view = repository.getDirectly(NewDatabaseMetaDataNode.getViewVersionNode(databaseName, schemaName, each,
-                    repository.getDirectly(NewDatabaseMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, each))));
-            if (!Strings.isNullOrEmpty(view)) {
-                result.put(each.toLowerCase(), new YamlViewSwapper().swapToObject(YamlEngine.unmarshal(view, YamlShardingSphereView.class)));
+        repository.getDirectlyInBatch(versionNodes.keySet()).forEach((key, value) -> {
+            if (!Strings.isNullOrEmpty(value)) {
+                result.put(versionNodes.get(key).toLowerCase(), new YamlViewSwapper().swapToObject(YamlEngine.unmarshal(value, YamlShardingSphereView.class)));
             }
         });
         return result;
@@ -54,8 +54,8 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     @Override
     public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName) {
-        Collection<String> tableNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
-        return tableNames.isEmpty() ? Collections.emptyMap() : getTableMetaDataByTableNames(databaseName, schemaName, tableNames);
+        Map<String, String> tables = repository.getChildrenValues(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
+        return tables.isEmpty() ? Collections.emptyMap() : swapToTables(tables);
     }
     
     // TODO Remove this when metadata structure adjustment completed. #25485
@@ -69,12 +69,11 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
         repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableName.toLowerCase()));
     }
     
-    private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
-        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
-        tableNames.forEach(each -> {
-            String table = repository.getDirectly(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each));
-            if (!Strings.isNullOrEmpty(table)) {
-                result.put(each.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class)));
+    private Map<String, ShardingSphereTable> swapToTables(final Map<String, String> tables) {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tables.size(), 1F);
+        tables.forEach((key, value) -> {
+            if (!Strings.isNullOrEmpty(value)) {
+                result.put(key.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(value, YamlShardingSphereTable.class)));
             }
         });
         return result;
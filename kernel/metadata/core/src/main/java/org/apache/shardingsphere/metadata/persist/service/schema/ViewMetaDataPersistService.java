@@ -54,8 +54,8 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
     
     @Override
     public Map<String, ShardingSphereView> load(final String databaseName, final String schemaName) {
-        Collection<String> viewNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataViewsPath(databaseName, schemaName));
-        return viewNames.isEmpty() ? Collections.emptyMap() : getViewMetaDataByViewNames(databaseName, schemaName, viewNames);
+        Map<String, String> views = repository.getChildrenValues(DatabaseMetaDataNode.getMetaDataViewsPath(databaseName, schemaName));
+        return views.isEmpty() ? Collections.emptyMap() : swapToViews(views);
     }
     
     // TODO Remove this when metadata structure adjustment completed. #25485
@@ -69,12 +69,11 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
         repository.delete(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, viewName.toLowerCase()));
     }
     
-    private Map<String, ShardingSphereView> getViewMetaDataByViewNames(final String databaseName, final String schemaName, final Collection<String> viewNames) {
-        Map<String, ShardingSphereView> result = new LinkedHashMap<>(viewNames.size(), 1F);
-        viewNames.forEach(each -> {
-            String view = repository.getDirectly(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, each));
-            if (!Strings.isNullOrEmpty(view)) {
-                result.put(each.toLowerCase(), new YamlViewSwapper().swapToObject(YamlEngine.unmarshal(view, YamlShardingSphereView.class)));
+    private Map<String, ShardingSphereView> swapToViews(final Map<String, String> views) {
+        Map<String, ShardingSphereView> result = new LinkedHashMap<>(views.size(), 1F);
+        views.forEach((key, value) -> {
+            if (!Strings.isNullOrEmpty(value)) {
+                result.put(key.toLowerCase(), new YamlViewSwapper().swapToObject(YamlEngine.unmarshal(value, YamlShardingSphereView.class)));
             }
         });
         return result;
@@ -54,8 +54,7 @@ class TableMetaDataPersistServiceTest {
     @Test
     void assertLoad() {
         TableMetaDataPersistService tableMetaDataPersistService = new TableMetaDataPersistService(repository);
-        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
-        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        when(repository.getChildrenValues("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonMap("t_order", readYAML()));
         Map<String, ShardingSphereTable> tables = tableMetaDataPersistService.load("foo_db", "foo_schema");
         assertThat(tables.size(), is(1));
         assertThat(tables.get("t_order").getIndexValues().size(), is(1));
@@ -56,8 +56,7 @@ class ViewMetaDataPersistServiceTest {
     @Test
     void assertLoad() {
         ViewMetaDataPersistService viewMetaDataPersistService = new ViewMetaDataPersistService(repository);
-        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/views")).thenReturn(Collections.singletonList("foo_view"));
-        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/views/foo_view")).thenReturn(readYAML());
+        when(repository.getChildrenValues("/metadata/foo_db/schemas/foo_schema/views")).thenReturn(Collections.singletonMap("foo_view", readYAML()));
         Map<String, ShardingSphereView> views = viewMetaDataPersistService.load("foo_db", "foo_schema");
         assertThat(views.size(), is(1));
         assertThat(views.get("foo_view").getName(), is("foo_view"));
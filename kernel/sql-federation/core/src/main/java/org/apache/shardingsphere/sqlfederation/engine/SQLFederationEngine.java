@@ -26,6 +26,7 @@ import org.apache.calcite.schema.Schema;
 import org.apache.calcite.schema.Table;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
@@ -54,6 +55,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.Optimiz
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticRefresher;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
@@ -175,6 +178,7 @@ public final class SQLFederationEngine implements AutoCloseable {
         OptimizerPlannerContext plannerContext = sqlFederationRule.getOptimizerContext().getPlannerContext(databaseName);
         Schema sqlFederationSchema = plannerContext.getValidator(schemaName).getCatalogReader().getRootSchema().plus().getSubSchema(schemaName);
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName);
+        refreshTableStatistics(sqlFederationSchema, (SelectStatementContext) sqlStatementContext, databaseName);
         SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(plannerContext.getConverter(schemaName));
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
@@ -214,6 +218,22 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
+    private void refreshTableStatistics(final Schema sqlFederationSchema, final SelectStatementContext selectStatementContext, final String databaseName) {
+        if (null == sqlFederationSchema) {
+            return;
+        }
+        Map<String, SQLFederationStatistic> tableStatistics = new HashMap<>();
+        for (String each : selectStatementContext.getTablesContext().getTableNames()) {
+            String tableName = each.toLowerCase();
+            Table table = sqlFederationSchema.getTable(tableName);
+            if (table instanceof SQLFederationTable) {
+                tableStatistics.put(tableName, (SQLFederationStatistic) table.getStatistic());
+            }
+        }
+        long refreshIntervalMillis = metaData.getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS);
+        SQLFederationStatisticRefresher.refresh(statistics, databaseName, tableStatistics, System.currentTimeMillis(), refreshIntervalMillis);
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
@@ -56,7 +56,6 @@ public final class SQLFederationSchema extends AbstractSchema {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName().toLowerCase(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
                 result.put(each.getName().toLowerCase(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
             }
         }
@@ -31,6 +31,37 @@ import java.util.List;
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private volatile Double rowCount;
+    
+    private volatile long lastRefreshTimeMillis;
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    /**
+     * Judge whether statistic need to be refreshed.
+     *
+     * @param currentTimeMillis current time millis
+     * @param refreshIntervalMillis refresh interval millis
+     * @return statistic need to be refreshed or not
+     */
+    public boolean isRefreshRequired(final long currentTimeMillis, final long refreshIntervalMillis) {
+        return 0L == lastRefreshTimeMillis || currentTimeMillis - lastRefreshTimeMillis >= refreshIntervalMillis;
+    }
+    
+    /**
+     * Refresh row count.
+     *
+     * @param rowCount row count, null means unknown
+     * @param refreshTimeMillis refresh time millis
+     */
+    public void refresh(final Double rowCount, final long refreshTimeMillis) {
+        this.rowCount = rowCount;
+        lastRefreshTimeMillis = refreshTimeMillis;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * SQL federation statistic refresher.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticRefresher {
+    
+    private static final String SHARDINGSPHERE_SCHEMA = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    /**
+     * Refresh expired table statistics with row count collected in sharding table statistics.
+     *
+     * @param statistics ShardingSphere statistics
+     * @param databaseName database name
+     * @param tableStatistics table statistics, key is lower case table name
+     * @param currentTimeMillis current time millis
+     * @param refreshIntervalMillis refresh interval millis
+     */
+    public static void refresh(final ShardingSphereStatistics statistics, final String databaseName, final Map<String, SQLFederationStatistic> tableStatistics,
+                               final long currentTimeMillis, final long refreshIntervalMillis) {
+        Map<String, Double> rowCounts = null;
+        for (Entry<String, SQLFederationStatistic> entry : tableStatistics.entrySet()) {
+            if (!entry.getValue().isRefreshRequired(currentTimeMillis, refreshIntervalMillis)) {
+                continue;
+            }
+            if (null == rowCounts) {
+                rowCounts = loadRowCounts(statistics, databaseName);
+            }
+            entry.getValue().refresh(rowCounts.get(entry.getKey()), currentTimeMillis);
+        }
+    }
+    
+    private static Map<String, Double> loadRowCounts(final ShardingSphereStatistics statistics, final String databaseName) {
+        Map<String, Double> result = new HashMap<>();
+        if (null == statistics) {
+            return result;
+        }
+        for (ShardingSphereDatabaseData each : statistics.getDatabaseData().values()) {
+            ShardingSphereSchemaData schemaData = each.getSchema(SHARDINGSPHERE_SCHEMA);
+            ShardingSphereTableData tableData = null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+            if (null != tableData) {
+                accumulateRowCounts(tableData, databaseName, result);
+            }
+        }
+        return result;
+    }
+    
+    private static void accumulateRowCounts(final ShardingSphereTableData tableData, final String databaseName, final Map<String, Double> rowCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || null == row.get(ROW_COUNT_INDEX) || !databaseName.equalsIgnoreCase(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)))) {
+                continue;
+            }
+            rowCounts.merge(String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)).toLowerCase(), new BigDecimal(row.get(ROW_COUNT_INDEX).toString()).doubleValue(), Double::sum);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLFederationStatisticRefresherTest {
+    
+    @Test
+    void assertRefresh() {
+        Map<String, SQLFederationStatistic> tableStatistics = new HashMap<>(3, 1F);
+        tableStatistics.put("t_order", new SQLFederationStatistic());
+        tableStatistics.put("t_order_item", new SQLFederationStatistic());
+        tableStatistics.put("t_single", new SQLFederationStatistic());
+        SQLFederationStatisticRefresher.refresh(createStatistics(), "foo_db", tableStatistics, 1000L, 60000L);
+        assertThat(tableStatistics.get("t_order").getRowCount(), is(30D));
+        assertThat(tableStatistics.get("t_order_item").getRowCount(), is(500D));
+        assertThat(tableStatistics.get("t_single").getRowCount(), nullValue());
+    }
+    
+    @Test
+    void assertRefreshOnlyWhenExpired() {
+        SQLFederationStatistic statistic = new SQLFederationStatistic();
+        statistic.refresh(1D, 1000L);
+        Map<String, SQLFederationStatistic> tableStatistics = new HashMap<>(1, 1F);
+        tableStatistics.put("t_order", statistic);
+        SQLFederationStatisticRefresher.refresh(createStatistics(), "foo_db", tableStatistics, 2000L, 60000L);
+        assertThat(statistic.getRowCount(), is(1D));
+        SQLFederationStatisticRefresher.refresh(createStatistics(), "foo_db", tableStatistics, 61000L, 60000L);
+        assertThat(statistic.getRowCount(), is(30D));
+    }
+    
+    @Test
+    void assertRefreshWithoutStatistics() {
+        Map<String, SQLFederationStatistic> tableStatistics = new HashMap<>(1, 1F);
+        tableStatistics.put("t_order", new SQLFederationStatistic());
+        SQLFederationStatisticRefresher.refresh(null, "foo_db", tableStatistics, 1000L, 60000L);
+        assertThat(tableStatistics.get("t_order").getRowCount(), nullValue());
+    }
+    
+    private ShardingSphereStatistics createStatistics() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(createRowData(1, "foo_db", "t_order", "ds_0", "t_order_0", 10));
+        tableData.getRows().add(createRowData(2, "foo_db", "t_order", "ds_1", "t_order_1", 20));
+        tableData.getRows().add(createRowData(3, "foo_db", "T_ORDER_ITEM", "ds_0", "t_order_item_0", 500));
+        tableData.getRows().add(createRowData(4, "bar_db", "t_single", "ds_0", "t_single", 7));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+    
+    private ShardingSphereRowData createRowData(final int id, final String logicDatabaseName, final String logicTableName,
+                                                final String actualDatabaseName, final String actualTableName, final long rowCount) {
+        return new ShardingSphereRowData(Arrays.asList(id, logicDatabaseName, logicTableName, actualDatabaseName, actualTableName, new BigDecimal(rowCount), BigDecimal.ZERO));
+    }
+}
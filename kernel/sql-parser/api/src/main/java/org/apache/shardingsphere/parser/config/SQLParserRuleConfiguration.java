@@ -34,4 +34,10 @@ public final class SQLParserRuleConfiguration implements GlobalRuleConfiguration
     private final CacheOption parseTreeCache;
     
     private final CacheOption sqlStatementCache;
+    
+    private final CacheOption literalParameterizedCache;
+    
+    public SQLParserRuleConfiguration(final boolean sqlCommentParseEnabled, final CacheOption parseTreeCache, final CacheOption sqlStatementCache) {
+        this(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache, null);
+    }
 }
@@ -40,6 +40,8 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final CacheOption literalParameterizedCache;
+    
     private final String engineType;
     
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
@@ -47,6 +49,7 @@ public final class SQLParserRule implements GlobalRule {
         sqlCommentParseEnabled = ruleConfig.isSqlCommentParseEnabled();
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        literalParameterizedCache = ruleConfig.getLiteralParameterizedCache();
         engineType = "Standard";
     }
     
@@ -58,7 +61,7 @@ public final class SQLParserRule implements GlobalRule {
      */
     public SQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
         return "Standard".equals(engineType)
-                ? new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled)
+                ? new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, literalParameterizedCache, sqlCommentParseEnabled)
                 : new SimpleSQLParserEngine();
     }
 }
@@ -49,6 +49,9 @@ public final class NewYamlSQLParserRuleConfigurationSwapper implements NewYamlGl
         result.setSqlCommentParseEnabled(data.isSqlCommentParseEnabled());
         result.setParseTreeCache(cacheOptionSwapper.swapToYamlConfiguration(data.getParseTreeCache()));
         result.setSqlStatementCache(cacheOptionSwapper.swapToYamlConfiguration(data.getSqlStatementCache()));
+        if (null != data.getLiteralParameterizedCache()) {
+            result.setLiteralParameterizedCache(cacheOptionSwapper.swapToYamlConfiguration(data.getLiteralParameterizedCache()));
+        }
         return result;
     }
     
@@ -71,7 +74,8 @@ public final class NewYamlSQLParserRuleConfigurationSwapper implements NewYamlGl
         CacheOption sqlStatementCacheOption = null == yamlConfig.getSqlStatementCache()
                 ? DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION
                 : cacheOptionSwapper.swapToObject(yamlConfig.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(yamlConfig.isSqlCommentParseEnabled(), parseTreeCacheOption, sqlStatementCacheOption);
+        CacheOption literalParameterizedCacheOption = null == yamlConfig.getLiteralParameterizedCache() ? null : cacheOptionSwapper.swapToObject(yamlConfig.getLiteralParameterizedCache());
+        return new SQLParserRuleConfiguration(yamlConfig.isSqlCommentParseEnabled(), parseTreeCacheOption, sqlStatementCacheOption, literalParameterizedCacheOption);
     }
     
     @Override
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlSQLParserRuleConfigurationSwapperTest {
@@ -38,6 +39,15 @@ class YamlSQLParserRuleConfigurationSwapperTest {
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(5L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(4));
         assertThat(actual.getSqlStatementCache().getMaximumSize(), is(7L));
+        assertNull(actual.getLiteralParameterizedCache());
+    }
+    
+    @Test
+    void assertSwapToYamlConfigurationWithLiteralParameterizedCache() {
+        YamlSQLParserRuleConfiguration actual = new YamlSQLParserRuleConfigurationSwapper().swapToYamlConfiguration(
+                new SQLParserRuleConfiguration(true, new CacheOption(2, 5), new CacheOption(4, 7), new CacheOption(8, 9)));
+        assertThat(actual.getLiteralParameterizedCache().getInitialCapacity(), is(8));
+        assertThat(actual.getLiteralParameterizedCache().getMaximumSize(), is(9L));
     }
     
     @Test
@@ -49,6 +59,7 @@ class YamlSQLParserRuleConfigurationSwapperTest {
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(1024L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(2000));
         assertThat(actual.getSqlStatementCache().getMaximumSize(), is(65535L));
+        assertNull(actual.getLiteralParameterizedCache());
     }
     
     @Test
@@ -61,10 +72,14 @@ class YamlSQLParserRuleConfigurationSwapperTest {
         yamlConfig.setSqlStatementCache(new YamlSQLParserCacheOptionRuleConfiguration());
         yamlConfig.getSqlStatementCache().setInitialCapacity(4);
         yamlConfig.getSqlStatementCache().setMaximumSize(7L);
+        yamlConfig.setLiteralParameterizedCache(new YamlSQLParserCacheOptionRuleConfiguration());
+        yamlConfig.getLiteralParameterizedCache().setInitialCapacity(8);
+        yamlConfig.getLiteralParameterizedCache().setMaximumSize(9L);
         SQLParserRuleConfiguration actual = new YamlSQLParserRuleConfigurationSwapper().swapToObject(yamlConfig);
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(5L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(4));
         assertThat(actual.getSqlStatementCache().getMaximumSize(), is(7L));
+        assertThat(actual.getLiteralParameterizedCache(), is(new CacheOption(8, 9L)));
     }
 }
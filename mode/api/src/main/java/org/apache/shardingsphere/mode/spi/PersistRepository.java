@@ -19,7 +19,11 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +43,25 @@ public interface PersistRepository extends TypedSPI {
      */
     String getDirectly(String key);
     
+    /**
+     * Get values from registry center directly in batch.
+     * 
+     * <p>Repositories should override it to read all keys within fewer round trips.</p>
+     *
+     * @param keys keys
+     * @return values of existed keys, key is the key of data
+     */
+    default Map<String, String> getDirectlyInBatch(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = getDirectly(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -47,6 +70,29 @@ public interface PersistRepository extends TypedSPI {
      */
     List<String> getChildrenKeys(String key);
     
+    /**
+     * Get values of sub-node.
+     *
+     * @param key key of data
+     * @return values of existed sub-nodes, key is the sub-node name
+     */
+    default Map<String, String> getChildrenValues(final String key) {
+        List<String> childrenKeys = getChildrenKeys(key);
+        Collection<String> childrenPaths = new LinkedList<>();
+        for (String each : childrenKeys) {
+            childrenPaths.add(String.join(PATH_SEPARATOR, key, each));
+        }
+        Map<String, String> values = getDirectlyInBatch(childrenPaths);
+        Map<String, String> result = new LinkedHashMap<>(childrenKeys.size(), 1F);
+        for (String each : childrenKeys) {
+            String value = values.get(String.join(PATH_SEPARATOR, key, each));
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Judge node is exist or not.
      *
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.mode.manager;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -32,11 +31,13 @@ import org.apache.shardingsphere.infra.metadata.database.schema.SchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
 import org.apache.shardingsphere.infra.state.cluster.ClusterStateContext;
 import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
+import org.apache.shardingsphere.metadata.persist.service.schema.SchemaMetaDataPersistService;
 import org.apache.shardingsphere.mode.manager.context.ConfigurationContextManager;
 import org.apache.shardingsphere.mode.manager.context.ResourceMetaDataContextManager;
 import org.apache.shardingsphere.mode.manager.context.ShardingSphereDatabaseContextManager;
@@ -45,9 +46,11 @@ import org.apache.shardingsphere.mode.manager.switcher.SwitchingResource;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 /**
  * Context manager.
@@ -76,7 +79,7 @@ public final class ContextManager implements AutoCloseable {
         shardingSphereDatabaseContextManager = new ShardingSphereDatabaseContextManager(this.metaDataContexts);
         configurationContextManager = new ConfigurationContextManager(this.metaDataContexts, instanceContext);
         resourceMetaDataContextManager = new ResourceMetaDataContextManager(this.metaDataContexts);
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = ExecutorEngine.createExecutorEngine(metaDataContexts.getMetaData().getProps());
     }
     
     /**
@@ -232,6 +235,29 @@ public final class ContextManager implements AutoCloseable {
                 .persist(database.getName(), schemaName, Collections.singletonMap(tableName, schema.getTable(tableName)));
     }
     
+    /**
+     * Reload tables.
+     * 
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param reloadedSchema reloaded schema
+     */
+    public void reloadTables(final String databaseName, final String schemaName, final ShardingSphereSchema reloadedSchema) {
+        ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+        if (!database.containsSchema(schemaName)) {
+            database.addSchema(schemaName, new ShardingSphereSchema());
+        }
+        ShardingSphereSchema currentSchema = database.getSchema(schemaName);
+        Map<String, ShardingSphereTable> toBeChangedTables = SchemaManager.getToBeAddedTables(reloadedSchema.getTables(), currentSchema.getTables());
+        Collection<String> toBeDeletedTableNames = SchemaManager.getToBeDeletedTables(reloadedSchema.getTables(), currentSchema.getTables()).keySet().stream()
+                .filter(each -> !currentSchema.containsView(each)).collect(Collectors.toList());
+        toBeChangedTables.values().forEach(each -> resourceMetaDataContextManager.alterSchema(databaseName, schemaName, each, null));
+        toBeDeletedTableNames.forEach(each -> resourceMetaDataContextManager.alterSchema(databaseName, schemaName, each, null));
+        SchemaMetaDataPersistService<Map<String, ShardingSphereTable>> persistService = metaDataContexts.get().getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService();
+        persistService.persist(database.getName(), schemaName, toBeChangedTables);
+        toBeDeletedTableNames.forEach(each -> persistService.delete(database.getName(), schemaName, each));
+    }
+    
     /**
      * Update cluster state.
      * 
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.SnapshotSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Table meta data background checker.
+ * 
+ * <p>
+ * Tables are loaded from storage units once in background after startup if table meta data snapshot is configured,
+ * or all actual tables are loaded to check if {@code check-table-metadata-enabled} is false and {@code table-metadata-background-check-enabled} is true.
+ * Changed tables are reloaded by context manager, and the snapshot is rebuilt for next startup.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class TableMetaDataBackgroundChecker {
+    
+    private static final ExecutorService CHECK_EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-TableMetaDataChecker-%d").build());
+    
+    /**
+     * Check table meta data in background.
+     *
+     * @param contextManager context manager
+     */
+    public static void checkInBackground(final ContextManager contextManager) {
+        ConfigurationProperties props = contextManager.getMetaDataContexts().getMetaData().getProps();
+        boolean isSnapshotEnabled = !Strings.isNullOrEmpty(props.getValue(ConfigurationPropertyKey.TABLE_METADATA_SNAPSHOT_PATH));
+        if (!isSnapshotEnabled && !isCheckInBackground(props)) {
+            return;
+        }
+        for (ShardingSphereDatabase each : contextManager.getMetaDataContexts().getMetaData().getDatabases().values()) {
+            if (!each.getResourceMetaData().getStorageUnits().isEmpty()) {
+                CHECK_EXECUTOR_SERVICE.execute(() -> check(contextManager, each.getName()));
+            }
+        }
+    }
+    
+    private static boolean isCheckInBackground(final ConfigurationProperties props) {
+        return !props.<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED) && props.<Boolean>getValue(ConfigurationPropertyKey.TABLE_METADATA_BACKGROUND_CHECK_ENABLED);
+    }
+    
+    private static void check(final ContextManager contextManager, final String databaseName) {
+        try {
+            ShardingSphereDatabase database = contextManager.getMetaDataContexts().getMetaData().getDatabase(databaseName);
+            ConfigurationProperties props = contextManager.getMetaDataContexts().getMetaData().getProps();
+            GenericSchemaBuilderMaterial material = createMaterial(database, props);
+            Map<String, ShardingSphereSchema> schemas = GenericSchemaBuilder.build(isCheckInBackground(props) ? createMaterial(database, createCheckingProperties(props)) : material);
+            schemas.forEach((key, value) -> contextManager.reloadTables(databaseName, key, value));
+            SnapshotSchemaBuilder.persist(databaseName, database.getResourceMetaData().getStorageUnits(), material, schemas);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Check table meta data of database `{}` failed.", databaseName, ex);
+        }
+    }
+    
+    private static GenericSchemaBuilderMaterial createMaterial(final ShardingSphereDatabase database, final ConfigurationProperties props) {
+        return new GenericSchemaBuilderMaterial(database.getProtocolType(), database.getResourceMetaData().getStorageUnits(), database.getRuleMetaData().getRules(), props,
+                new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()));
+    }
+    
+    private static ConfigurationProperties createCheckingProperties(final ConfigurationProperties props) {
+        Properties result = new Properties();
+        result.putAll(props.getProps());
+        result.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        return new ConfigurationProperties(result);
+    }
+}
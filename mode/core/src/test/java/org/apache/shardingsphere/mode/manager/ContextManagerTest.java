@@ -85,6 +85,7 @@ class ContextManagerTest {
         metaDataContexts = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
         when(metaDataContexts.getMetaData().getGlobalRuleMetaData().getRules()).thenReturn(Collections.emptyList());
         when(metaDataContexts.getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(metaDataContexts.getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(metaDataContexts.getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         ShardingSphereDatabase database = mockDatabase();
         when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
@@ -315,6 +316,27 @@ class ContextManagerTest {
         assertTrue(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getResourceMetaData().getStorageUnits().containsKey("foo_ds"));
     }
     
+    @Test
+    void assertReloadTables() {
+        ShardingSphereTable barTable = new ShardingSphereTable("bar_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema currentSchema = createToBeAlteredSchema();
+        currentSchema.putTable("bar_tbl", barTable);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchemas()).thenReturn(Collections.singletonMap("foo_schema", currentSchema));
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema")).thenReturn(currentSchema);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getName()).thenReturn("foo_db");
+        DatabaseMetaDataPersistService databaseMetaDataPersistService = mock(DatabaseMetaDataPersistService.class, RETURNS_DEEP_STUBS);
+        MetaDataPersistService persistService = mock(MetaDataPersistService.class);
+        when(persistService.getDatabaseMetaDataService()).thenReturn(databaseMetaDataPersistService);
+        when(metaDataContexts.getPersistService()).thenReturn(persistService);
+        ShardingSphereColumn column = new ShardingSphereColumn("foo_col", Types.VARCHAR, false, false, false, true, false, false);
+        ShardingSphereTable reloadedTable = new ShardingSphereTable("foo_tbl", Collections.singleton(column), Collections.emptyList(), Collections.emptyList());
+        contextManager.reloadTables("foo_db", "foo_schema", new ShardingSphereSchema(Collections.singletonMap("foo_tbl", reloadedTable), Collections.emptyMap()));
+        assertTrue(currentSchema.getTable("foo_tbl").containsColumn("foo_col"));
+        assertFalse(currentSchema.containsTable("bar_tbl"));
+        verify(databaseMetaDataPersistService.getTableMetaDataPersistService()).persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", reloadedTable));
+        verify(databaseMetaDataPersistService.getTableMetaDataPersistService()).delete("foo_db", "foo_schema", "bar_tbl");
+    }
+    
     private Map<String, Object> createProperties(final String username, final String password) {
         Map<String, Object> result = new HashMap<>(3, 1F);
         result.put("url", "jdbc:mock://127.0.0.1/foo_ds");
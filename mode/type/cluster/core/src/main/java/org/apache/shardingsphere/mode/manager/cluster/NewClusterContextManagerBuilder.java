@@ -34,6 +34,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.worke
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber.NewContextManagerSubscriberFacade;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.NewMetaDataContextsFactory;
+import org.apache.shardingsphere.mode.metadata.TableMetaDataBackgroundChecker;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
 import org.apache.shardingsphere.mode.subsciber.RuleItemChangedSubscriber;
@@ -59,6 +60,7 @@ public final class NewClusterContextManagerBuilder implements ContextManagerBuil
         ContextManager result = new ContextManager(metaDataContexts, instanceContext);
         setContextManagerAware(result);
         registerOnline(registryCenter, param, result);
+        TableMetaDataBackgroundChecker.checkInBackground(result);
         return result;
     }
     
@@ -23,6 +23,7 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -43,7 +44,12 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -86,6 +92,40 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.stream().map(each -> getSubNodeKeyName(prefix, each.getKey().toString(StandardCharsets.UTF_8))).distinct().collect(Collectors.toList());
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> getDirectlyInBatch(final Collection<String> keys) {
+        Map<String, CompletableFuture<GetResponse>> responses = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            responses.put(each, client.getKVClient().get(ByteSequence.from(each, StandardCharsets.UTF_8)));
+        }
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (Entry<String, CompletableFuture<GetResponse>> entry : responses.entrySet()) {
+            List<KeyValue> keyValues = entry.getValue().get().getKvs();
+            if (!keyValues.isEmpty()) {
+                result.put(entry.getKey(), keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> getChildrenValues(final String key) {
+        String prefix = key + PATH_SEPARATOR;
+        ByteSequence prefixByteSequence = ByteSequence.from(prefix, StandardCharsets.UTF_8);
+        GetOption getOption = GetOption.newBuilder().isPrefix(true).withSortField(GetOption.SortTarget.KEY).withSortOrder(GetOption.SortOrder.ASCEND).build();
+        List<KeyValue> keyValues = client.getKVClient().get(prefixByteSequence, getOption).get().getKvs();
+        Map<String, String> result = new LinkedHashMap<>(keyValues.size(), 1F);
+        for (KeyValue each : keyValues) {
+            String subNodeKey = each.getKey().toString(StandardCharsets.UTF_8).substring(prefix.length());
+            if (!subNodeKey.contains(PATH_SEPARATOR)) {
+                result.put(subNodeKey, each.getValue().toString(StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         return false;
@@ -47,9 +47,11 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -59,6 +61,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -159,6 +162,29 @@ class EtcdRepositoryTest {
         assertThat(iterator.next(), is("key2"));
     }
     
+    @Test
+    void assertGetDirectlyInBatch() {
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8("/key")).setValue(ByteString.copyFromUtf8("value")).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)), Collections.emptyList());
+        Map<String, String> actual = repository.getDirectlyInBatch(Arrays.asList("/key", "/absent_key"));
+        assertThat(actual, is(Collections.singletonMap("/key", "value")));
+        verify(kv).get(ByteSequence.from("/key", StandardCharsets.UTF_8));
+        verify(kv).get(ByteSequence.from("/absent_key", StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void assertGetChildrenValues() {
+        io.etcd.jetcd.api.KeyValue keyValue1 = io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("/key/key1/key1-1"))
+                .setValue(ByteString.copyFromUtf8("value1")).build();
+        io.etcd.jetcd.api.KeyValue keyValue2 = io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("/key/key2"))
+                .setValue(ByteString.copyFromUtf8("value2")).build();
+        when(getResponse.getKvs()).thenReturn(Arrays.asList(new KeyValue(keyValue1, ByteSequence.EMPTY), new KeyValue(keyValue2, ByteSequence.EMPTY)));
+        assertThat(repository.getChildrenValues("/key"), is(Collections.singletonMap("key2", "value2")));
+        verify(kv).get(eq(ByteSequence.from("/key/", StandardCharsets.UTF_8)), any(GetOption.class));
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     void assertPersistEphemeral() {
@@ -23,6 +23,7 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
@@ -42,17 +43,23 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -66,6 +73,8 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
     
     private CuratorFramework client;
     
+    private long batchTimeoutMilliseconds;
+    
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
@@ -73,6 +82,9 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
     public void init(final ClusterPersistRepositoryConfiguration config) {
         ZookeeperProperties zookeeperProps = new ZookeeperProperties(config.getProps());
         client = buildCuratorClient(config, zookeeperProps);
+        int retryIntervalMilliseconds = zookeeperProps.getValue(ZookeeperPropertyKey.RETRY_INTERVAL_MILLISECONDS);
+        int maxRetries = zookeeperProps.getValue(ZookeeperPropertyKey.MAX_RETRIES);
+        batchTimeoutMilliseconds = (long) retryIntervalMilliseconds * maxRetries;
         distributedLockHolder = new DistributedLockHolder(getType(), client, zookeeperProps);
         initCuratorClient(zookeeperProps);
     }
@@ -179,6 +191,59 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public Map<String, String> getDirectlyInBatch(final Collection<String> keys) {
+        Map<String, String> values = new ConcurrentHashMap<>(keys.size(), 1F);
+        Collection<KeeperException> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        try {
+            for (String each : keys) {
+                client.getData().inBackground(createGetDataCallback(each, values, failures, latch)).forPath(each);
+            }
+            if (!latch.await(batchTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                return getDirectlyInSequence(keys);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+            return Collections.emptyMap();
+        }
+        if (!failures.isEmpty()) {
+            ZookeeperExceptionHandler.handleException(failures.iterator().next());
+        }
+        Map<String, String> result = new LinkedHashMap<>(values.size(), 1F);
+        for (String each : keys) {
+            if (values.containsKey(each)) {
+                result.put(each, values.get(each));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, String> getDirectlyInSequence(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = getDirectly(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
+    private BackgroundCallback createGetDataCallback(final String key, final Map<String, String> values, final Collection<KeeperException> failures, final CountDownLatch latch) {
+        return (framework, event) -> {
+            Code resultCode = Code.get(event.getResultCode());
+            if (Code.OK == resultCode && null != event.getData()) {
+                values.put(key, new String(event.getData(), StandardCharsets.UTF_8));
+            } else if (Code.OK != resultCode && Code.NONODE != resultCode) {
+                failures.add(KeeperException.create(resultCode, key));
+            }
+            latch.countDown();
+        };
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
+
+import org.apache.curator.test.TestingServer;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZookeeperRepositoryEmbeddedTest {
+    
+    private static final int TABLE_COUNT = 200;
+    
+    private static TestingServer testingServer;
+    
+    private static ZookeeperRepository repository;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        testingServer = new TestingServer(true);
+        repository = new ZookeeperRepository();
+        repository.init(new ClusterPersistRepositoryConfiguration("ZooKeeper", "embedded_test", testingServer.getConnectString(), new Properties()));
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            repository.persist("/metadata/foo_db/tables/t_order_" + i, "value_" + i);
+        }
+    }
+    
+    @AfterAll
+    static void tearDown() throws IOException {
+        repository.close();
+        testingServer.close();
+    }
+    
+    @Test
+    void assertGetDirectlyInBatch() {
+        Collection<String> keys = new LinkedList<>();
+        for (int i = TABLE_COUNT - 1; i >= 0; i--) {
+            keys.add("/metadata/foo_db/tables/t_order_" + i);
+        }
+        keys.add("/metadata/foo_db/tables/absent_table");
+        Map<String, String> actual = repository.getDirectlyInBatch(keys);
+        assertThat(actual.size(), is(TABLE_COUNT));
+        assertThat(actual.keySet().iterator().next(), is("/metadata/foo_db/tables/t_order_" + (TABLE_COUNT - 1)));
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            assertThat(actual.get("/metadata/foo_db/tables/t_order_" + i), is("value_" + i));
+        }
+    }
+    
+    @Test
+    void assertGetDirectlyInBatchWithAbsentKeys() {
+        assertTrue(repository.getDirectlyInBatch(Arrays.asList("/absent_key_1", "/absent_key_2")).isEmpty());
+    }
+    
+    @Test
+    void assertGetChildrenValues() {
+        Map<String, String> actual = repository.getChildrenValues("/metadata/foo_db/tables");
+        assertThat(actual.size(), is(TABLE_COUNT));
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            assertThat(actual.get("t_order_" + i), is("value_" + i));
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.curator.framework.api.CreateBuilder;
 import org.apache.curator.framework.api.DeleteBuilder;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,6 +53,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
@@ -62,6 +65,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -181,6 +185,19 @@ class ZookeeperRepositoryTest {
         assertThat(childrenKeys.size(), is(2));
     }
     
+    @Test
+    void assertGetDirectlyInBatchWithTimeout() throws Exception {
+        REPOSITORY.init(new ClusterPersistRepositoryConfiguration(REPOSITORY.getType(), "governance", SERVER_LISTS, PropertiesBuilder.build(
+                new Property(ZookeeperPropertyKey.RETRY_INTERVAL_MILLISECONDS.getKey(), "10"), new Property(ZookeeperPropertyKey.MAX_RETRIES.getKey(), "1"))));
+        GetDataBuilder getDataBuilder = mock(GetDataBuilder.class, RETURNS_DEEP_STUBS);
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.forPath("/test/key_1")).thenReturn("value_1".getBytes(StandardCharsets.UTF_8));
+        when(getDataBuilder.forPath("/test/key_2")).thenThrow(new NoNodeException());
+        Map<String, String> actual = REPOSITORY.getDirectlyInBatch(Arrays.asList("/test/key_1", "/test/key_2"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("/test/key_1"), is("value_1"));
+    }
+    
     @Test
     void assertBuildCuratorClientWithCustomConfig() {
         Properties props = PropertiesBuilder.build(
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.mode.manager.standalone.subscriber.StandalonePr
 import org.apache.shardingsphere.mode.manager.standalone.workerid.generator.StandaloneWorkerIdGenerator;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.NewMetaDataContextsFactory;
+import org.apache.shardingsphere.mode.metadata.TableMetaDataBackgroundChecker;
 import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
 
 import java.sql.SQLException;
@@ -53,6 +54,7 @@ public final class NewStandaloneContextManagerBuilder implements ContextManagerB
         MetaDataContexts metaDataContexts = NewMetaDataContextsFactory.create(persistService, param, instanceContext);
         ContextManager result = new ContextManager(metaDataContexts, instanceContext);
         setContextManagerAware(result);
+        TableMetaDataBackgroundChecker.checkInBackground(result);
         return result;
     }
     
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.LiteralParameterizedSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLLiteralParameterizedSQLParserEngineTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    private final SQLStatementVisitorEngine visitorEngine = new SQLStatementVisitorEngine(databaseType, false);
+    
+    @Test
+    void assertParseWithSameShape() {
+        LiteralParameterizedSQLParserEngine engine = new LiteralParameterizedSQLParserEngine(databaseType, new CacheOption(16, 16L));
+        List<ParseASTNode> parseASTNodes = new LinkedList<>();
+        String firstSQL = "SELECT * FROM t_order WHERE order_id = 1 AND status = 'OK'";
+        assertWhereMatched(engine.parse(firstSQL, visit(parseASTNodes)), parseWithoutCache(firstSQL));
+        String secondSQL = "SELECT * FROM t_order  WHERE order_id = 1234567 AND status = 'PAID'";
+        assertWhereMatched(engine.parse(secondSQL, visit(parseASTNodes)), parseWithoutCache(secondSQL));
+        assertThat(parseASTNodes.get(1), is(sameInstance(parseASTNodes.get(0))));
+    }
+    
+    @Test
+    void assertParseWithDifferentShape() {
+        LiteralParameterizedSQLParserEngine engine = new LiteralParameterizedSQLParserEngine(databaseType, new CacheOption(16, 16L));
+        List<ParseASTNode> parseASTNodes = new LinkedList<>();
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'OK'", visit(parseASTNodes));
+        engine.parse("SELECT * FROM t_order WHERE order_id = 'abc' AND status = 'OK'", visit(parseASTNodes));
+        engine.parse("SELECT * FROM t_order WHERE user_id = 1 AND status = 'OK'", visit(parseASTNodes));
+        assertThat(new HashSet<>(parseASTNodes).size(), is(3));
+    }
+    
+    @Test
+    void assertParseWithCachedParseTreeInUse() {
+        LiteralParameterizedSQLParserEngine engine = new LiteralParameterizedSQLParserEngine(databaseType, new CacheOption(16, 16L));
+        List<ParseASTNode> parseASTNodes = new LinkedList<>();
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'OK'", visit(parseASTNodes));
+        String secondSQL = "SELECT * FROM t_order WHERE order_id = 2 AND status = 'PAID'";
+        String thirdSQL = "SELECT * FROM t_order WHERE order_id = 3 AND status = 'FAILED'";
+        SQLStatement actual = engine.parse(secondSQL, parseASTNode -> {
+            assertWhereMatched(engine.parse(thirdSQL, visit(parseASTNodes)), parseWithoutCache(thirdSQL));
+            return visit(parseASTNodes).apply(parseASTNode);
+        });
+        assertWhereMatched(actual, parseWithoutCache(secondSQL));
+        assertThat(parseASTNodes.get(2), is(sameInstance(parseASTNodes.get(0))));
+        assertThat(parseASTNodes.get(1), not(sameInstance(parseASTNodes.get(0))));
+    }
+    
+    private Function<ParseASTNode, SQLStatement> visit(final List<ParseASTNode> parseASTNodes) {
+        return parseASTNode -> {
+            parseASTNodes.add(parseASTNode);
+            return visitorEngine.visit(parseASTNode);
+        };
+    }
+    
+    private SQLStatement parseWithoutCache(final String sql) {
+        return visitorEngine.visit(new SQLParserEngine(databaseType, new CacheOption(1, 1L)).parse(sql, false));
+    }
+    
+    private void assertWhereMatched(final SQLStatement actual, final SQLStatement expected) {
+        BinaryOperationExpression actualWhere = (BinaryOperationExpression) ((SelectStatement) actual).getWhere().get().getExpr();
+        BinaryOperationExpression expectedWhere = (BinaryOperationExpression) ((SelectStatement) expected).getWhere().get().getExpr();
+        assertThat(actualWhere.getText(), is(expectedWhere.getText()));
+        assertThat(actualWhere.getStopIndex(), is(expectedWhere.getStopIndex()));
+        assertLiteralMatched(((BinaryOperationExpression) actualWhere.getLeft()).getRight(), ((BinaryOperationExpression) expectedWhere.getLeft()).getRight());
+        assertLiteralMatched(((BinaryOperationExpression) actualWhere.getRight()).getRight(), ((BinaryOperationExpression) expectedWhere.getRight()).getRight());
+    }
+    
+    private void assertLiteralMatched(final ExpressionSegment actual, final ExpressionSegment expected) {
+        assertThat(((LiteralExpressionSegment) actual).getLiterals(), is(((LiteralExpressionSegment) expected).getLiterals()));
+        assertThat(actual.getStartIndex(), is(expected.getStartIndex()));
+        assertThat(actual.getStopIndex(), is(expected.getStopIndex()));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.RebindableCharStream;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.cache.LiteralParameterizedParseTree;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.spi.SQLDialectParserFacade;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Literal parameterized SQL parser engine.
+ *
+ * <p>SQLs which differ only in literals share one shape. The parse tree of each shape is cached, and rebound to literals of the current SQL before visiting.
+ * The cached parse tree is used by one SQL at a time, SQL of the same shape is parsed without cache while the cached parse tree is in use.</p>
+ *
+ * <p>Cache hits go through visitCachedParseTree and misses go through parseAndVisit, both are advised by agent metrics plugin.</p>
+ */
+public final class LiteralParameterizedSQLParserEngine {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = Arrays.asList("STRING_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "NCHAR_TEXT", "NUMBER_", "INTEGER_", "HEX_DIGIT_", "BIT_NUM_");
+    
+    private static final char LITERAL_MARKER = (char) 0;
+    
+    private static final char TOKEN_DELIMITER = (char) 1;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    private final Collection<Integer> literalTokenTypes;
+    
+    private final Cache<String, LiteralParameterizedParseTree> parseTreeCache;
+    
+    public LiteralParameterizedSQLParserEngine(final DatabaseType databaseType, final CacheOption cacheOption) {
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        lexerClass = DatabaseTypedSPILoader.getService(SQLDialectParserFacade.class, databaseType).getLexerClass();
+        literalTokenTypes = getLiteralTokenTypes(((Lexer) SQLParserFactory.newTokenStream(SQLParserFactory.newCharStream(""), lexerClass).getTokenSource()).getVocabulary());
+        parseTreeCache = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).build();
+    }
+    
+    private Collection<Integer> getLiteralTokenTypes(final Vocabulary vocabulary) {
+        Collection<Integer> result = new HashSet<>();
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            if (LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i))) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL and visit parse tree.
+     *
+     * @param sql SQL to be parsed
+     * @param visitor visitor of parse tree, must not keep references of parse tree or tokens
+     * @param <T> type of visit result
+     * @return visit result
+     */
+    public <T> T parse(final String sql, final Function<ParseASTNode, T> visitor) {
+        RebindableCharStream charStream = new RebindableCharStream(SQLParserFactory.newCharStream(sql));
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(charStream, lexerClass);
+        tokenStream.fill();
+        List<Token> tokens = tokenStream.getTokens();
+        String shape = getShape(tokens);
+        LiteralParameterizedParseTree cachedParseTree = parseTreeCache.getIfPresent(shape);
+        if (null != cachedParseTree && cachedParseTree.tryAcquire()) {
+            return visitCachedParseTree(cachedParseTree, charStream, tokens, visitor);
+        }
+        return parseAndVisit(sql, shape, tokenStream, charStream, null == cachedParseTree, visitor);
+    }
+    
+    private <T> T visitCachedParseTree(final LiteralParameterizedParseTree cachedParseTree, final RebindableCharStream charStream, final List<Token> tokens,
+                                       final Function<ParseASTNode, T> visitor) {
+        try {
+            cachedParseTree.rebind(charStream.getDelegate(), tokens);
+            return visitor.apply(cachedParseTree.getParseASTNode());
+        } finally {
+            cachedParseTree.release();
+        }
+    }
+    
+    private <T> T parseAndVisit(final String sql, final String shape, final CommonTokenStream tokenStream, final RebindableCharStream charStream,
+                                final boolean cacheable, final Function<ParseASTNode, T> visitor) {
+        ParseASTNode parseASTNode = sqlParserExecutor.parse(sql, tokenStream);
+        T result = visitor.apply(parseASTNode);
+        if (cacheable) {
+            parseTreeCache.put(shape, new LiteralParameterizedParseTree(parseASTNode, charStream, tokenStream.getTokens()));
+        }
+        return result;
+    }
+    
+    private String getShape(final List<Token> tokens) {
+        StringBuilder result = new StringBuilder();
+        for (Token each : tokens) {
+            if (literalTokenTypes.contains(each.getType())) {
+                result.append(LITERAL_MARKER).append(each.getType());
+            } else {
+                result.append(each.getText());
+            }
+            result.append(TOKEN_DELIMITER);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+
+import java.util.Collection;
+
+/**
+ * SQL parser warm up engine.
+ * 
+ * <p>DFA of ANTLR lexer and parser is shared by all instances of the same grammar. Replaying representative SQLs fills the DFA in advance,
+ * so the first parse of each statement shape does not pay for ATN simulation and full context prediction.</p>
+ */
+public final class SQLParserWarmUpEngine {
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final SQLStatementVisitorEngine visitorEngine;
+    
+    public SQLParserWarmUpEngine(final DatabaseType databaseType) {
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        visitorEngine = new SQLStatementVisitorEngine(databaseType, false);
+    }
+    
+    /**
+     * Warm up SQL parser.
+     *
+     * @param sqls SQLs to be replayed
+     * @return count of SQLs which are parsed successfully
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            if (warmUp(each)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private boolean warmUp(final String sql) {
+        try {
+            visitorEngine.visit(sqlParserExecutor.parse(sql));
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ignored) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+    }
+}
@@ -49,7 +49,42 @@ public final class SQLParserFactory {
      * @return created instance
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        return createSQLParser(newTokenStream(getSQLCharStream(sql), lexerClass), parserClass);
+    }
+    
+    /**
+     * Create new instance of SQL parser with lexed token stream.
+     *
+     * @param tokenStream token stream
+     * @param parserClass parser class
+     * @return created instance
+     */
+    public static SQLParser newInstance(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+        return createSQLParser(tokenStream, parserClass);
+    }
+    
+    /**
+     * Create new token stream.
+     *
+     * @param charStream char stream
+     * @param lexerClass lexer class
+     * @return created token stream
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static CommonTokenStream newTokenStream(final CharStream charStream, final Class<? extends SQLLexer> lexerClass) {
+        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(charStream);
+        lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        return new CommonTokenStream(lexer);
+    }
+    
+    /**
+     * Create new char stream.
+     *
+     * @param sql SQL
+     * @return created char stream
+     */
+    public static CharStream newCharStream(final String sql) {
+        return getSQLCharStream(sql);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
@@ -60,13 +95,6 @@ public final class SQLParserFactory {
         return result;
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
-        lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
-        return new CommonTokenStream(lexer);
-    }
-    
     private static CharStream getSQLCharStream(final String sql) {
         CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
         return CodePointCharStream.fromBuffer(buffer);
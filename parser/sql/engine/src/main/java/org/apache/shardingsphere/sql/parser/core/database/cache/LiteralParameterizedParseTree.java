@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.RebindableCharStream;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Literal parameterized parse tree, the parse tree of one SQL shape which could be rebound to another SQL with same shape but different literals.
+ */
+@RequiredArgsConstructor
+public final class LiteralParameterizedParseTree {
+    
+    @Getter
+    private final ParseASTNode parseASTNode;
+    
+    private final RebindableCharStream charStream;
+    
+    private final List<Token> tokens;
+    
+    private final AtomicBoolean acquired = new AtomicBoolean();
+    
+    /**
+     * Try to acquire parse tree for exclusive use, not reentrant.
+     *
+     * @return acquired or not
+     */
+    public boolean tryAcquire() {
+        return acquired.compareAndSet(false, true);
+    }
+    
+    /**
+     * Release parse tree.
+     */
+    public void release() {
+        acquired.set(false);
+    }
+    
+    /**
+     * Rebind tokens of parse tree to SQL with same shape.
+     *
+     * @param sqlCharStream char stream of SQL to be rebound
+     * @param sqlTokens tokens lexed from SQL to be rebound, must be one to one corresponding with tokens of parse tree
+     */
+    public void rebind(final CharStream sqlCharStream, final List<Token> sqlTokens) {
+        charStream.setDelegate(sqlCharStream);
+        for (int i = 0; i < tokens.size(); i++) {
+            CommonToken token = (CommonToken) tokens.get(i);
+            Token sqlToken = sqlTokens.get(i);
+            token.setStartIndex(sqlToken.getStartIndex());
+            token.setStopIndex(sqlToken.getStopIndex());
+            token.setLine(sqlToken.getLine());
+            token.setCharPositionInLine(sqlToken.getCharPositionInLine());
+        }
+    }
+}
@@ -32,8 +32,10 @@ import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.connection.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.rule.RuleBasedQueryExecuteEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
@@ -59,6 +61,7 @@ import org.apache.shardingsphere.proxy.backend.exception.StorageUnitNotExistedEx
 import org.apache.shardingsphere.proxy.backend.handler.data.DatabaseBackendHandler;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
@@ -85,6 +88,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Database connector.
@@ -232,12 +236,20 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
-        List result = proxySQLExecutor.execute(executionContext);
+        Optional<QueryResult> ruleBasedQueryResult =
+                new RuleBasedQueryExecuteEngine(database.getRuleMetaData().getRules(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps())
+                        .execute(executionContext, executionUnits -> executeQuery(executionContext, executionUnits));
+        List result = ruleBasedQueryResult.isPresent() ? Collections.singletonList(ruleBasedQueryResult.get()) : proxySQLExecutor.execute(executionContext);
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult ? processExecuteQuery(executionContext, result, (QueryResult) executeResultSample) : processExecuteUpdate(executionContext, result);
     }
     
+    private List<QueryResult> executeQuery(final ExecutionContext executionContext, final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        return proxySQLExecutor.execute(new ExecutionContext(executionContext.getQueryContext(), executionUnits, executionContext.getRouteContext()))
+                .stream().map(QueryResult.class::cast).collect(Collectors.toList());
+    }
+    
     private ResultSet doExecuteFederation(final QueryContext queryContext, final MetaDataContexts metaDataContexts) {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseConnectionManager.getConnectionSession().getDatabaseName());
@@ -387,6 +399,19 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Write row data without creating query response cells.
+     *
+     * @param writer query response row writer
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public void writeRowData(final QueryResponseRowWriter writer) throws SQLException {
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            writer.write(mergedResult.getValue(columnIndex, Object.class));
+        }
+    }
+    
     /**
      * Close database connector.
      *
@@ -395,6 +420,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -406,6 +432,19 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            } finally {
+                mergedResult = null;
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -17,41 +17,45 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.SneakyThrows;
 
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Resource lock.
+ *
+ * <p>Threads writing query data wait on the lock while channel is not writable, and are woken up by
+ * {@link #doNotify()} when channel becomes writable again or inactive.</p>
  */
 public final class ResourceLock {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
-    
     private final Lock lock = new ReentrantLock();
     
     private final Condition condition = lock.newCondition();
     
     /**
-     * Await.
+     * Await until channel is writable or inactive, pending data of channel is flushed before waiting.
      *
      * @param context channel handler context
      */
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     @SneakyThrows(InterruptedException.class)
     public void doAwait(final ChannelHandlerContext context) {
-        while (!context.channel().isWritable() && context.channel().isActive()) {
-            context.flush();
-            lock.lock();
-            try {
-                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
-            } finally {
-                lock.unlock();
+        Channel channel = context.channel();
+        if (channel.isWritable() || !channel.isActive()) {
+            return;
+        }
+        context.flush();
+        lock.lock();
+        try {
+            while (!channel.isWritable() && channel.isActive()) {
+                condition.await();
             }
+        } finally {
+            lock.unlock();
         }
     }
     
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -47,6 +48,7 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -68,6 +70,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -172,6 +175,22 @@ class DatabaseConnectorTest {
         }
     }
     
+    @Test
+    void assertWriteRowData() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), databaseConnectionManager, false);
+        MemberAccessor accessor = Plugins.getMemberAccessor();
+        accessor.set(DatabaseConnector.class.getDeclaredField("queryHeaders"), engine, Arrays.asList(mock(QueryHeader.class), mock(QueryHeader.class)));
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(1);
+        accessor.set(DatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        List<Object> actual = new ArrayList<>(2);
+        engine.writeRowData(actual::add);
+        assertThat(actual, is(Arrays.asList("foo", 1)));
+    }
+    
     private ShardingSphereDatabase createDatabaseMetaData() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         ShardingSphereColumn column = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false);
@@ -255,6 +274,18 @@ class DatabaseConnectorTest {
         assertThat(actual.getNextException().getNextException(), is(sqlExceptionByStatement));
     }
     
+    @Test
+    void assertCloseMergedResult() throws SQLException, ReflectiveOperationException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), databaseConnectionManager, false);
+        MergedResult mergedResult = mock(MergedResult.class);
+        Plugins.getMemberAccessor().set(DatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        engine.close();
+        verify(mergedResult).close();
+        assertFalse(engine.next());
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private <T> T getField(final DatabaseConnector target, final String fieldName) {
@@ -19,26 +19,27 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.times;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@ExtendWith(AutoMockExtension.class)
+@ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ResourceLockTest {
     
@@ -48,33 +49,60 @@ class ResourceLockTest {
     @Mock
     private Channel channel;
     
-    @Mock
-    private ResourceLock resourceLock;
+    private final AtomicBoolean writable = new AtomicBoolean();
     
-    @Test
-    void assertDoAwait() throws NoSuchFieldException, IllegalAccessException {
-        when(channel.isWritable()).thenReturn(false);
-        when(channel.isActive()).thenReturn(true);
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    
+    @BeforeEach
+    void setUp() {
         when(channelHandlerContext.channel()).thenReturn(channel);
-        ExecutorService executorService = Executors.newFixedThreadPool(1);
-        executorService.submit(() -> resourceLock.doAwait(channelHandlerContext));
-        Awaitility.await().pollDelay(200L, TimeUnit.MILLISECONDS).until(() -> true);
-        Plugins.getMemberAccessor().set(ResourceLock.class.getDeclaredField("condition"), resourceLock, new ReentrantLock().newCondition());
-        verify(resourceLock, times(1)).doAwait(channelHandlerContext);
+        when(channel.isWritable()).thenAnswer(invocation -> writable.get());
+        when(channel.isActive()).thenAnswer(invocation -> active.get());
     }
     
     @Test
-    void assertDoNotify() {
-        when(channel.isWritable()).thenReturn(true);
-        when(channel.isActive()).thenReturn(true);
-        when(channelHandlerContext.channel()).thenReturn(channel);
-        long startTime = System.currentTimeMillis();
-        ExecutorService executorService = Executors.newFixedThreadPool(1);
-        executorService.submit(() -> {
-            Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+    void assertDoAwaitWithWritableChannel() {
+        writable.set(true);
+        new ResourceLock().doAwait(channelHandlerContext);
+        verify(channelHandlerContext, never()).flush();
+    }
+    
+    @Test
+    void assertDoAwaitWithInactiveChannel() {
+        active.set(false);
+        new ResourceLock().doAwait(channelHandlerContext);
+        verify(channelHandlerContext, never()).flush();
+    }
+    
+    @Test
+    void assertDoAwaitUntilWritable() throws Exception {
+        ResourceLock resourceLock = new ResourceLock();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> future = executorService.submit(() -> resourceLock.doAwait(channelHandlerContext));
+            Awaitility.await().atMost(5L, TimeUnit.SECONDS).untilAsserted(() -> verify(channelHandlerContext).flush());
+            resourceLock.doNotify();
+            assertFalse(future.isDone());
+            writable.set(true);
+            resourceLock.doNotify();
+            future.get(5L, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    void assertDoAwaitUntilChannelInactive() throws Exception {
+        ResourceLock resourceLock = new ResourceLock();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> future = executorService.submit(() -> resourceLock.doAwait(channelHandlerContext));
+            Awaitility.await().atMost(5L, TimeUnit.SECONDS).untilAsserted(() -> verify(channelHandlerContext).flush());
+            active.set(false);
             resourceLock.doNotify();
-        });
-        resourceLock.doAwait(channelHandlerContext);
-        assertTrue(System.currentTimeMillis() >= startTime);
+            future.get(5L, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
     }
 }
@@ -58,6 +58,7 @@ public final class BootstrapInitializer {
         ContextManager contextManager = createContextManager(proxyConfig, modeConfig, port, force);
         ProxyContext.init(contextManager);
         contextManagerInitializedCallback(contextManager);
+        new SQLParserWarmUpInitializer().warmUp(contextManager.getMetaDataContexts().getMetaData());
         ShardingSphereProxyVersion.setVersion(contextManager);
     }
     
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.sql.parser.api.SQLParserWarmUpEngine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL parser warm up initializer.
+ */
+@Slf4j
+public final class SQLParserWarmUpInitializer {
+    
+    private static final String CORPUS_FILE_SUFFIX = ".sql";
+    
+    private static final String STATEMENT_DELIMITER = ";";
+    
+    private static final String COMMENT_PREFIX = "--";
+    
+    /**
+     * Warm up SQL parser of database types in use with SQL corpus files.
+     *
+     * @param metaData meta data
+     */
+    public void warmUp(final ShardingSphereMetaData metaData) {
+        String warmUpPath = metaData.getProps().getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_PATH);
+        if (warmUpPath.isEmpty()) {
+            return;
+        }
+        for (DatabaseType each : getDatabaseTypes(metaData.getDatabases().values())) {
+            File corpusFile = new File(warmUpPath, each.getType() + CORPUS_FILE_SUFFIX);
+            if (corpusFile.isFile()) {
+                replay(each, corpusFile);
+            }
+        }
+    }
+    
+    private Collection<DatabaseType> getDatabaseTypes(final Collection<ShardingSphereDatabase> databases) {
+        Map<String, DatabaseType> result = new LinkedHashMap<>();
+        for (ShardingSphereDatabase each : databases) {
+            result.putIfAbsent(each.getProtocolType().getType(), each.getProtocolType());
+            for (StorageUnit storageUnit : each.getResourceMetaData().getStorageUnits().values()) {
+                result.putIfAbsent(storageUnit.getStorageType().getType(), storageUnit.getStorageType());
+            }
+        }
+        return result.values();
+    }
+    
+    private void replay(final DatabaseType databaseType, final File corpusFile) {
+        List<String> sqls;
+        try {
+            sqls = loadSQLs(corpusFile);
+        } catch (final IOException ex) {
+            log.warn("Load SQL parser warm up corpus `{}` failed.", corpusFile.getPath(), ex);
+            return;
+        }
+        long startTimeMillis = System.currentTimeMillis();
+        int parsedCount = new SQLParserWarmUpEngine(databaseType).warmUp(sqls);
+        log.info("SQL parser of `{}` warmed up with {} of {} SQLs in {} ms.", databaseType.getType(), parsedCount, sqls.size(), System.currentTimeMillis() - startTimeMillis);
+    }
+    
+    /**
+     * Load SQLs from corpus file.
+     * 
+     * <p>SQLs are ended with semicolon and may span multiple lines, lines started with double dash are ignored.</p>
+     *
+     * @param corpusFile corpus file
+     * @return loaded SQLs
+     * @throws IOException IO exception
+     */
+    public List<String> loadSQLs(final File corpusFile) throws IOException {
+        List<String> result = new LinkedList<>();
+        StringBuilder sql = new StringBuilder();
+        for (String each : Files.readAllLines(corpusFile.toPath(), StandardCharsets.UTF_8)) {
+            String line = each.trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            if (0 != sql.length()) {
+                sql.append(' ');
+            }
+            sql.append(line);
+            if (line.endsWith(STATEMENT_DELIMITER)) {
+                result.add(sql.substring(0, sql.length() - STATEMENT_DELIMITER.length()));
+                sql.setLength(0);
+            }
+        }
+        if (0 != sql.length()) {
+            result.add(sql.toString());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLParserWarmUpInitializerTest {
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertLoadSQLs() throws IOException {
+        File corpusFile = tempDir.resolve("MySQL.sql").toFile();
+        Files.write(corpusFile.toPath(), Arrays.asList("-- order queries", "SELECT * FROM t_order", "  WHERE order_id = 1;", "", "DELETE FROM t_order;", "SELECT 1"), StandardCharsets.UTF_8);
+        assertThat(new SQLParserWarmUpInitializer().loadSQLs(corpusFile), is(Arrays.asList("SELECT * FROM t_order WHERE order_id = 1", "DELETE FROM t_order", "SELECT 1")));
+    }
+}
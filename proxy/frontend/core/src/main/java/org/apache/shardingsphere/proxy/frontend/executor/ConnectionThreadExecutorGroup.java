@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The single thread of each connection can be a virtual thread, it is still reused by all tasks of the connection until it idles out.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -57,11 +60,25 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        register(connectionId, false);
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    /**
+     * Register connection.
+     *
+     * @param connectionId connection id
+     * @param virtualThreadEnabled whether back the executor of connection with virtual thread, fall back to platform thread if virtual thread is not supported
+     */
+    public void register(final int connectionId, final boolean virtualThreadEnabled) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, virtualThreadEnabled));
+    }
+    
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final boolean virtualThreadEnabled) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        ThreadFactory threadFactory = virtualThreadEnabled
+                ? ExecutorThreadFactoryBuilder.buildVirtual(threadName).orElseGet(() -> runnable -> new Thread(runnable, threadName))
+                : runnable -> new Thread(runnable, threadName);
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), threadFactory);
     }
     
     /**
@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -60,7 +61,9 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId,
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                        .<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_VIRTUAL_THREAD_ENABLED));
         connectionSession.setConnectionId(connectionId);
     }
     
@@ -102,6 +105,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        connectionSession.getDatabaseConnectionManager().getResourceLock().doNotify();
         UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
     }
     
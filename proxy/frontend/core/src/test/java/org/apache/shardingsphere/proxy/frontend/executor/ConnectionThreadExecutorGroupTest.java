@@ -19,6 +19,11 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -39,4 +44,14 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    void assertRegisterWithVirtualThread() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true);
+        ExecutorService executorService = ConnectionThreadExecutorGroup.getInstance().get(connectionId);
+        Thread thread = executorService.submit(Thread::currentThread).get();
+        assertThat(executorService.submit(Thread::currentThread).get(), is(thread));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
 }
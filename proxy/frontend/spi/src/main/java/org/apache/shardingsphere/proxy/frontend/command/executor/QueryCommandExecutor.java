@@ -48,4 +48,23 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket getQueryRowPacket() throws SQLException;
+    
+    /**
+     * Judge whether query row can be written without creating query row packet.
+     *
+     * @return query row can be written or not
+     */
+    default boolean isQueryRowWritable() {
+        return false;
+    }
+    
+    /**
+     * Write query row, whole query row packet is written by default.
+     *
+     * @param writer query row writer
+     * @throws SQLException SQL exception
+     */
+    default void writeQueryRow(final QueryRowWriter writer) throws SQLException {
+        writer.writeRowPacket(getQueryRowPacket());
+    }
 }
@@ -18,15 +18,17 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowsPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
-import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -39,6 +41,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrorPacketFactory;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 
 /**
@@ -74,18 +77,44 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return;
         }
-        int count = 0;
-        int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int flushBytes = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES);
+        int flushRows = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        Charset charset = context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        boolean hasNext = queryCommandExecutor.next();
+        while (hasNext) {
             databaseConnectionManager.getResourceLock().doAwait(context);
-            DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
+            MySQLTextResultSetRowsPacket rowsPacket = new MySQLTextResultSetRowsPacket(context.alloc().ioBuffer(), charset);
+            try {
+                hasNext = fillQueryRows(queryCommandExecutor, rowsPacket, flushBytes, flushRows);
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                rowsPacket.getByteBuf().release();
+                throw ex;
+            }
+            if (hasNext) {
+                context.writeAndFlush(rowsPacket);
+            } else {
+                context.write(rowsPacket);
             }
         }
         context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession())));
     }
+    
+    private boolean fillQueryRows(final QueryCommandExecutor queryCommandExecutor, final MySQLTextResultSetRowsPacket rowsPacket, final int flushBytes, final int flushRows) throws SQLException {
+        boolean isQueryRowWritable = queryCommandExecutor.isQueryRowWritable();
+        MySQLQueryRowWriter rowWriter = new MySQLQueryRowWriter(rowsPacket);
+        do {
+            if (isQueryRowWritable) {
+                queryCommandExecutor.writeQueryRow(rowWriter);
+            } else {
+                rowsPacket.writeRowPacket((MySQLPacket) queryCommandExecutor.getQueryRowPacket());
+            }
+            if (rowsPacket.getReadableBytes() >= flushBytes || flushRows > 0 && rowsPacket.getRowCount() >= flushRows) {
+                return queryCommandExecutor.next();
+            }
+        } while (queryCommandExecutor.next());
+        return false;
+    }
 }
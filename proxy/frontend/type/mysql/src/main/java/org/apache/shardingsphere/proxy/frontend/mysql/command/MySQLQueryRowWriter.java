@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowsPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryRowWriter;
+
+/**
+ * Query row writer for MySQL.
+ */
+@RequiredArgsConstructor
+public final class MySQLQueryRowWriter implements QueryRowWriter {
+    
+    private final MySQLTextResultSetRowsPacket rowsPacket;
+    
+    @Override
+    public void startRow() {
+        rowsPacket.startRow();
+    }
+    
+    @Override
+    public void write(final Object value) {
+        rowsPacket.writeValue(value);
+    }
+    
+    @Override
+    public void endRow() {
+        rowsPacket.endRow();
+    }
+    
+    @Override
+    public void writeRowPacket(final DatabasePacket rowPacket) {
+        rowsPacket.writeRowPacket((MySQLPacket) rowPacket);
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryRespon
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryRowWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
@@ -123,6 +124,18 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
     }
     
+    @Override
+    public boolean isQueryRowWritable() {
+        return true;
+    }
+    
+    @Override
+    public void writeQueryRow(final QueryRowWriter writer) throws SQLException {
+        writer.startRow();
+        proxyBackendHandler.writeRowData(writer);
+        writer.endRow();
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryRespon
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryRowWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
@@ -127,6 +128,18 @@ public final class OpenGaussComQueryExecutor implements QueryCommandExecutor {
         return new PostgreSQLDataRowPacket(proxyBackendHandler.getRowData().getData());
     }
     
+    @Override
+    public boolean isQueryRowWritable() {
+        return true;
+    }
+    
+    @Override
+    public void writeQueryRow(final QueryRowWriter writer) throws SQLException {
+        writer.startRow();
+        proxyBackendHandler.writeRowData(writer);
+        writer.endRow();
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
@@ -26,10 +27,12 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowsPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -43,6 +46,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrorPacketFactory;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.Optional;
 
@@ -106,23 +110,47 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     
     private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                   final QueryCommandExecutor queryCommandExecutor) throws SQLException {
-        long dataRows = 0;
-        int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            flushCount++;
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int proxyFrontendFlushBytes = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES);
+        int proxyFrontendFlushRows = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        Charset charset = context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        long result = 0;
+        boolean hasNext = queryCommandExecutor.next();
+        while (hasNext) {
             databaseConnectionManager.getResourceLock().doAwait(context);
-            DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
+            PostgreSQLDataRowsPacket rowsPacket = new PostgreSQLDataRowsPacket(context.alloc().ioBuffer(), charset);
+            try {
+                hasNext = fillDataRows(queryCommandExecutor, rowsPacket, proxyFrontendFlushBytes, proxyFrontendFlushRows);
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                rowsPacket.getByteBuf().release();
+                throw ex;
             }
-            if (resultValue instanceof PostgreSQLDataRowPacket) {
-                dataRows++;
+            result += rowsPacket.getRowCount();
+            if (hasNext) {
+                context.writeAndFlush(rowsPacket);
+            } else {
+                context.write(rowsPacket);
             }
         }
-        return dataRows;
+        return result;
+    }
+    
+    private boolean fillDataRows(final QueryCommandExecutor queryCommandExecutor, final PostgreSQLDataRowsPacket rowsPacket,
+                                 final int proxyFrontendFlushBytes, final int proxyFrontendFlushRows) throws SQLException {
+        boolean isQueryRowWritable = queryCommandExecutor.isQueryRowWritable();
+        PostgreSQLQueryRowWriter rowWriter = new PostgreSQLQueryRowWriter(rowsPacket);
+        do {
+            if (isQueryRowWritable) {
+                queryCommandExecutor.writeQueryRow(rowWriter);
+            } else {
+                rowsPacket.writeRowPacket((PostgreSQLIdentifierPacket) queryCommandExecutor.getQueryRowPacket());
+            }
+            if (rowsPacket.getReadableBytes() >= proxyFrontendFlushBytes || proxyFrontendFlushRows > 0 && rowsPacket.getRowCount() >= proxyFrontendFlushRows) {
+                return queryCommandExecutor.next();
+            }
+        } while (queryCommandExecutor.next());
+        return false;
     }
 }
@@ -20,8 +20,12 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extend
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLTypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.BatchInsertExecutionContext;
+import org.apache.shardingsphere.infra.connection.kernel.BatchInsertExecutionUnit;
+import org.apache.shardingsphere.infra.connection.kernel.BatchInsertKernelProcessor;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
@@ -72,6 +76,8 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private final KernelProcessor kernelProcessor = new KernelProcessor();
     
+    private final BatchInsertKernelProcessor batchInsertKernelProcessor = new BatchInsertKernelProcessor();
+    
     private final JDBCExecutor jdbcExecutor;
     
     private final ConnectionSession connectionSession;
@@ -91,19 +97,43 @@ public final class PostgreSQLBatchedStatementsExecutor {
         this.connectionSession = connectionSession;
         metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         this.preparedStatement = preparedStatement;
+        anyExecutionContext = parameterSets.isEmpty() ? null : prepareExecutionContext(parameterSets, preparedStatement.getHintValueContext());
+    }
+    
+    private ExecutionContext prepareExecutionContext(final List<List<Object>> parameterSets, final HintValueContext hintValueContext) {
         Iterator<List<Object>> parameterSetsIterator = parameterSets.iterator();
-        SQLStatementContext sqlStatementContext = null;
-        ExecutionContext executionContext = null;
-        if (parameterSetsIterator.hasNext()) {
-            List<Object> firstGroupOfParam = parameterSetsIterator.next();
-            sqlStatementContext = createSQLStatementContext(firstGroupOfParam, preparedStatement.getHintValueContext());
-            executionContext = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam, preparedStatement.getHintValueContext()));
-            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
+        List<Object> firstGroupOfParam = parameterSetsIterator.next();
+        SQLStatementContext sqlStatementContext = createSQLStatementContext(firstGroupOfParam, hintValueContext);
+        if (isBatchInsertCoalesced(sqlStatementContext)) {
+            Optional<BatchInsertExecutionContext> batchInsertExecutionContext = createBatchInsertExecutionContext((InsertStatementContext) sqlStatementContext, parameterSets, hintValueContext);
+            if (batchInsertExecutionContext.isPresent()) {
+                for (BatchInsertExecutionUnit each : batchInsertExecutionContext.get().getExecutionUnits()) {
+                    executionUnitParams.computeIfAbsent(each.getExecutionUnit(), unused -> new LinkedList<>()).add(each.getExecutionUnit().getSqlUnit().getParameters());
+                }
+                return batchInsertExecutionContext.get().getExecutionContext();
             }
+            ((InsertStatementContext) sqlStatementContext).setUpParameters(firstGroupOfParam);
+        }
+        ExecutionContext result = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam, hintValueContext));
+        for (ExecutionUnit each : result.getExecutionUnits()) {
+            executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
         }
-        anyExecutionContext = executionContext;
-        prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext, preparedStatement.getHintValueContext());
+        prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext, hintValueContext);
+        return result;
+    }
+    
+    private boolean isBatchInsertCoalesced(final SQLStatementContext sqlStatementContext) {
+        return metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_SIZE) > 1 && batchInsertKernelProcessor.isSupported(sqlStatementContext);
+    }
+    
+    private Optional<BatchInsertExecutionContext> createBatchInsertExecutionContext(final InsertStatementContext sqlStatementContext, final List<List<Object>> parameterSets,
+                                                                                    final HintValueContext hintValueContext) {
+        QueryContext queryContext = createQueryContext(sqlStatementContext, sqlStatementContext.setUpBatchParameters(parameterSets), hintValueContext);
+        RuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
+        ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        SQLAuditEngine.audit(sqlStatementContext, queryContext.getParameters(), globalRuleMetaData, currentDatabase, null, hintValueContext);
+        return batchInsertKernelProcessor.generateExecutionContext(
+                queryContext, currentDatabase, globalRuleMetaData, metaDataContexts.getMetaData().getProps(), connectionSession.getConnectionContext());
     }
     
     private SQLStatementContext createSQLStatementContext(final List<Object> params, final HintValueContext hintValueContext) {
@@ -17,13 +17,23 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import io.netty.util.Attribute;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowsPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
@@ -32,24 +42,40 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.Resourc
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryRowWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.PostgreSQLComQueryExecutor;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -117,15 +143,167 @@ class PostgreSQLCommandExecuteEngineTest {
         ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
         when(databaseConnectionManager.getResourceLock()).thenReturn(resourceLock);
         when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
-        PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
-        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(new PostgreSQLDataRowPacket(Collections.singletonList("foo")));
+        mockCharsetAndAllocator();
         PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
         ContextManager contextManager = new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class), new ShardingSphereMetaData()), mock(InstanceContext.class));
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         commandExecuteEngine.writeQueryData(channelHandlerContext, databaseConnectionManager, queryCommandExecutor, 0);
         verify(resourceLock).doAwait(channelHandlerContext);
-        verify(channelHandlerContext).write(packet);
+        verify(channelHandlerContext).write(isA(PostgreSQLDataRowsPacket.class));
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
         verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
     }
+    
+    @Test
+    void assertWriteQueryDataWithWritableQueryRows() throws SQLException {
+        PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(queryCommandExecutor.isQueryRowWritable()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        doAnswer(invocation -> {
+            QueryRowWriter writer = invocation.getArgument(0);
+            writer.startRow();
+            writer.write(1);
+            writer.write("foo");
+            writer.endRow();
+            return null;
+        }).when(queryCommandExecutor).writeQueryRow(any(QueryRowWriter.class));
+        when(channel.isActive()).thenReturn(true);
+        mockCharsetAndAllocator();
+        ResourceLock resourceLock = mock(ResourceLock.class);
+        ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
+        when(databaseConnectionManager.getResourceLock()).thenReturn(resourceLock);
+        when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
+        ContextManager contextManager = new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class), new ShardingSphereMetaData()), mock(InstanceContext.class));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(resourceLock).doAwait(channelHandlerContext);
+        verify(queryCommandExecutor, never()).getQueryRowPacket();
+        ArgumentCaptor<Object> writtenCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(channelHandlerContext, times(3)).write(writtenCaptor.capture());
+        assertThat(writtenCaptor.getAllValues().get(0), instanceOf(PostgreSQLDataRowsPacket.class));
+        PostgreSQLDataRowsPacket actual = (PostgreSQLDataRowsPacket) writtenCaptor.getAllValues().get(0);
+        assertThat(actual.getRowCount(), is(2));
+        ByteBuf expected = Unpooled.buffer();
+        for (int i = 0; i < 2; i++) {
+            expected.writeByte('D');
+            expected.writeInt(4 + 2 + 4 + 1 + 4 + 3);
+            expected.writeShort(2);
+            expected.writeInt(1);
+            expected.writeByte('1');
+            expected.writeInt(3);
+            expected.writeCharSequence("foo", StandardCharsets.UTF_8);
+        }
+        assertThat(actual.getByteBuf(), is(expected));
+        assertThat(writtenCaptor.getAllValues().get(1), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(writtenCaptor.getAllValues().get(2), instanceOf(PostgreSQLReadyForQueryPacket.class));
+    }
+    
+    @Test
+    void assertWriteQueryDataWithDefaultWritableQueryRow() throws SQLException {
+        QueryCommandExecutor queryCommandExecutor = mock(QueryCommandExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(queryCommandExecutor.isQueryRowWritable()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(new PostgreSQLDataRowPacket(Collections.singletonList("foo")));
+        doCallRealMethod().when(queryCommandExecutor).writeQueryRow(any(QueryRowWriter.class));
+        when(channel.isActive()).thenReturn(true);
+        mockCharsetAndAllocator();
+        ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
+        when(databaseConnectionManager.getResourceLock()).thenReturn(mock(ResourceLock.class));
+        when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
+        ContextManager contextManager = new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class), new ShardingSphereMetaData()), mock(InstanceContext.class));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, databaseConnectionManager, queryCommandExecutor, 0);
+        ArgumentCaptor<Object> writtenCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(channelHandlerContext, times(3)).write(writtenCaptor.capture());
+        PostgreSQLDataRowsPacket actual = (PostgreSQLDataRowsPacket) writtenCaptor.getAllValues().get(0);
+        assertThat(actual.getRowCount(), is(1));
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte('D');
+        expected.writeInt(4 + 2 + 4 + 3);
+        expected.writeShort(1);
+        expected.writeInt(3);
+        expected.writeCharSequence("foo", StandardCharsets.UTF_8);
+        assertThat(actual.getByteBuf(), is(expected));
+    }
+    
+    @Test
+    void assertWriteQueryDataWithFlushBytesReached() throws SQLException {
+        PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(queryCommandExecutor.isQueryRowWritable()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        doAnswer(invocation -> {
+            QueryRowWriter writer = invocation.getArgument(0);
+            writer.startRow();
+            writer.write("foo");
+            writer.endRow();
+            return null;
+        }).when(queryCommandExecutor).writeQueryRow(any(QueryRowWriter.class));
+        when(channel.isActive()).thenReturn(true);
+        mockCharsetAndAllocator();
+        ResourceLock resourceLock = mock(ResourceLock.class);
+        ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
+        when(databaseConnectionManager.getResourceLock()).thenReturn(resourceLock);
+        when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES.getKey(), "28"));
+        ShardingSphereMetaData metaData =
+                new ShardingSphereMetaData(Collections.emptyMap(), new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(props));
+        ContextManager contextManager = new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class), metaData), mock(InstanceContext.class));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(resourceLock, times(2)).doAwait(channelHandlerContext);
+        ArgumentCaptor<PostgreSQLDataRowsPacket> flushedCaptor = ArgumentCaptor.forClass(PostgreSQLDataRowsPacket.class);
+        verify(channelHandlerContext).writeAndFlush(flushedCaptor.capture());
+        assertThat(flushedCaptor.getValue().getRowCount(), is(2));
+        ArgumentCaptor<Object> writtenCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(channelHandlerContext, times(3)).write(writtenCaptor.capture());
+        assertThat(((PostgreSQLDataRowsPacket) writtenCaptor.getAllValues().get(0)).getRowCount(), is(1));
+        assertThat(writtenCaptor.getAllValues().get(1), instanceOf(PostgreSQLCommandCompletePacket.class));
+    }
+    
+    @Test
+    void assertWriteQueryDataWithDeprecatedFlushThresholdReached() throws SQLException {
+        PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(queryCommandExecutor.isQueryRowWritable()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        doAnswer(invocation -> {
+            QueryRowWriter writer = invocation.getArgument(0);
+            writer.startRow();
+            writer.write("foo");
+            writer.endRow();
+            return null;
+        }).when(queryCommandExecutor).writeQueryRow(any(QueryRowWriter.class));
+        when(channel.isActive()).thenReturn(true);
+        mockCharsetAndAllocator();
+        ResourceLock resourceLock = mock(ResourceLock.class);
+        ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
+        when(databaseConnectionManager.getResourceLock()).thenReturn(resourceLock);
+        when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "2"));
+        ShardingSphereMetaData metaData =
+                new ShardingSphereMetaData(Collections.emptyMap(), new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(props));
+        ContextManager contextManager = new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class), metaData), mock(InstanceContext.class));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(resourceLock, times(2)).doAwait(channelHandlerContext);
+        ArgumentCaptor<PostgreSQLDataRowsPacket> flushedCaptor = ArgumentCaptor.forClass(PostgreSQLDataRowsPacket.class);
+        verify(channelHandlerContext).writeAndFlush(flushedCaptor.capture());
+        assertThat(flushedCaptor.getValue().getRowCount(), is(2));
+        ArgumentCaptor<Object> writtenCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(channelHandlerContext, times(3)).write(writtenCaptor.capture());
+        assertThat(((PostgreSQLDataRowsPacket) writtenCaptor.getAllValues().get(0)).getRowCount(), is(1));
+        assertThat(writtenCaptor.getAllValues().get(1), instanceOf(PostgreSQLCommandCompletePacket.class));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void mockCharsetAndAllocator() {
+        Attribute<Charset> charsetAttribute = mock(Attribute.class);
+        when(charsetAttribute.get()).thenReturn(StandardCharsets.UTF_8);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(charsetAttribute);
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+    }
 }
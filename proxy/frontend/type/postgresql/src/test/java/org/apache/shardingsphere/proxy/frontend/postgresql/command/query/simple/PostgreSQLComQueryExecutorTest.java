@@ -30,6 +30,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryRowWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
@@ -123,4 +124,14 @@ class PostgreSQLComQueryExecutorTest {
         PostgreSQLPacket actual = queryExecutor.getQueryRowPacket();
         assertThat(actual, is(instanceOf(PostgreSQLDataRowPacket.class)));
     }
+    
+    @Test
+    void assertWriteQueryRow() throws SQLException {
+        QueryRowWriter writer = mock(QueryRowWriter.class);
+        assertTrue(queryExecutor.isQueryRowWritable());
+        queryExecutor.writeQueryRow(writer);
+        verify(writer).startRow();
+        verify(proxyBackendHandler).writeRowData(writer);
+        verify(writer).endRow();
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.encrypt;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.driver.api.ShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnItemRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark of querying wide result set whose columns are all encrypted by AES encrypt algorithm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WideEncryptedResultSetBenchmark {
+    
+    private static final String URL = "jdbc:h2:mem:benchmark_encrypt;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private static final String TABLE_NAME = "t_user";
+    
+    private static final String ENCRYPTOR_NAME = "aes_encryptor";
+    
+    @Param({"8", "32"})
+    private int columnCount;
+    
+    @Param("1000")
+    private int rowCount;
+    
+    private HikariDataSource storageDataSource;
+    
+    private DataSource dataSource;
+    
+    private String selectSQL;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        storageDataSource = createStorageDataSource();
+        createTable();
+        dataSource = ShardingSphereDataSourceFactory.createDataSource("benchmark_encrypt_db", null, storageDataSource, Collections.singleton(createEncryptRuleConfiguration()), new Properties());
+        insertRows();
+        selectSQL = String.format("SELECT id, %s FROM %s", IntStream.range(0, columnCount).mapToObj(each -> "c_" + each).collect(Collectors.joining(", ")), TABLE_NAME);
+    }
+    
+    private HikariDataSource createStorageDataSource() {
+        HikariDataSource result = new HikariDataSource();
+        result.setDriverClassName("org.h2.Driver");
+        result.setJdbcUrl(URL);
+        result.setUsername("sa");
+        result.setPassword("");
+        return result;
+    }
+    
+    private void createTable() throws SQLException {
+        try (
+                Connection connection = storageDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+            String cipherColumns = IntStream.range(0, columnCount).mapToObj(each -> String.format("c_%d_cipher VARCHAR(128)", each)).collect(Collectors.joining(", "));
+            statement.execute(String.format("CREATE TABLE %s (id INT PRIMARY KEY, %s)", TABLE_NAME, cipherColumns));
+        }
+    }
+    
+    private EncryptRuleConfiguration createEncryptRuleConfiguration() {
+        Collection<EncryptColumnRuleConfiguration> columns = new LinkedList<>();
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(new EncryptColumnRuleConfiguration("c_" + i, new EncryptColumnItemRuleConfiguration(String.format("c_%d_cipher", i), ENCRYPTOR_NAME)));
+        }
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "123456abc");
+        return new EncryptRuleConfiguration(Collections.singleton(new EncryptTableRuleConfiguration(TABLE_NAME, columns)),
+                Collections.singletonMap(ENCRYPTOR_NAME, new AlgorithmConfiguration("AES", props)));
+    }
+    
+    private void insertRows() throws SQLException {
+        String columns = IntStream.range(0, columnCount).mapToObj(each -> "c_" + each).collect(Collectors.joining(", "));
+        String placeholders = String.join(", ", Collections.nCopies(columnCount, "?"));
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (id, %s) VALUES (?, %s)", TABLE_NAME, columns, placeholders))) {
+            for (int i = 0; i < rowCount; i++) {
+                preparedStatement.setInt(1, i);
+                for (int j = 0; j < columnCount; j++) {
+                    preparedStatement.setString(j + 2, String.format("value_%d_%d", i, j));
+                }
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws Exception exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        ((AutoCloseable) dataSource).close();
+        storageDataSource.close();
+    }
+    
+    /**
+     * Benchmark of querying and decrypting all rows.
+     *
+     * @return total length of decrypted values
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public long query() throws SQLException {
+        long result = 0L;
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(selectSQL)) {
+            while (resultSet.next()) {
+                for (int i = 2; i <= columnCount + 1; i++) {
+                    result += resultSet.getString(i).length();
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.federation;
+
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingBenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of multi-table cross-shard join which is executed by SQL federation.
+ * 
+ * <p>t_order and t_order_item are binding tables sharded by user id and order id, t_merchant is sharded by merchant id,
+ * so joining them can not be pushed down to storage units.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CrossShardJoinBenchmark {
+    
+    private static final String SQL = "SELECT o.order_id, o.status, m.merchant_name FROM t_order o INNER JOIN t_merchant m ON o.merchant_id = m.merchant_id "
+            + "WHERE o.user_id IN (?, ?, ?, ?) ORDER BY o.order_id";
+    
+    private ShardingBenchmarkEnvironment environment;
+    
+    private Connection connection;
+    
+    private PreparedStatement preparedStatement;
+    
+    /**
+     * Set up.
+     *
+     * @throws Exception exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        environment = new ShardingBenchmarkEnvironment();
+        connection = environment.getDataSource().getConnection();
+        preparedStatement = connection.prepareStatement(SQL);
+        for (int i = 1; i <= 4; i++) {
+            preparedStatement.setInt(i, i * 7);
+        }
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws Exception exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        preparedStatement.close();
+        connection.close();
+        environment.close();
+    }
+    
+    /**
+     * Benchmark join query.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void join(final Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getString(3));
+            }
+        }
+    }
+}
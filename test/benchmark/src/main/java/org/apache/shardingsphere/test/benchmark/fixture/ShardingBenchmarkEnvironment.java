@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import com.google.common.io.ByteStreams;
+import lombok.Getter;
+import org.apache.shardingsphere.driver.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sharding benchmark environment.
+ * 
+ * <p>Logic tables are sharded into two embedded H2 storage units, see {@code /config/benchmark-sharding.yaml}.</p>
+ */
+@Getter
+public final class ShardingBenchmarkEnvironment implements AutoCloseable {
+    
+    public static final String DATABASE_NAME = "benchmark_db";
+    
+    public static final int STORAGE_UNIT_COUNT = 2;
+    
+    public static final int TABLE_COUNT_PER_STORAGE_UNIT = 2;
+    
+    public static final int ORDER_COUNT = 4000;
+    
+    public static final int USER_COUNT = 200;
+    
+    public static final int MERCHANT_COUNT = 100;
+    
+    private static final String CONFIG_FILE = "/config/benchmark-sharding.yaml";
+    
+    private static final String STORAGE_UNIT_URL = "jdbc:h2:mem:benchmark_ds_%d;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private final DataSource dataSource;
+    
+    private final ContextManager contextManager;
+    
+    public ShardingBenchmarkEnvironment() throws SQLException, IOException {
+        for (int i = 0; i < STORAGE_UNIT_COUNT; i++) {
+            initStorageUnit(i);
+        }
+        dataSource = YamlShardingSphereDataSourceFactory.createDataSource(loadConfiguration());
+        try (Connection connection = dataSource.getConnection()) {
+            contextManager = connection.unwrap(ShardingSphereConnection.class).getContextManager();
+        }
+    }
+    
+    private void initStorageUnit(final int storageUnitIndex) throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(String.format(STORAGE_UNIT_URL, storageUnitIndex), "sa", "");
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < TABLE_COUNT_PER_STORAGE_UNIT; i++) {
+                statement.execute(String.format("DROP TABLE IF EXISTS t_order_%d", i));
+                statement.execute(String.format("CREATE TABLE t_order_%d (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, merchant_id INT NOT NULL, status VARCHAR(32))", i));
+                statement.execute(String.format("DROP TABLE IF EXISTS t_order_item_%d", i));
+                statement.execute(String.format("CREATE TABLE t_order_item_%d (item_id BIGINT PRIMARY KEY, order_id BIGINT NOT NULL, user_id INT NOT NULL, quantity INT)", i));
+            }
+            statement.execute("DROP TABLE IF EXISTS t_merchant");
+            statement.execute("CREATE TABLE t_merchant (merchant_id INT PRIMARY KEY, merchant_name VARCHAR(64))");
+            insertOrders(connection, storageUnitIndex);
+            insertMerchants(connection, storageUnitIndex);
+        }
+    }
+    
+    private void insertOrders(final Connection connection, final int storageUnitIndex) throws SQLException {
+        for (int i = 0; i < TABLE_COUNT_PER_STORAGE_UNIT; i++) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO t_order_%d (order_id, user_id, merchant_id, status) VALUES (?, ?, ?, ?)", i))) {
+                for (int orderId = 1; orderId <= ORDER_COUNT; orderId++) {
+                    int userId = orderId % USER_COUNT;
+                    if (storageUnitIndex == userId % STORAGE_UNIT_COUNT && i == orderId % TABLE_COUNT_PER_STORAGE_UNIT) {
+                        preparedStatement.setLong(1, orderId);
+                        preparedStatement.setInt(2, userId);
+                        preparedStatement.setInt(3, orderId % MERCHANT_COUNT);
+                        preparedStatement.setString(4, "OK");
+                        preparedStatement.addBatch();
+                    }
+                }
+                preparedStatement.executeBatch();
+            }
+        }
+    }
+    
+    private void insertMerchants(final Connection connection, final int storageUnitIndex) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_merchant (merchant_id, merchant_name) VALUES (?, ?)")) {
+            for (int merchantId = storageUnitIndex; merchantId < MERCHANT_COUNT; merchantId += STORAGE_UNIT_COUNT) {
+                preparedStatement.setInt(1, merchantId);
+                preparedStatement.setString(2, "merchant_" + merchantId);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    private byte[] loadConfiguration() throws IOException {
+        try (InputStream inputStream = ShardingBenchmarkEnvironment.class.getResourceAsStream(CONFIG_FILE)) {
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+    
+    /**
+     * Get meta data.
+     *
+     * @return meta data
+     */
+    public ShardingSphereMetaData getMetaData() {
+        return contextManager.getMetaDataContexts().getMetaData();
+    }
+    
+    /**
+     * Get sharding database.
+     *
+     * @return sharding database
+     */
+    public ShardingSphereDatabase getDatabase() {
+        return getMetaData().getDatabase(DATABASE_NAME);
+    }
+    
+    @Override
+    public void close() throws Exception {
+        ((AutoCloseable) dataSource).close();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.jdbc;
+
+import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of accumulating large batch into batch prepared statement executor.
+ * 
+ * <p>Each added batch is routed to one of the sharded tables, like batch insert with parameters.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchPreparedStatementExecutorBenchmark {
+    
+    private static final int DATA_SOURCE_COUNT = 4;
+    
+    @Param("10000")
+    private int batchSize;
+    
+    @Param({"32", "1024"})
+    private int shardCount;
+    
+    private List<Collection<ExecutionUnit>> routedExecutionUnits;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        routedExecutionUnits = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            int shard = i % shardCount;
+            String sql = String.format("INSERT INTO t_order_%d (order_id, user_id, status) VALUES (?, ?, ?)", shard);
+            routedExecutionUnits.add(Collections.singleton(new ExecutionUnit("ds_" + shard % DATA_SOURCE_COUNT, new SQLUnit(sql, Arrays.asList(i, i % 200, "INIT")))));
+        }
+    }
+    
+    /**
+     * Benchmark of adding batch and collecting parameter sets for every execution unit.
+     *
+     * @return parameter set count
+     */
+    @Benchmark
+    public int addBatch() {
+        BatchPreparedStatementExecutor executor = new BatchPreparedStatementExecutor(null, null, "benchmark_db");
+        for (Collection<ExecutionUnit> each : routedExecutionUnits) {
+            executor.addBatchForExecutionUnits(each);
+        }
+        int result = 0;
+        for (BatchExecutionUnit each : executor.getBatchExecutionUnits()) {
+            result += each.getParameterSets().size();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Kernel benchmark scenario.
+ */
+@Getter
+public enum KernelBenchmarkScenario {
+    
+    POINT_SELECT("SELECT order_id, user_id, status FROM t_order WHERE order_id = ? AND user_id = ?", Arrays.asList(10L, 10), 1) {
+        
+        @Override
+        protected List<Object> createRow(final int routeUnitIndex, final int rowIndex) {
+            return Arrays.asList(10L, 10, "OK");
+        }
+    },
+    
+    IN_LIST_SELECT("SELECT order_id, user_id, status FROM t_order WHERE order_id IN (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", createInListParameters(), 4) {
+        
+        @Override
+        protected List<Object> createRow(final int routeUnitIndex, final int rowIndex) {
+            return Arrays.asList((long) routeUnitIndex + 1L + rowIndex * 4L, rowIndex, "OK");
+        }
+    },
+    
+    BATCH_INSERT("INSERT INTO t_order (order_id, user_id, merchant_id, status) VALUES " + String.join(", ", Collections.nCopies(32, "(?, ?, ?, ?)")), createInsertParameters(), 0) {
+        
+        @Override
+        protected List<Object> createRow(final int routeUnitIndex, final int rowIndex) {
+            throw new UnsupportedOperationException("Insert scenario has no query result.");
+        }
+    },
+    
+    ORDER_BY_SELECT("SELECT order_id, user_id, status FROM t_order WHERE status = ? ORDER BY order_id LIMIT ?", Arrays.asList("OK", 100), 100) {
+        
+        @Override
+        protected List<Object> createRow(final int routeUnitIndex, final int rowIndex) {
+            return Arrays.asList((long) rowIndex * 4L + routeUnitIndex, rowIndex % 200, "OK");
+        }
+    },
+    
+    GROUP_BY_SELECT("SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id", Collections.emptyList(), 100) {
+        
+        @Override
+        protected List<Object> createRow(final int routeUnitIndex, final int rowIndex) {
+            return Arrays.asList(rowIndex * 2 + routeUnitIndex % 2, 10L);
+        }
+        
+        @Override
+        protected RawQueryResultMetaData createMetaData() {
+            return new RawQueryResultMetaData(Arrays.asList(
+                    new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                    new RawQueryResultColumnMetaData("", "order_count", "order_count", Types.BIGINT, "BIGINT", 20, 0)));
+        }
+    };
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    private final int rowCountPerRouteUnit;
+    
+    KernelBenchmarkScenario(final String sql, final List<Object> parameters, final int rowCountPerRouteUnit) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.rowCountPerRouteUnit = rowCountPerRouteUnit;
+    }
+    
+    private static List<Object> createInListParameters() {
+        List<Object> result = new ArrayList<>(16);
+        for (long i = 1L; i <= 16L; i++) {
+            result.add(i * 7L);
+        }
+        return result;
+    }
+    
+    private static List<Object> createInsertParameters() {
+        List<Object> result = new ArrayList<>(32 * 4);
+        for (int i = 0; i < 32; i++) {
+            result.add(100000L + i);
+            result.add(i);
+            result.add(i % 10);
+            result.add("NEW");
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether scenario is query.
+     *
+     * @return is query or not
+     */
+    public boolean isQuery() {
+        return rowCountPerRouteUnit > 0;
+    }
+    
+    /**
+     * Create rows of query results, each element is rows of one route unit.
+     *
+     * @param routeUnitCount route unit count
+     * @return rows of query results
+     */
+    public List<List<MemoryQueryResultDataRow>> createRows(final int routeUnitCount) {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(routeUnitCount);
+        for (int i = 0; i < routeUnitCount; i++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowCountPerRouteUnit);
+            for (int j = 0; j < rowCountPerRouteUnit; j++) {
+                rows.add(new MemoryQueryResultDataRow(createRow(i, j)));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    /**
+     * Create query results with prepared rows.
+     *
+     * @param rows rows of query results
+     * @return query results
+     */
+    public List<QueryResult> createQueryResults(final List<List<MemoryQueryResultDataRow>> rows) {
+        RawQueryResultMetaData metaData = createMetaData();
+        List<QueryResult> result = new ArrayList<>(rows.size());
+        for (List<MemoryQueryResultDataRow> each : rows) {
+            result.add(new RawMemoryQueryResult(metaData, each));
+        }
+        return result;
+    }
+    
+    protected abstract List<Object> createRow(int routeUnitIndex, int rowIndex);
+    
+    protected RawQueryResultMetaData createMetaData() {
+        return new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 32, 0)));
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingBenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of kernel stages, parse, bind, route, rewrite and merge are measured one by one and together.
+ * 
+ * <p>Each stage consumes the prepared output of its previous stage. Merge consumes in-memory query results, one for each route unit.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KernelStageBenchmark {
+    
+    @Param({"POINT_SELECT", "IN_LIST_SELECT", "BATCH_INSERT", "ORDER_BY_SELECT", "GROUP_BY_SELECT"})
+    private KernelBenchmarkScenario scenario;
+    
+    private ShardingBenchmarkEnvironment environment;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ShardingSphereDatabase database;
+    
+    private ConfigurationProperties props;
+    
+    private SQLParserEngine sqlParserEngine;
+    
+    private SQLStatement sqlStatement;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    private List<List<MemoryQueryResultDataRow>> queryResultRows;
+    
+    /**
+     * Set up.
+     *
+     * @throws Exception exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        environment = new ShardingBenchmarkEnvironment();
+        metaData = environment.getMetaData();
+        database = environment.getDatabase();
+        props = metaData.getProps();
+        sqlParserEngine = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType());
+        sqlStatement = sqlParserEngine.parse(scenario.getSql(), false);
+        sqlStatementContext = new SQLBindEngine(metaData, ShardingBenchmarkEnvironment.DATABASE_NAME).bind(sqlStatement, scenario.getParameters());
+        queryContext = new QueryContext(sqlStatementContext, scenario.getSql(), scenario.getParameters());
+        routeContext = doRoute(queryContext);
+        queryResultRows = scenario.createRows(routeContext.getRouteUnits().size());
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws Exception exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+    
+    /**
+     * Benchmark parse without SQL statement cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        return sqlParserEngine.parse(scenario.getSql(), false);
+    }
+    
+    /**
+     * Benchmark bind.
+     *
+     * @return SQL statement context
+     */
+    @Benchmark
+    public SQLStatementContext bind() {
+        return new SQLBindEngine(metaData, ShardingBenchmarkEnvironment.DATABASE_NAME).bind(sqlStatement, scenario.getParameters());
+    }
+    
+    /**
+     * Benchmark route.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return doRoute(queryContext);
+    }
+    
+    /**
+     * Benchmark rewrite.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return doRewrite(queryContext, routeContext);
+    }
+    
+    /**
+     * Benchmark merge, insert scenario merges nothing.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        if (scenario.isQuery()) {
+            consume(doMerge(sqlStatementContext), blackhole);
+        }
+    }
+    
+    /**
+     * Benchmark all stages together, parse uses SQL statement cache as prepared statement does.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void pipeline(final Blackhole blackhole) throws SQLException {
+        SQLStatement statement = sqlParserEngine.parse(scenario.getSql(), true);
+        SQLStatementContext statementContext = new SQLBindEngine(metaData, ShardingBenchmarkEnvironment.DATABASE_NAME).bind(statement, scenario.getParameters());
+        QueryContext context = new QueryContext(statementContext, scenario.getSql(), scenario.getParameters());
+        blackhole.consume(doRewrite(context, doRoute(context)));
+        if (scenario.isQuery()) {
+            consume(doMerge(statementContext), blackhole);
+        }
+    }
+    
+    private RouteContext doRoute(final QueryContext queryContext) {
+        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(new ConnectionContext(), queryContext, metaData.getGlobalRuleMetaData(), database);
+    }
+    
+    private SQLRewriteResult doRewrite(final QueryContext queryContext, final RouteContext routeContext) {
+        return new SQLRewriteEntry(database, metaData.getGlobalRuleMetaData(), props).rewrite(
+                queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, new ConnectionContext(), new HintValueContext());
+    }
+    
+    private MergedResult doMerge(final SQLStatementContext statementContext) throws SQLException {
+        return new MergeEngine(database, props, new ConnectionContext()).merge(scenario.createQueryResults(queryResultRows), statementContext);
+    }
+    
+    private void consume(final MergedResult mergedResult, final Blackhole blackhole) throws SQLException {
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingBenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of ORDER BY merge, compares loser tree with priority queue on different shard counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderByMergeBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+    
+    @Param({"4", "16", "64"})
+    private int shardCount;
+    
+    @Param("1000")
+    private int rowCountPerShard;
+    
+    @Param({"false", "true"})
+    private boolean loserTreeEnabled;
+    
+    private ShardingBenchmarkEnvironment environment;
+    
+    private MergeEngine mergeEngine;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    /**
+     * Set up.
+     *
+     * @throws Exception exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        environment = new ShardingBenchmarkEnvironment();
+        ShardingSphereDatabase database = environment.getDatabase();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.LOSER_TREE_ORDER_BY_MERGE_ENABLED.getKey(), String.valueOf(loserTreeEnabled));
+        mergeEngine = new MergeEngine(database, new ConfigurationProperties(props), new ConnectionContext());
+        sqlStatementContext = new SQLBindEngine(environment.getMetaData(), ShardingBenchmarkEnvironment.DATABASE_NAME).bind(environment.getMetaData().getGlobalRuleMetaData()
+                .getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType()).parse(SQL, false), Collections.emptyList());
+        queryResultMetaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 32, 0)));
+        shardRows = createShardRows();
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createShardRows() {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowCountPerShard);
+            for (int j = 0; j < rowCountPerShard; j++) {
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList((long) j * shardCount + i, j % ShardingBenchmarkEnvironment.USER_COUNT, "OK")));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws Exception exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+    
+    /**
+     * Benchmark merge of all rows.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        MergedResult mergedResult = mergeEngine.merge(queryResults, sqlStatementContext);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
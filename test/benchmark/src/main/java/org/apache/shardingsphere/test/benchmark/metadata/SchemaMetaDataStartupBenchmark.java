@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.metadata;
+
+import org.apache.shardingsphere.driver.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of schema meta data loading on startup.
+ * 
+ * <p>
+ * Logic tables {@code t_order} and {@code t_order_item} are sharded into many actual tables of two embedded H2 storage units.
+ * Each invocation creates and closes a ShardingSphere data source, table meta data is loaded from all actual tables, from representative actual tables,
+ * or from a warm local snapshot. Actual tables have no index, because index names generated by H2 differ among actual tables.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SchemaMetaDataStartupBenchmark {
+    
+    private static final int STORAGE_UNIT_COUNT = 2;
+    
+    private static final String STORAGE_UNIT_URL = "jdbc:h2:mem:benchmark_metadata_ds_%d;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    @Param({"64", "512"})
+    private int tableCountPerStorageUnit;
+    
+    @Param({"CHECK_ALL", "REPRESENTATIVE", "SNAPSHOT"})
+    private String loadingMode;
+    
+    private File snapshotPath;
+    
+    private byte[] configuration;
+    
+    /**
+     * Set up.
+     *
+     * @throws Exception exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        for (int i = 0; i < STORAGE_UNIT_COUNT; i++) {
+            initStorageUnit(i);
+        }
+        snapshotPath = Files.createTempDirectory("benchmark-metadata-snapshot").toFile();
+        configuration = createConfiguration().getBytes(StandardCharsets.UTF_8);
+        startUp();
+    }
+    
+    private void initStorageUnit(final int storageUnitIndex) throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(String.format(STORAGE_UNIT_URL, storageUnitIndex), "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (int i = 0; i < tableCountPerStorageUnit; i++) {
+                statement.execute(String.format("CREATE TABLE t_order_%d (order_id BIGINT NOT NULL, user_id INT NOT NULL, merchant_id INT NOT NULL, status VARCHAR(32))", i));
+                statement.execute(String.format("CREATE TABLE t_order_item_%d (item_id BIGINT NOT NULL, order_id BIGINT NOT NULL, user_id INT NOT NULL, quantity INT)", i));
+            }
+        }
+    }
+    
+    private String createConfiguration() {
+        StringBuilder result = new StringBuilder("databaseName: benchmark_metadata_db\n").append("dataSources:\n");
+        for (int i = 0; i < STORAGE_UNIT_COUNT; i++) {
+            result.append(String.format("  ds_%d:\n", i))
+                    .append("    dataSourceClassName: com.zaxxer.hikari.HikariDataSource\n")
+                    .append("    driverClassName: org.h2.Driver\n")
+                    .append(String.format("    jdbcUrl: %s\n", String.format(STORAGE_UNIT_URL, i)))
+                    .append("    username: sa\n")
+                    .append("    password:\n");
+        }
+        int maxTableIndex = tableCountPerStorageUnit - 1;
+        result.append("rules:\n").append("  - !SHARDING\n").append("    tables:\n")
+                .append(String.format("      t_order:\n        actualDataNodes: ds_${0..1}.t_order_${0..%d}\n", maxTableIndex))
+                .append(String.format("      t_order_item:\n        actualDataNodes: ds_${0..1}.t_order_item_${0..%d}\n", maxTableIndex))
+                .append("props:\n")
+                .append(String.format("  check-table-metadata-enabled: %s\n", "CHECK_ALL".equals(loadingMode)));
+        if ("SNAPSHOT".equals(loadingMode)) {
+            result.append(String.format("  table-metadata-snapshot-path: %s\n", snapshotPath.getAbsolutePath()));
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws IOException IO exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        File[] snapshotFiles = snapshotPath.listFiles();
+        if (null != snapshotFiles) {
+            for (File each : snapshotFiles) {
+                Files.deleteIfExists(each.toPath());
+            }
+        }
+        Files.deleteIfExists(snapshotPath.toPath());
+    }
+    
+    /**
+     * Benchmark start up, snapshot mode starts from the snapshot persisted by set up.
+     *
+     * @throws Exception exception
+     */
+    @Benchmark
+    public void startUp() throws Exception {
+        DataSource dataSource = YamlShardingSphereDataSourceFactory.createDataSource(configuration);
+        ((AutoCloseable) dataSource).close();
+    }
+}
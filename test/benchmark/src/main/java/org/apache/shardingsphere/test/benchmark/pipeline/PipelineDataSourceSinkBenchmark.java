@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
+import org.apache.shardingsphere.data.pipeline.common.config.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.common.datasource.DefaultPipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineDataSourceSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of pipeline data source sink writing update records into embedded H2 target.
+ * 
+ * <p>Records updating the same columns are executed in one batch, records updating alternate columns are executed one by one.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineDataSourceSinkBenchmark {
+    
+    private static final String URL = "jdbc:h2:mem:benchmark_pipeline_sink;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private static final String TABLE_NAME = "t_sink";
+    
+    @Param("1000")
+    private int recordCount;
+    
+    @Param({"true", "false"})
+    private boolean sameUpdatedColumns;
+    
+    private PipelineDataSourceManager dataSourceManager;
+    
+    private PipelineDataSourceSink sink;
+    
+    private int round;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        createTargetTable();
+        dataSourceManager = new DefaultPipelineDataSourceManager();
+        ImporterConfiguration importerConfig = new ImporterConfiguration(new StandardPipelineDataSourceConfiguration(URL, "sa", ""),
+                Collections.singletonMap(new LogicTableName(TABLE_NAME), Collections.singleton("id")), new TableNameSchemaNameMapping(Collections.emptyMap()), recordCount, null, 0, 1);
+        sink = new PipelineDataSourceSink(importerConfig, dataSourceManager);
+    }
+    
+    private void createTargetTable() throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute(String.format("DROP TABLE IF EXISTS %s", TABLE_NAME));
+            statement.execute(String.format("CREATE TABLE %s (id INT PRIMARY KEY, user_id INT, status VARCHAR(32))", TABLE_NAME));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (id, user_id, status) VALUES (?, ?, ?)", TABLE_NAME))) {
+                for (int i = 1; i <= recordCount; i++) {
+                    preparedStatement.setInt(1, i);
+                    preparedStatement.setInt(2, i);
+                    preparedStatement.setString(3, "INIT");
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sink.close();
+        dataSourceManager.close();
+    }
+    
+    /**
+     * Benchmark writing update records.
+     */
+    @Benchmark
+    public void writeUpdateRecords() {
+        round++;
+        List<Record> records = new ArrayList<>(recordCount);
+        for (int i = 1; i <= recordCount; i++) {
+            records.add(createUpdateRecord(i));
+        }
+        sink.write("", records);
+    }
+    
+    private DataRecord createUpdateRecord(final int id) {
+        DataRecord result = new DataRecord(IngestDataChangeType.UPDATE, TABLE_NAME, new PlaceholderPosition(), 3);
+        result.addColumn(new Column("id", id, id, false, true));
+        boolean userIdUpdated = sameUpdatedColumns || 0 == id % 2;
+        result.addColumn(new Column("user_id", id, id + round, userIdUpdated, false));
+        result.addColumn(new Column("status", "INIT", "ROUND_" + round, sameUpdatedColumns || !userIdUpdated, false));
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark of connection thread executor group, compares platform thread with virtual thread on different connection counts.
+ * 
+ * <p>Every connection runs one task which blocks for a while to simulate waiting for backend database, virtual thread falls back to platform thread on JDK without virtual thread.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionThreadExecutorGroupBenchmark {
+    
+    private static final int CONNECTION_ID_OFFSET = 100000;
+    
+    @Param({"100", "1000", "4000"})
+    private int connectionCount;
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    @Param("200")
+    private long blockingMicros;
+    
+    private final ConnectionThreadExecutorGroup executorGroup = ConnectionThreadExecutorGroup.getInstance();
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < connectionCount; i++) {
+            executorGroup.register(CONNECTION_ID_OFFSET + i, virtualThreadEnabled);
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < connectionCount; i++) {
+            executorGroup.unregisterAndAwaitTermination(CONNECTION_ID_OFFSET + i);
+        }
+    }
+    
+    /**
+     * Benchmark one round of commands on all connections.
+     *
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     */
+    @Benchmark
+    public void executeCommands() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            futures.add(executorGroup.get(CONNECTION_ID_OFFSET + i).submit(() -> LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(blockingMicros))));
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowsPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowsPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of encoding text result set rows of proxy frontend, compares row packets with rows encoded into batch buffers directly.
+ *
+ * <p>Each invocation encodes all rows of result set, encoded bytes per second are reported by auxiliary counter {@code bytes},
+ * run with {@code -prof gc} and divide {@code gc.alloc.rate.norm} by row count to get allocation per row.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowEncodingBenchmark {
+    
+    private static final int[] COLUMN_TYPES = {Types.BIGINT, Types.VARCHAR, Types.DECIMAL, Types.TIMESTAMP, Types.INTEGER, Types.VARCHAR};
+    
+    private static final String[] COLUMN_TYPE_NAMES = {"BIGINT", "VARCHAR", "DECIMAL", "TIMESTAMP", "INT", "VARCHAR"};
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String protocol;
+    
+    @Param({"10000", "100000"})
+    private int rowCount;
+    
+    @Param("128")
+    private int flushThreshold;
+    
+    private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    
+    private Object[][] rows;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = new Object[rowCount][];
+        long createTime = Timestamp.valueOf("2023-10-01 00:00:00").getTime();
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new Object[]{(long) i, "user_name_" + i, BigDecimal.valueOf(i * 7L, 2), new Timestamp(createTime + i * 1000L), i % 10, "status_" + i % 3};
+        }
+    }
+    
+    /**
+     * Benchmark encoding rows with one row packet per row.
+     *
+     * @param counters encoded bytes counters
+     */
+    @Benchmark
+    public void encodeRowPackets(final EncodedBytesCounters counters) {
+        boolean isMySQL = "MySQL".equals(protocol);
+        for (Object[] each : rows) {
+            ByteBuf out = allocator.ioBuffer();
+            if (isMySQL) {
+                out.writeInt(0);
+                new MySQLTextResultSetRowPacket(createQueryResponseRow(each).getData()).write(new MySQLPacketPayload(out, StandardCharsets.UTF_8));
+                out.setMediumLE(0, out.readableBytes() - 4);
+            } else {
+                out.writeByte(PostgreSQLMessagePacketType.DATA_ROW.getValue());
+                out.writeInt(0);
+                new PostgreSQLDataRowPacket(createQueryResponseRow(each).getData()).write(new PostgreSQLPacketPayload(out, StandardCharsets.UTF_8));
+                out.setInt(1, out.readableBytes() - 1);
+            }
+            counters.add(out.readableBytes());
+            out.release();
+        }
+    }
+    
+    private QueryResponseRow createQueryResponseRow(final Object[] row) {
+        List<QueryResponseCell> cells = new ArrayList<>(row.length);
+        for (int i = 0; i < row.length; i++) {
+            cells.add(new QueryResponseCell(COLUMN_TYPES[i], row[i], COLUMN_TYPE_NAMES[i]));
+        }
+        return new QueryResponseRow(cells);
+    }
+    
+    /**
+     * Benchmark encoding rows into batch buffers directly.
+     *
+     * @param counters encoded bytes counters
+     */
+    @Benchmark
+    public void encodeRows(final EncodedBytesCounters counters) {
+        if ("MySQL".equals(protocol)) {
+            encodeMySQLRows(counters);
+        } else {
+            encodePostgreSQLRows(counters);
+        }
+    }
+    
+    private void encodeMySQLRows(final EncodedBytesCounters counters) {
+        for (int start = 0; start < rowCount; start += flushThreshold) {
+            MySQLTextResultSetRowsPacket rowsPacket = new MySQLTextResultSetRowsPacket(allocator.ioBuffer(), StandardCharsets.UTF_8);
+            for (int rowIndex = start; rowIndex < Math.min(start + flushThreshold, rowCount); rowIndex++) {
+                rowsPacket.startRow();
+                for (Object each : rows[rowIndex]) {
+                    rowsPacket.writeValue(each);
+                }
+                rowsPacket.endRow();
+            }
+            counters.add(rowsPacket.getReadableBytes());
+            rowsPacket.getByteBuf().release();
+        }
+    }
+    
+    private void encodePostgreSQLRows(final EncodedBytesCounters counters) {
+        for (int start = 0; start < rowCount; start += flushThreshold) {
+            PostgreSQLDataRowsPacket rowsPacket = new PostgreSQLDataRowsPacket(allocator.ioBuffer(), StandardCharsets.UTF_8);
+            for (int rowIndex = start; rowIndex < Math.min(start + flushThreshold, rowCount); rowIndex++) {
+                rowsPacket.startRow();
+                for (Object each : rows[rowIndex]) {
+                    rowsPacket.writeValue(each);
+                }
+                rowsPacket.endRow();
+            }
+            counters.add(rowsPacket.getReadableBytes());
+            rowsPacket.getByteBuf().release();
+        }
+    }
+    
+    /**
+     * Encoded bytes counters.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class EncodedBytesCounters {
+        
+        private long bytes;
+        
+        /**
+         * Reset counters.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0L;
+        }
+        
+        /**
+         * Get encoded bytes, which is reported as auxiliary counter.
+         *
+         * @return encoded bytes
+         */
+        public long bytes() {
+            return bytes;
+        }
+        
+        void add(final int encodedBytes) {
+            bytes += encodedBytes;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark of inline sharding algorithm.
+ * 
+ * <p>Expression {@code t_order_${order_id % 16}} is evaluated by compiled evaluator,
+ * expression {@code t_order_${(order_id % 16).abs()}} falls back to Groovy closure.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class InlineShardingAlgorithmBenchmark {
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 2, '0');
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${(order_id % 16).abs()}"})
+    private String algorithmExpression;
+    
+    private StandardShardingAlgorithm<Comparable<?>> shardingAlgorithm;
+    
+    private Collection<String> availableTargetNames;
+    
+    /**
+     * Set up.
+     */
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        shardingAlgorithm = (StandardShardingAlgorithm<Comparable<?>>) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE", props);
+        availableTargetNames = IntStream.range(0, 16).mapToObj(each -> "t_order_" + each).collect(Collectors.toList());
+    }
+    
+    /**
+     * Benchmark of precise sharding.
+     *
+     * @return target name
+     */
+    @Benchmark
+    public String doSharding() {
+        return shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, ThreadLocalRandom.current().nextInt(1000000)));
+    }
+}
@@ -46,6 +46,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -57,6 +58,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -145,6 +147,28 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertBatchUpdateDataRecords() throws SQLException {
+        DataRecord secondUpdateRecord = new DataRecord(IngestDataChangeType.UPDATE, TABLE_NAME, new PlaceholderPosition(), 3);
+        secondUpdateRecord.addColumn(new Column("id", 2, 2, false, true));
+        secondUpdateRecord.addColumn(new Column("user", 30, 40, true, false));
+        secondUpdateRecord.addColumn(new Column("status", null, "UPDATE", true, false));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyLong(), any())).thenReturn(Arrays.asList(getDataRecord("UPDATE"), secondUpdateRecord, new FinishedRecord(new FinishedPosition())));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        importer.run();
+        InOrder inOrder = inOrder(preparedStatement);
+        inOrder.verify(preparedStatement).setObject(1, 20);
+        inOrder.verify(preparedStatement).setObject(3, 1);
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).setObject(1, 40);
+        inOrder.verify(preparedStatement).setObject(3, 2);
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement, never()).executeUpdate();
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(IngestDataChangeType.UPDATE, TABLE_NAME, new PlaceholderPosition(), 3);
         result.addColumn(new Column("id", 1, 2, true, true));